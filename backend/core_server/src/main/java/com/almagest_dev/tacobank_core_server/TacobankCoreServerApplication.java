@@ -4,6 +4,7 @@ import jakarta.annotation.PostConstruct;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.web.client.RestTemplate;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
@@ -24,6 +25,7 @@ public class TacobankCoreServerApplication {
 	}
 
 	@Bean
+	@Primary // 기본 RestTemplate (Naver API) - 테스트베드는 testbedRestTemplate 사용
 	public RestTemplate restTemplate() {
 		return new RestTemplate();
 	}
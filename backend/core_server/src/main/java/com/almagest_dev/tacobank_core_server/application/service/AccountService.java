@@ -13,9 +13,7 @@ import com.almagest_dev.tacobank_core_server.domain.account.repository.AccountRe
 import com.almagest_dev.tacobank_core_server.domain.transfer.model.Transfer;
 import com.almagest_dev.tacobank_core_server.domain.transfer.repository.TransferRepository;
 
-import com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.client.TestbedApiClient;
 import com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.dto.AccountInfoDto;
-import com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.dto.IntegrateAccountApiRequestDto;
 import com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.dto.IntegrateAccountApiResponseDto;
 import com.almagest_dev.tacobank_core_server.presentation.dto.account.Account2Dto;
 import com.almagest_dev.tacobank_core_server.presentation.dto.account.AccountDto;
@@ -24,13 +22,18 @@ import com.almagest_dev.tacobank_core_server.presentation.dto.home.AccountRespon
 import com.almagest_dev.tacobank_core_server.presentation.dto.transfer.TransferOptionsResponseDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -46,7 +49,11 @@ public class AccountService {
     private final FriendRepository friendRepository;
 
     private final OrgCodeService orgCodeService;
-    private final TestbedApiClient testbedApiClient;
+    private final AccountSyncService accountSyncService;
+    private final HomeSnapshotCache homeSnapshotCache;
+    private final TransferOptionsCache transferOptionsCache;
+    @Qualifier("testbedCallbackExecutor")
+    private final Executor testbedCallbackExecutor;
 
     /**
      * 사용자 계좌 조회
@@ -57,31 +64,40 @@ public class AccountService {
         Member member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new IllegalArgumentException("멤버를 찾을 수 없습니다."));
 
-        String userFinanceId = member.getUserFinanceId();
-        String userName = member.getName();
-        IntegrateAccountApiResponseDto accountResponseDto;
-
-        if (userFinanceId == null || userFinanceId.isEmpty()) {
-            // 최초 요청 - memberId 기반으로 계좌 조회
-            accountResponseDto = fetchAccountsFromApi(member.getId().toString(), userName);
-            member.setUserFinanceId(accountResponseDto.getUserFinanceId());
-            memberRepository.save(member);
-        } else {
-            // 이후 요청 - userFinanceId 기반으로 계좌 조회
-            accountResponseDto = fetchAccountsFromApi(userFinanceId, userName);
-        }
-
-        // 계좌 정보 저장 (최초 요청 시)
-        if (accountRepository.countByMember(member) == 0) {
-            saveAccounts(accountResponseDto.getResList(), member);
-        }
+        // 계좌 목록 조회 + 계좌 정보 동기화 (추가/변경/비활성화된 계좌만 반영)
+        IntegrateAccountApiResponseDto accountResponseDto = accountSyncService.fetchAndSync(member);
 
         // 계좌 정보 리스트 응답 생성
+        return mapToAccountResponseDtos(member.getId(), accountResponseDto);
+    }
+
+    /**
+     * 사용자 계좌 조회 (비동기)
+     *  - 테스트베드 응답 대기 중 요청 Thread 를 점유하지 않음
+     *  - 응답 이후 계좌 동기화/매핑은 testbedCallbackExecutor 에서 수행
+     */
+    public CompletableFuture<List<AccountResponseDto>> getUserAccountsOnlyAsync(Long memberId) {
+        // 멤버 조회
+        Member member = memberRepository.findById(memberId)
+                .orElseThrow(() -> new IllegalArgumentException("멤버를 찾을 수 없습니다."));
+
+        // 계좌 목록 조회 + 계좌 정보 동기화 (추가/변경/비활성화된 계좌만 반영)
+        return accountSyncService.fetchAndSyncAsync(member)
+                .thenApplyAsync(accountResponseDto -> mapToAccountResponseDtos(member.getId(), accountResponseDto), testbedCallbackExecutor);
+    }
+
+    /**
+     * 계좌 정보 리스트 응답 생성
+     */
+    private List<AccountResponseDto> mapToAccountResponseDtos(Long memberId, IntegrateAccountApiResponseDto accountResponseDto) {
+        // 계좌 ID 일괄 조회 (계좌별 조회 X)
+        Map<String, Account> accountsByAccountNum = findAccountsByAccountNum(memberId, accountResponseDto.getResList());
+
         return accountResponseDto.getResList().stream()
                 .map(accountInfo -> {
                     AccountResponseDto accountDto = new AccountResponseDto();
-                    accountDto.setAccountId(accountRepository.findByAccountNum(accountInfo.getAccountNum())
-                            .map(Account::getId).orElse(null));
+                    Account account = accountsByAccountNum.get(accountInfo.getAccountNum());
+                    accountDto.setAccountId(account != null ? account.getId() : null);
                     accountDto.setAccountName(accountInfo.getProductName());
                     accountDto.setBalance(Double.parseDouble(accountInfo.getBalanceAmt()));
                     accountDto.setBankCode(accountInfo.getBankCodeStd());
@@ -94,32 +110,20 @@ public class AccountService {
                 .collect(Collectors.toList());
     }
 
-    private IntegrateAccountApiResponseDto fetchAccountsFromApi(String userFinanceId, String userName) {
-        IntegrateAccountApiRequestDto requestDto = new IntegrateAccountApiRequestDto();
-        requestDto.setUserFinanceId(userFinanceId);
-        requestDto.setUserName(userName);
-        requestDto.setInquiryBankType("A");
-
-        return testbedApiClient.requestApi(requestDto, "/openbank/accounts", IntegrateAccountApiResponseDto.class);
-    }
-
-    private void saveAccounts(List<AccountInfoDto> accountInfoList, Member member) {
-        List<Account> accounts = accountInfoList.stream().map(accountInfo -> {
-            Account account = new Account();
-            account.saveMember(member);
-            account.saveAccountNum(accountInfo.getAccountNum());
-            account.saveAccountHolderName(accountInfo.getAccountHolder());
-            account.saveBankCode(accountInfo.getBankCodeStd());
-            account.saveFintechUseNum(accountInfo.getFintechUseNum());
-            account.saveAccountName(accountInfo.getProductName());
-            account.saveVerified();
-            return account;
-        }).collect(Collectors.toList());
-        accountRepository.saveAll(accounts);
+    /**
+     * 테스트베드 계좌 목록의 계좌번호로 저장된 계좌 일괄 조회 (accountNum -> Account)
+     *  - 같은 계좌번호가 여러 건이면 본인 인증된 계좌 우선
+     */
+    private Map<String, Account> findAccountsByAccountNum(Long memberId, List<AccountInfoDto> accountInfoList) {
+        List<String> accountNums = accountInfoList.stream().map(AccountInfoDto::getAccountNum).filter(Objects::nonNull).distinct().toList();
+        if (accountNums.isEmpty()) {
+            return Map.of();
+        }
+        return accountRepository.findByMember_IdAndAccountNumIn(memberId, accountNums).stream()
+                .collect(Collectors.toMap(Account::getAccountNum, Function.identity(),
+                        (first, second) -> "Y".equals(second.getVerified()) && !"Y".equals(first.getVerified()) ? second : first));
     }
 
-
-
     /**
      * 메인 계좌 설정
      */
@@ -138,6 +142,10 @@ public class AccountService {
         mainAccount.saveMember(member);
         mainAccount.saveAccount(account);
         mainAccountRepository.save(mainAccount);
+
+        // 홈 화면 Snapshot, 친구들의 송금 대상 캐시 삭제 (메인 계좌 변경)
+        homeSnapshotCache.invalidate(member.getId());
+        invalidateFriendsTransferOptions(member.getId());
     }
 
     /**
@@ -156,13 +164,31 @@ public class AccountService {
         // 기존 엔티티 업데이트
         mainAccount.saveAccount(account);
         mainAccountRepository.save(mainAccount);
+
+        // 홈 화면 Snapshot, 친구들의 송금 대상 캐시 삭제 (메인 계좌 변경)
+        homeSnapshotCache.invalidate(requestDto.getMemberId());
+        invalidateFriendsTransferOptions(requestDto.getMemberId());
+    }
+
+    /**
+     * 나를 친구로 둔 회원들의 송금 대상(친구 메인 계좌) 캐시 삭제 (메인 계좌 등록/변경 시)
+     */
+    public void invalidateFriendsTransferOptions(Long memberId) {
+        Long[] requesterIds = friendRepository.findByReceiverIdAndStatus(memberId, "ACC").stream()
+                .map(Friend::getRequesterId)
+                .toArray(Long[]::new);
+        transferOptionsCache.invalidate(requesterIds);
     }
 
 
     /**
-     * 즐겨찾기, 최근 이체, 친구 메인 계좌 조회
+     * 즐겨찾기, 최근 이체, 친구 메인 계좌 조회 (캐시 우선)
      */
     public TransferOptionsResponseDto getTransferOptions(Long memberId) {
+        return transferOptionsCache.getOrLoad(memberId, () -> loadTransferOptions(memberId));
+    }
+
+    private TransferOptionsResponseDto loadTransferOptions(Long memberId) {
         Member member = memberRepository.findByIdAndDeleted(memberId, "N")
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다."));
 
@@ -187,26 +213,8 @@ public class AccountService {
                 ))
                 .toList();
 
-        // 친구 메인 계좌 (모두 조회)
-        List<Friend> friends = friendRepository.findByRequesterIdAndStatus(memberId, "ACC");
-        List<Account2Dto> friendsAccountDtos = new ArrayList<>();
-        for (Friend friend : friends) {
-            Long friendId = friend.getReceiverId();
-            // Get Main Account
-            mainAccountRepository.findByMemberId(friendId) // 친구의 메인 계좌 조회
-                    .ifPresent(mainAccount -> {
-                        Long accountId = mainAccount.getAccount().getId();
-                        accountRepository.findById(accountId) // 계좌 정보 조회
-                                .ifPresent(account -> {
-                                    friendsAccountDtos.add(new Account2Dto( // DTO에 매핑
-                                            account.getAccountHolderName(),
-                                            account.getAccountNum(),
-                                            account.getBankCode()
-                                    ));
-                                });
-                    });
-
-        }
+        // 친구 메인 계좌 (모두 조회, 친구 -> 메인 계좌 -> 계좌 한 번에 조회)
+        List<Account2Dto> friendsAccountDtos = mainAccountRepository.findFriendMainAccounts(memberId, "ACC");
 
         return new TransferOptionsResponseDto(favoriteAccountDtos, recentAccountDtos, friendsAccountDtos);
     }
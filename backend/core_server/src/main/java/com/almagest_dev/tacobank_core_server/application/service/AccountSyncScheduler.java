@@ -0,0 +1,123 @@
+package com.almagest_dev.tacobank_core_server.application.service;
+
+import com.almagest_dev.tacobank_core_server.common.constants.RedisKeyConstants;
+import com.almagest_dev.tacobank_core_server.common.utils.RedisLockUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 계좌 백그라운드 갱신
+ *  - 최근 account.sync.refresh.active-window 안에 활동한 멤버의 계좌 목록을 주기적으로 재조회 + 동기화
+ *  - 응답 캐시(testbed.cache.accounts-ttl)가 만료되기 전에 갱신하여 요청 시점에 테스트베드를 호출하지 않도록 함
+ *  - 여러 서버 중 1대만 실행 (Redis 잠금), 동시 갱신 수 제한 (account.sync.refresh.concurrency)
+ *  - 갱신 완료(최대 fixed-delay)까지 스케줄러 Thread 를 점유 - 다른 @Scheduled 작업은 spring.task.scheduling.pool.size 로 분리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccountSyncScheduler {
+    private final AccountSyncService accountSyncService;
+    private final RedisLockUtil redisLockUtil;
+
+    @Value("${account.sync.refresh.enabled:true}")
+    private boolean enabled;
+    @Value("${account.sync.refresh.active-window:30m}")
+    private Duration activeWindow;
+    @Value("${account.sync.refresh.batch-size:100}")
+    private int batchSize;
+    @Value("${account.sync.refresh.concurrency:4}")
+    private int concurrency;
+    @Value("${account.sync.refresh.fixed-delay:25s}")
+    private Duration fixedDelay;
+
+    @Scheduled(fixedDelayString = "${account.sync.refresh.fixed-delay:25s}", initialDelayString = "${account.sync.refresh.fixed-delay:25s}")
+    public void refreshActiveMembers() {
+        if (!enabled) {
+            return;
+        }
+        String owner = UUID.randomUUID().toString();
+        if (!redisLockUtil.tryLock(RedisKeyConstants.ACCOUNT_SYNC_REFRESH_LOCK, owner, fixedDelay)) {
+            return; // 다른 서버에서 실행 중
+        }
+        try {
+            List<Long> memberIds = accountSyncService.findRecentlyActiveMemberIds(activeWindow, batchSize);
+            if (!memberIds.isEmpty()) {
+                refresh(memberIds);
+            }
+        } finally {
+            redisLockUtil.unlock(RedisKeyConstants.ACCOUNT_SYNC_REFRESH_LOCK, owner);
+        }
+    }
+
+    /**
+     * 멤버별 갱신 - 동시 갱신 수 제한, 잠금 유지 시간 안에 끝나지 않으면 대기 중단
+     */
+    private void refresh(List<Long> memberIds) {
+        long startedAt = System.currentTimeMillis();
+        Semaphore permits = new Semaphore(Math.max(1, concurrency));
+        AtomicInteger changed = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+
+        List<CompletableFuture<?>> futures = new ArrayList<>();
+        for (Long memberId : memberIds) {
+            if (!acquire(permits, startedAt)) {
+                log.warn("AccountSyncScheduler::refresh 갱신 대기 시간 초과 - 대상: {}, 요청: {}", memberIds.size(), futures.size());
+                break;
+            }
+            CompletableFuture<AccountSyncService.SyncResult> future;
+            try {
+                future = accountSyncService.refreshAsync(memberId);
+            } catch (Exception e) {
+                future = CompletableFuture.failedFuture(e);
+            }
+            futures.add(future.whenComplete((result, ex) -> {
+                permits.release();
+                if (ex != null) {
+                    failed.incrementAndGet();
+                    log.warn("AccountSyncScheduler::refresh 계좌 갱신 실패 - memberId: {}, Error: {}", memberId, ex.getMessage());
+                } else if (result.isChanged()) {
+                    changed.incrementAndGet();
+                }
+            }));
+        }
+
+        try {
+            long remaining = Math.max(0, fixedDelay.toMillis() - (System.currentTimeMillis() - startedAt));
+            CompletableFuture.allOf(futures.toArray(CompletableFuture<?>[]::new)).get(remaining, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("AccountSyncScheduler::refresh 갱신 대기 시간 초과 - 대상: {}", memberIds.size());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            // 멤버별 실패는 whenComplete 에서 기록
+        }
+        log.info("AccountSyncScheduler::refresh 계좌 갱신 완료 - 대상: {}, 변경: {}, 실패: {}, 소요: {}ms",
+                memberIds.size(), changed.get(), failed.get(), System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 동시 갱신 허용 대기 (잠금 유지 시간 안에서만)
+     */
+    private boolean acquire(Semaphore permits, long startedAt) {
+        long remaining = fixedDelay.toMillis() - (System.currentTimeMillis() - startedAt);
+        try {
+            return remaining > 0 && permits.tryAcquire(remaining, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,389 @@
+package com.almagest_dev.tacobank_core_server.application.service;
+
+import com.almagest_dev.tacobank_core_server.common.constants.RedisKeyConstants;
+import com.almagest_dev.tacobank_core_server.common.utils.RedisLockUtil;
+import com.almagest_dev.tacobank_core_server.domain.account.model.Account;
+import com.almagest_dev.tacobank_core_server.domain.account.repository.AccountRepository;
+import com.almagest_dev.tacobank_core_server.domain.member.model.Member;
+import com.almagest_dev.tacobank_core_server.domain.member.repository.MemberRepository;
+import com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.client.TestbedApiClient;
+import com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.client.TestbedResponseCache;
+import com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.dto.AccountInfoDto;
+import com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.dto.IntegrateAccountApiRequestDto;
+import com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.dto.IntegrateAccountApiResponseDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 테스트베드 계좌 조회 + Account 동기화
+ *  - 계좌 목록 조회(/openbank/accounts): 응답 캐시(TestbedResponseCache) + 동일 요청 병합
+ *  - 최근 활동 멤버를 Redis Sorted Set 에 기록 (AccountSyncScheduler 백그라운드 갱신 대상)
+ *  - fintechUseNum 기준으로 저장된 계좌와 비교하여 추가/변경/비활성화(verified = 'N')만 반영
+ *  - 추가/변경은 saveAll (변경은 JDBC 일괄 UPDATE, 추가는 IDENTITY 키라 건별 INSERT), 비활성화는 단일 UPDATE 로 일괄 처리
+ *  - 멤버별 마지막 동기화 결과(계좌 목록 fingerprint)를 Redis 에 기록, 변경이 없으면 DB 작업 생략
+ *  - 같은 멤버의 동시 동기화는 Redis 잠금으로 방지 (잠금 실패 시 이번 요청은 동기화 생략)
+ *  - 메트릭: account.sync{result=unchanged|applied|locked}
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AccountSyncService {
+    private final AccountRepository accountRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisLockUtil redisLockUtil;
+    private final MeterRegistry meterRegistry;
+    private final HomeSnapshotCache homeSnapshotCache;
+    private final MemberRepository memberRepository;
+    private final TestbedApiClient testbedApiClient;
+    private final TestbedResponseCache testbedResponseCache;
+    private final TransactionTemplate transactionTemplate;
+    @Qualifier("testbedCallbackExecutor")
+    private final Executor testbedCallbackExecutor;
+
+    @Value("${account.sync.watermark-ttl:1h}")
+    private Duration watermarkTtl;
+    @Value("${account.sync.lock-ttl:10s}")
+    private Duration lockTtl;
+
+    /**
+     * 계좌 목록 조회 + 동기화 (호출 트랜잭션에 참여)
+     *  - 최초 요청: memberId 기반으로 조회 후 userFinanceId 저장, 마이데이터 연동 처리
+     */
+    @Transactional
+    public IntegrateAccountApiResponseDto fetchAndSync(Member member) {
+        recordActivity(member.getId());
+        boolean firstRequest = isFirstRequest(member);
+
+        IntegrateAccountApiResponseDto accountResponseDto = fetchAccounts(requestUserFinanceId(member), member.getName());
+        applyAccounts(member, firstRequest, accountResponseDto);
+        return accountResponseDto;
+    }
+
+    /**
+     * 계좌 목록 비동기 조회 + 동기화
+     *  - 테스트베드 응답 대기 중 Thread 를 점유하지 않음
+     *  - 응답 이후 DB 저장은 testbedCallbackExecutor 에서 트랜잭션으로 수행
+     */
+    public CompletableFuture<IntegrateAccountApiResponseDto> fetchAndSyncAsync(Member member) {
+        recordActivity(member.getId());
+        boolean firstRequest = isFirstRequest(member);
+
+        return fetchAccountsAsync(requestUserFinanceId(member), member.getName())
+                .thenApplyAsync(accountResponseDto -> transactionTemplate.execute(status -> {
+                    applyAccounts(member, firstRequest, accountResponseDto);
+                    return accountResponseDto;
+                }), testbedCallbackExecutor);
+    }
+
+    /**
+     * 백그라운드 갱신 - 캐시를 거치지 않고 조회하여 응답 캐시 갱신 + 동기화
+     *  - 계좌 연동 전 멤버(userFinanceId 없음)는 제외
+     */
+    public CompletableFuture<SyncResult> refreshAsync(Long memberId) {
+        Member member = memberRepository.findByIdAndDeleted(memberId, "N").orElse(null);
+        if (member == null || isFirstRequest(member)) {
+            return CompletableFuture.completedFuture(SyncResult.UNCHANGED);
+        }
+
+        String userFinanceId = member.getUserFinanceId();
+        IntegrateAccountApiRequestDto requestDto = createAccountsRequest(userFinanceId, member.getName());
+        return testbedResponseCache.refreshAccountsAsync(userFinanceId,
+                        () -> testbedApiClient.requestApiSharedAsync(requestDto, "/openbank/accounts", IntegrateAccountApiResponseDto.class, userFinanceId))
+                .thenApplyAsync(accountResponseDto -> {
+                    if (accountResponseDto == null || !"A0000".equals(accountResponseDto.getRspCode())) {
+                        return SyncResult.UNCHANGED; // 조회 실패 - 다음 주기에 재시도
+                    }
+                    return transactionTemplate.execute(status -> sync(member, accountResponseDto.getResList()));
+                }, testbedCallbackExecutor);
+    }
+
+    /**
+     * 최근 활동 멤버 조회 (최근 활동 순)
+     * @param activeWithin 최근 활동 기준 시간 (이전 활동 기록은 삭제)
+     */
+    public List<Long> findRecentlyActiveMemberIds(Duration activeWithin, int limit) {
+        long since = System.currentTimeMillis() - activeWithin.toMillis();
+        try {
+            redisTemplate.opsForZSet().removeRangeByScore(RedisKeyConstants.ACCOUNT_SYNC_ACTIVE_MEMBERS, 0, since);
+            Set<String> memberIds = redisTemplate.opsForZSet().reverseRangeByScore(RedisKeyConstants.ACCOUNT_SYNC_ACTIVE_MEMBERS, since, Double.MAX_VALUE, 0, limit);
+            return memberIds == null ? List.of() : memberIds.stream().map(Long::valueOf).toList();
+        } catch (Exception e) {
+            log.warn("AccountSyncService::findRecentlyActiveMemberIds 최근 활동 멤버 조회 실패 - Error: {}", e.getMessage());
+            return List.of();
+        }
+    }
+
+    /**
+     * 계좌 동기화 (호출 트랜잭션에 참여)
+     * @param accountInfoList 테스트베드 계좌 목록 (resList)
+     */
+    @Transactional
+    public SyncResult sync(Member member, List<AccountInfoDto> accountInfoList) {
+        if (accountInfoList == null) { // 조회 실패 응답 - 저장된 계좌를 비활성화하지 않음
+            return SyncResult.UNCHANGED;
+        }
+        List<AccountInfoDto> remoteAccounts = accountInfoList.stream()
+                .filter(accountInfo -> accountInfo.getFintechUseNum() != null)
+                .toList();
+        String watermarkKey = RedisKeyConstants.ACCOUNT_SYNC_WATERMARK_PREFIX + member.getId();
+        String fingerprint = fingerprint(remoteAccounts);
+
+        // 마지막 동기화 이후 변경 없음 - DB 작업 생략
+        if (fingerprint.equals(getWatermark(watermarkKey))) {
+            record("unchanged");
+            return SyncResult.UNCHANGED;
+        }
+
+        String lockKey = RedisKeyConstants.ACCOUNT_SYNC_LOCK_PREFIX + member.getId();
+        String owner = UUID.randomUUID().toString();
+        if (!redisLockUtil.tryLock(lockKey, owner, lockTtl)) {
+            log.info("AccountSyncService::sync 다른 요청에서 동기화 중 - memberId: {}", member.getId());
+            record("locked");
+            return SyncResult.UNCHANGED;
+        }
+
+        try {
+            SyncResult result = apply(member, remoteAccounts);
+            log.info("AccountSyncService::sync 계좌 동기화 - memberId: {}, 추가: {}, 변경: {}, 비활성화: {}",
+                    member.getId(), result.inserted(), result.updated(), result.deactivated());
+            record("applied");
+
+            // 커밋 이후 watermark 기록 (롤백 시 다음 요청에서 다시 동기화) + 계좌 변경 시 홈 화면 Snapshot 삭제
+            runAfterCommit(() -> {
+                putWatermark(watermarkKey, fingerprint);
+                if (result.isChanged()) {
+                    homeSnapshotCache.invalidate(member.getId());
+                }
+            });
+            return result;
+        } finally {
+            runAfterCompletion(() -> redisLockUtil.unlock(lockKey, owner));
+        }
+    }
+
+    /**
+     * 멤버 watermark 삭제 (다음 요청에서 동기화 수행)
+     */
+    public void invalidate(Long memberId) {
+        try {
+            redisTemplate.delete(RedisKeyConstants.ACCOUNT_SYNC_WATERMARK_PREFIX + memberId);
+        } catch (Exception e) {
+            log.warn("AccountSyncService::invalidate watermark 삭제 실패 - memberId: {}, Error: {}", memberId, e.getMessage());
+        }
+    }
+
+    /**
+     * 테스트베드 요청: 오픈뱅킹 계좌 연동(조회) - 캐시 우선
+     */
+    private IntegrateAccountApiResponseDto fetchAccounts(String userFinanceId, String userName) {
+        IntegrateAccountApiRequestDto requestDto = createAccountsRequest(userFinanceId, userName);
+        return testbedResponseCache.getAccounts(userFinanceId,
+                () -> testbedApiClient.requestApiShared(requestDto, "/openbank/accounts", IntegrateAccountApiResponseDto.class, userFinanceId));
+    }
+
+    /**
+     * 테스트베드 비동기 요청: 오픈뱅킹 계좌 연동(조회) - 캐시 우선
+     */
+    private CompletableFuture<IntegrateAccountApiResponseDto> fetchAccountsAsync(String userFinanceId, String userName) {
+        IntegrateAccountApiRequestDto requestDto = createAccountsRequest(userFinanceId, userName);
+        return testbedResponseCache.getAccountsAsync(userFinanceId,
+                () -> testbedApiClient.requestApiSharedAsync(requestDto, "/openbank/accounts", IntegrateAccountApiResponseDto.class, userFinanceId));
+    }
+
+    private IntegrateAccountApiRequestDto createAccountsRequest(String userFinanceId, String userName) {
+        IntegrateAccountApiRequestDto requestDto = new IntegrateAccountApiRequestDto();
+        requestDto.setUserFinanceId(userFinanceId);
+        requestDto.setUserName(userName);
+        requestDto.setInquiryBankType("A");
+        return requestDto;
+    }
+
+    /**
+     * 조회 결과 반영 - 최초 요청이면 userFinanceId 저장 + 계좌 동기화
+     */
+    private void applyAccounts(Member member, boolean firstRequest, IntegrateAccountApiResponseDto accountResponseDto) {
+        if (firstRequest) {
+            member.setUserFinanceId(accountResponseDto.getUserFinanceId());
+            member.changeMydataLinked("Y");
+            memberRepository.save(member);
+        }
+        sync(member, accountResponseDto.getResList());
+    }
+
+    private boolean isFirstRequest(Member member) {
+        return member.getUserFinanceId() == null || member.getUserFinanceId().isEmpty();
+    }
+
+    /**
+     * 최초 요청 - memberId 기반으로 계좌 조회 | 이후 요청 - userFinanceId 기반으로 계좌 조회
+     */
+    private String requestUserFinanceId(Member member) {
+        return isFirstRequest(member) ? member.getId().toString() : member.getUserFinanceId();
+    }
+
+    /**
+     * 최근 활동 기록 (백그라운드 갱신 대상)
+     */
+    public void recordActivity(Long memberId) {
+        try {
+            redisTemplate.opsForZSet().add(RedisKeyConstants.ACCOUNT_SYNC_ACTIVE_MEMBERS, memberId.toString(), System.currentTimeMillis());
+        } catch (Exception e) {
+            log.warn("AccountSyncService::recordActivity 활동 기록 실패 - memberId: {}, Error: {}", memberId, e.getMessage());
+        }
+    }
+
+    /**
+     * 저장된 계좌와 비교하여 변경분 반영
+     */
+    private SyncResult apply(Member member, List<AccountInfoDto> remoteAccounts) {
+        Map<String, Account> storedAccounts = accountRepository.findByMember_Id(member.getId()).stream()
+                .filter(account -> account.getFintechUseNum() != null)
+                .collect(Collectors.toMap(Account::getFintechUseNum, Function.identity(), (first, duplicate) -> first));
+
+        List<Account> changedAccounts = new ArrayList<>();
+        int inserted = 0;
+        int updated = 0;
+        Set<String> remoteFintechUseNums = new HashSet<>();
+
+        for (AccountInfoDto accountInfo : remoteAccounts) {
+            remoteFintechUseNums.add(accountInfo.getFintechUseNum());
+            Account account = storedAccounts.get(accountInfo.getFintechUseNum());
+
+            if (account == null) { // 신규 계좌
+                account = new Account();
+                account.saveMember(member);
+                account.saveFintechUseNum(accountInfo.getFintechUseNum());
+                copy(accountInfo, account);
+                changedAccounts.add(account);
+                inserted++;
+            } else if (isChanged(accountInfo, account)) { // 계좌 정보 변경 또는 재연동
+                copy(accountInfo, account);
+                changedAccounts.add(account);
+                updated++;
+            }
+        }
+
+        // 테스트베드 목록에서 사라진 계좌
+        List<Long> removedAccountIds = storedAccounts.values().stream()
+                .filter(account -> "Y".equals(account.getVerified()))
+                .filter(account -> !remoteFintechUseNums.contains(account.getFintechUseNum()))
+                .map(Account::getId)
+                .toList();
+
+        if (!changedAccounts.isEmpty()) {
+            accountRepository.saveAll(changedAccounts);
+        }
+        int deactivated = removedAccountIds.isEmpty() ? 0 : accountRepository.deactivateByIdIn(removedAccountIds);
+        return new SyncResult(inserted, updated, deactivated);
+    }
+
+    private boolean isChanged(AccountInfoDto accountInfo, Account account) {
+        return !"Y".equals(account.getVerified())
+                || !Objects.equals(accountInfo.getAccountNum(), account.getAccountNum())
+                || !Objects.equals(accountInfo.getAccountHolder(), account.getAccountHolderName())
+                || !Objects.equals(accountInfo.getBankCodeStd(), account.getBankCode())
+                || !Objects.equals(accountInfo.getProductName(), account.getAccountName());
+    }
+
+    private void copy(AccountInfoDto accountInfo, Account account) {
+        account.saveAccountNum(accountInfo.getAccountNum());
+        account.saveAccountHolderName(accountInfo.getAccountHolder());
+        account.saveBankCode(accountInfo.getBankCodeStd());
+        account.saveAccountName(accountInfo.getProductName());
+        account.saveVerified();
+    }
+
+    /**
+     * 계좌 목록 fingerprint - 저장 대상 필드만 사용 (잔액/최종 거래일 변경은 무시)
+     */
+    private String fingerprint(List<AccountInfoDto> remoteAccounts) {
+        String joined = remoteAccounts.stream()
+                .map(accountInfo -> String.join("|", accountInfo.getFintechUseNum(), accountInfo.getAccountNum(),
+                        accountInfo.getBankCodeStd(), accountInfo.getAccountHolder(), accountInfo.getProductName()))
+                .sorted()
+                .collect(Collectors.joining("\n"));
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(joined.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            return Integer.toHexString(joined.hashCode());
+        }
+    }
+
+    private String getWatermark(String watermarkKey) {
+        try {
+            return redisTemplate.opsForValue().get(watermarkKey);
+        } catch (Exception e) {
+            log.warn("AccountSyncService::getWatermark watermark 조회 실패 - Key: {}, Error: {}", watermarkKey, e.getMessage());
+            return null;
+        }
+    }
+
+    private void putWatermark(String watermarkKey, String fingerprint) {
+        try {
+            redisTemplate.opsForValue().set(watermarkKey, fingerprint, watermarkTtl);
+        } catch (Exception e) {
+            log.warn("AccountSyncService::putWatermark watermark 저장 실패 - Key: {}, Error: {}", watermarkKey, e.getMessage());
+        }
+    }
+
+    private void runAfterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    private void runAfterCompletion(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                task.run();
+            }
+        });
+    }
+
+    private void record(String result) {
+        meterRegistry.counter("account.sync", "result", result).increment();
+    }
+
+    /**
+     * 동기화 결과
+     */
+    public record SyncResult(int inserted, int updated, int deactivated) {
+        public static final SyncResult UNCHANGED = new SyncResult(0, 0, 0);
+
+        public boolean isChanged() {
+            return inserted + updated + deactivated > 0;
+        }
+    }
+}
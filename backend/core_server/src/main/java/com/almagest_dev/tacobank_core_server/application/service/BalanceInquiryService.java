@@ -0,0 +1,112 @@
+package com.almagest_dev.tacobank_core_server.application.service;
+
+import com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.client.TestbedApiClient;
+import com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.client.TestbedResponseCache;
+import com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.dto.BalanceInquiryApiRequestDto;
+import com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.dto.BalanceInquiryApiResponseDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * 잔액 조회 (테스트베드 /openbank/account)
+ *  - 단건 조회
+ *  - 다건 조회: 최대 동시 호출 수(max-concurrency) 제한 + 요청 단위 제한 시간(time-budget) 내 병렬 조회
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BalanceInquiryService {
+
+    private final TestbedApiClient testbedApiClient;
+    private final TestbedResponseCache testbedResponseCache;
+    @Qualifier("testbedTaskExecutor")
+    private final Executor testbedTaskExecutor;
+
+    @Value("${testbed.balance.max-concurrency:4}")
+    private int maxConcurrency;
+    @Value("${testbed.balance.time-budget-ms:3000}")
+    private long timeBudgetMs;
+
+    /**
+     * 단건 잔액 조회
+     *  - 짧은 TTL 의 응답 캐시 우선 조회 (송금 완료 시 삭제)
+     */
+    public BalanceInquiryApiResponseDto inquireBalance(String userFinanceId, String fintechUseNum) {
+        return testbedResponseCache.getBalance(fintechUseNum, () -> {
+            BalanceInquiryApiRequestDto apiRequestDto = new BalanceInquiryApiRequestDto(
+                    userFinanceId,
+                    fintechUseNum,
+                    LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"))
+            );
+            return testbedApiClient.requestApi(apiRequestDto, "/openbank/account", BalanceInquiryApiResponseDto.class);
+        });
+    }
+
+    /**
+     * 다건 잔액 조회
+     *  - min(계좌 수, max-concurrency) 개의 작업이 조회할 계좌 Queue 를 나누어 처리
+     *  - 제한 시간 내 조회되지 않았거나 실패한 계좌는 결과에서 제외
+     * @return key: fintechUseNum | value: 조회 성공한 잔액 응답
+     */
+    public Map<String, BalanceInquiryApiResponseDto> inquireBalances(String userFinanceId, List<String> fintechUseNums) {
+        if (fintechUseNums == null || fintechUseNums.isEmpty()) {
+            return Map.of();
+        }
+
+        Queue<String> pending = new ConcurrentLinkedQueue<>(new LinkedHashSet<>(fintechUseNums));
+        Map<String, BalanceInquiryApiResponseDto> results = new ConcurrentHashMap<>();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeBudgetMs);
+
+        int workerCount = Math.min(pending.size(), Math.max(1, maxConcurrency));
+        CompletableFuture<?>[] workers = new CompletableFuture<?>[workerCount];
+        for (int i = 0; i < workerCount; i++) {
+            workers[i] = CompletableFuture.runAsync(() -> {
+                String fintechUseNum;
+                while (System.nanoTime() < deadline && (fintechUseNum = pending.poll()) != null) {
+                    try {
+                        BalanceInquiryApiResponseDto response = inquireBalance(userFinanceId, fintechUseNum);
+                        log.info("BalanceInquiryService::inquireBalances 잔액 조회 Response: {} ", response);
+                        if (isSuccess(response)) {
+                            results.put(fintechUseNum, response);
+                        } else {
+                            log.warn("BalanceInquiryService::inquireBalances 계좌 잔액 조회에 실패했습니다. - {}", response.getRspMessage());
+                        }
+                    } catch (Exception e) {
+                        log.warn("BalanceInquiryService::inquireBalances 계좌 잔액 조회 중 오류 - fintechUseNum: {}, {}", fintechUseNum, e.getMessage());
+                    }
+                }
+            }, testbedTaskExecutor);
+        }
+
+        try {
+            CompletableFuture.allOf(workers).get(timeBudgetMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("BalanceInquiryService::inquireBalances 잔액 조회 시간 초과 - 조회 완료: {}/{}", results.size(), fintechUseNums.size());
+        } catch (ExecutionException e) {
+            log.warn("BalanceInquiryService::inquireBalances 잔액 조회 실패 - {}", e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // 제한 시간 이후 도착한 응답은 반영하지 않음
+        return new HashMap<>(results);
+    }
+
+    /**
+     * 잔액 조회 성공 여부
+     */
+    public boolean isSuccess(BalanceInquiryApiResponseDto response) {
+        return response != null
+                && response.getApiTranId() != null
+                && "A0000".equals(response.getRspCode())
+                && response.getBalanceAmt() != null;
+    }
+}
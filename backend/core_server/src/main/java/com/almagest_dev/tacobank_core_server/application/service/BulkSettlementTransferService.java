@@ -0,0 +1,418 @@
+package com.almagest_dev.tacobank_core_server.application.service;
+
+import com.almagest_dev.tacobank_core_server.common.exception.TestbedApiException;
+import com.almagest_dev.tacobank_core_server.common.exception.TestbedRequestNotSentException;
+import com.almagest_dev.tacobank_core_server.common.exception.TransferException;
+import com.almagest_dev.tacobank_core_server.common.utils.RedisSessionUtil;
+import com.almagest_dev.tacobank_core_server.domain.account.model.Account;
+import com.almagest_dev.tacobank_core_server.domain.account.repository.AccountRepository;
+import com.almagest_dev.tacobank_core_server.domain.member.model.Member;
+import com.almagest_dev.tacobank_core_server.domain.member.repository.MemberRepository;
+import com.almagest_dev.tacobank_core_server.domain.settlememt.model.Settlement;
+import com.almagest_dev.tacobank_core_server.domain.settlememt.model.SettlementDetails;
+import com.almagest_dev.tacobank_core_server.domain.settlememt.repository.SettlementDetailsRepository;
+import com.almagest_dev.tacobank_core_server.domain.settlememt.repository.SettlementRepository;
+import com.almagest_dev.tacobank_core_server.domain.transfer.model.Transfer;
+import com.almagest_dev.tacobank_core_server.domain.transfer.model.TransferOutbox;
+import com.almagest_dev.tacobank_core_server.domain.transfer.repository.TransferOutboxRepository;
+import com.almagest_dev.tacobank_core_server.domain.transfer.repository.TransferRepository;
+import com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.client.TestbedApiClient;
+import com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.dto.TransferApiRequestDto;
+import com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.dto.TransferApiResponseDto;
+import com.almagest_dev.tacobank_core_server.presentation.dto.transfer.BulkSettlementTransferRequestDto;
+import com.almagest_dev.tacobank_core_server.presentation.dto.transfer.BulkSettlementTransferResponseDto;
+import com.almagest_dev.tacobank_core_server.presentation.dto.transfer.SettlementTransferResult;
+import com.almagest_dev.tacobank_core_server.presentation.dto.transfer.TransferResponseDto;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * 정산 일괄 송금
+ *  - 출금 비밀번호 1회 검증 후 선택한 미완료 정산을 한 번에 송금 (수취인 조회/송금 세션 없이 정산 받을 계좌로 송금)
+ *  - 테스트베드 송금은 최대 동시 송금 수(transfer.bulk.max-concurrency) 제한 내 병렬 요청
+ *  - 송금 결과, 개별 정산/정산 완료, 후속 처리 Outbox 는 1개 트랜잭션으로 일괄 반영
+ *  - 정산별 결과 반환 (일부 실패 시에도 성공한 정산은 반영)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkSettlementTransferService {
+    private static final String PIN_FAILURE_PREFIX = "transfer:pw:failures:bulk:";
+    private static final int MAX_PIN_FAILURES = 5;
+
+    private final MemberRepository memberRepository;
+    private final AccountRepository accountRepository;
+    private final SettlementRepository settlementRepository;
+    private final SettlementDetailsRepository settlementDetailsRepository;
+    private final TransferRepository transferRepository;
+    private final TransferOutboxRepository transferOutboxRepository;
+    private final TransferIdempotencyService transferIdempotencyService;
+    private final TransferOutboxRelay transferOutboxRelay;
+    private final TestbedApiClient testbedApiClient;
+    private final PasswordEncoder passwordEncoder;
+    private final RedisSessionUtil redisSessionUtil;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    @Qualifier("transferTaskExecutor")
+    private final Executor transferTaskExecutor;
+
+    @Value("${transfer.bulk.max-items:20}")
+    private int maxItems;
+    @Value("${transfer.bulk.max-concurrency:4}")
+    private int maxConcurrency;
+
+    public BulkSettlementTransferResponseDto transferSettlements(BulkSettlementTransferRequestDto requestDto) {
+        List<Long> settlementIds = requestDto.getSettlementIds().stream().filter(Objects::nonNull).distinct().toList();
+        if (settlementIds.isEmpty() || settlementIds.size() > maxItems) {
+            throw new TransferException("FAILURE", "한 번에 송금할 수 있는 정산은 최대 " + maxItems + "건입니다.", HttpStatus.BAD_REQUEST);
+        }
+        log.info("BulkSettlementTransferService::transferSettlements START - memberId: {}, idempotencyKey: {}, 정산 수: {}",
+                requestDto.getMemberId(), requestDto.getIdempotencyKey(), settlementIds.size());
+
+        // Member(송금 보내는 사람), Account(송금 보내는 계좌) 조회
+        Member member = memberRepository.findByIdAndDeleted(requestDto.getMemberId(), "N")
+                .orElseThrow(() -> new TransferException("TERMINATED", "존재하지 않는 회원입니다.", HttpStatus.BAD_REQUEST));
+        Account withdrawalAccount = accountRepository.findByIdAndVerified(requestDto.getWithdrawalAccountId(), "Y")
+                .filter(account -> account.getMember().getId().equals(member.getId()))
+                .orElseThrow(() -> new TransferException("TERMINATED", "인증되지 않은 계좌입니다.", HttpStatus.BAD_REQUEST));
+
+        // 출금 비밀번호 검증 (1회)
+        verifyPassword(member, requestDto.getTransferPin());
+
+        // 정산별 검증 + 중복 방지 KEY 선점 + 송금 요청 INSERT(R)
+        List<PayoutItem> items = prepareItems(member, withdrawalAccount, settlementIds);
+        List<PayoutItem> pending = items.stream().filter(item -> item.transfer != null && item.status == null).toList();
+        try {
+            // 테스트베드 송금 (동시 송금 수 제한)
+            executeTransfers(member, withdrawalAccount, pending);
+            // 송금 결과 + 정산 완료 + Outbox 일괄 반영
+            applyResults(pending);
+        } finally {
+            pending.forEach(this::settleIdempotencyClaim);
+            if (!pending.isEmpty()) {
+                transferOutboxRelay.relayAsync(); // 알림, 캐시 삭제 즉시 처리 요청
+            }
+        }
+
+        List<SettlementTransferResult> results = items.stream()
+                .map(item -> new SettlementTransferResult(item.settlementId, item.transfer != null ? item.transfer.getTransactionId() : null,
+                        item.status, item.message, item.response))
+                .toList();
+        int successCount = (int) results.stream().filter(result -> "S".equals(result.getStatus())).count();
+        int failureCount = (int) results.stream().filter(result -> "F".equals(result.getStatus())).count();
+        log.info("BulkSettlementTransferService::transferSettlements END - memberId: {}, 성공: {}, 실패: {}, 확인 중: {}",
+                member.getId(), successCount, failureCount, results.size() - successCount - failureCount);
+        return new BulkSettlementTransferResponseDto(results.size(), successCount, failureCount, results);
+    }
+
+    /**
+     * 출금 비밀번호 검증
+     *  - 실패 횟수는 멤버 단위로 기록 (요청 KEY 를 바꿔도 초기화되지 않음), 초과 시 출금 비밀번호 초기화
+     */
+    private void verifyPassword(Member member, String transferPin) {
+        if (member.getTransferPin() == null) {
+            throw new TransferException("TERMINATED", "출금 비밀번호 설정이 안되어있습니다. 비밀번호 설정 후 다시 송금해주세요.", HttpStatus.BAD_REQUEST);
+        }
+        String pinFailureKey = PIN_FAILURE_PREFIX + member.getId();
+        if (passwordEncoder.matches(transferPin, member.getTransferPin())) {
+            redisSessionUtil.cleanupRedisKeys("BulkSettlementTransferService", pinFailureKey);
+            return;
+        }
+
+        Long failCnt = redisSessionUtil.incrementIfExists(pinFailureKey, 1L, 10, TimeUnit.MINUTES);
+        log.info("BulkSettlementTransferService::verifyPassword 비밀번호 불일치 {}번째 - memberId: {}", failCnt, member.getId());
+
+        if (failCnt >= MAX_PIN_FAILURES) {
+            member.changeTransferPin(null);
+            memberRepository.save(member);
+            redisSessionUtil.cleanupRedisKeys("BulkSettlementTransferService", pinFailureKey);
+            throw new TransferException("TERMINATED", "출금 비밀번호 입력 횟수가 초과했습니다. 출금 비밀번호를 다시 설정해주세요. 송금을 종료합니다.", HttpStatus.FORBIDDEN);
+        }
+        throw new TransferException("비밀번호가 올바르지 않습니다. 남은 시도 횟수: " + (MAX_PIN_FAILURES - failCnt), HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * 정산별 검증 + 중복 방지 KEY 선점 + 송금 요청 INSERT(R)
+     *  - 검증/선점 실패한 정산은 송금하지 않고 실패(F) 결과
+     *  - 이미 완료된 같은 KEY 의 송금은 보관된 응답으로 성공(S) 결과
+     *  - 같은 개별 정산을 송금 중(R)이면 중복 요청으로 실패(F) 결과
+     */
+    private List<PayoutItem> prepareItems(Member member, Account withdrawalAccount, List<Long> settlementIds) {
+        List<PayoutItem> items = transactionTemplate.execute(status -> settlementIds.stream()
+                .map(settlementId -> validateItem(member, withdrawalAccount, settlementId))
+                .toList());
+
+        List<Transfer> transfers = new ArrayList<>();
+        for (PayoutItem item : items) {
+            if (item.status != null) {
+                continue;
+            }
+            // 정산별 송금 KEY - 개별 정산 기준 (요청 KEY 가 다른 일괄 송금이 같은 정산을 포함해도 1건만 송금)
+            String itemKey = itemIdempotencyKey(item.settlementDetailsId);
+            TransferResponseDto completed = transferIdempotencyService.findCompletedResponse(member.getId(), itemKey);
+            if (completed != null) {
+                item.complete("S", "송금이 완료되었습니다.", completed);
+                continue;
+            }
+            String transactionId = UUID.randomUUID().toString();
+            if (!transferIdempotencyService.claim(itemKey, transactionId, member.getId())) {
+                item.complete("F", "중복된 송금 요청입니다.", null);
+                continue;
+            }
+            item.transfer = Transfer.createTransfer(
+                    itemKey, transactionId, item.settlementId,
+                    member.getId(), withdrawalAccount.getId(),
+                    withdrawalAccount.getBankCode(), withdrawalAccount.getAccountNum(), withdrawalAccount.getAccountHolderName(),
+                    withdrawalAccount.getAccountHolderName(), withdrawalAccount.getAccountHolderName(), // 인자 내역 (Default: 보내는 사람 이름)
+                    item.receiverBankCode, item.receiverAccountNum, item.receiverAccountHolder,
+                    item.amount
+            );
+            transfers.add(item.transfer);
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> transferRepository.saveAll(transfers));
+        } catch (RuntimeException e) {
+            // 송금 요청 전 - 선점 해제 후 종료
+            items.stream().filter(item -> item.transfer != null).forEach(item -> transferIdempotencyService.release(
+                    item.transfer.getIdempotencyKey(), item.transfer.getTransactionId()));
+            throw e;
+        }
+        return items;
+    }
+
+    /**
+     * 정산별 송금 KEY - 개별 정산 ID 기준 (요청 KEY 와 무관하게 개별 정산당 1건만 선점)
+     */
+    private static String itemIdempotencyKey(Long settlementDetailsId) {
+        return UUID.nameUUIDFromBytes(("settlement-details:" + settlementDetailsId).getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    /**
+     * 정산 검증 - 정산 그룹 멤버의 미완료 개별 정산, 정산 받을 계좌 확인
+     */
+    private PayoutItem validateItem(Member member, Account withdrawalAccount, Long settlementId) {
+        PayoutItem item = new PayoutItem(settlementId);
+        Settlement settlement = settlementRepository.findById(settlementId).orElse(null);
+        if (settlement == null) {
+            return item.complete("F", "잘못된 송금 요청입니다.", null);
+        }
+        if ("Y".equals(settlement.getSettlementStatus())) {
+            return item.complete("F", "이미 완료된 정산입니다.", null);
+        }
+        SettlementDetails settlementDetails = settlementDetailsRepository
+                .findBySettlement_IdAndGroupMember_Member_IdAndSettlementStatus(settlementId, member.getId(), "N")
+                .orElse(null);
+        if (settlementDetails == null) {
+            return item.complete("F", "정산 대상이 아니거나 이미 완료된 정산입니다.", null);
+        }
+        Account receiverAccount = settlement.getSettlementAccount();
+        if (receiverAccount == null || receiverAccount.getFintechUseNum() == null) {
+            return item.complete("F", "정산 받을 계좌 정보가 없습니다.", null);
+        }
+        if (receiverAccount.getId().equals(withdrawalAccount.getId())) {
+            return item.complete("F", "출금 계좌와 정산 받을 계좌가 같습니다.", null);
+        }
+        if (settlementDetails.getSettlementAmount() == null || settlementDetails.getSettlementAmount() <= 0
+                || settlementDetails.getSettlementAmount() > Integer.MAX_VALUE) {
+            return item.complete("F", "정산 금액이 올바르지 않습니다.", null);
+        }
+
+        item.settlementDetailsId = settlementDetails.getId();
+        item.amount = settlementDetails.getSettlementAmount().intValue();
+        item.receiverFintechUseNum = receiverAccount.getFintechUseNum();
+        item.receiverBankCode = receiverAccount.getBankCode();
+        item.receiverAccountNum = receiverAccount.getAccountNum();
+        item.receiverAccountHolder = receiverAccount.getAccountHolderName();
+        return item;
+    }
+
+    /**
+     * 테스트베드 송금 - min(송금 수, max-concurrency) 개의 작업이 송금 Queue 를 나누어 처리
+     *  - 요청 Thread 도 1개 작업으로 참여 (Thread Pool 이 가득 찬 경우 요청 Thread 에서 모두 처리)
+     */
+    private void executeTransfers(Member member, Account withdrawalAccount, List<PayoutItem> items) {
+        if (items.isEmpty()) {
+            return;
+        }
+        Queue<PayoutItem> queue = new ConcurrentLinkedQueue<>(items);
+        Runnable worker = () -> {
+            PayoutItem item;
+            while ((item = queue.poll()) != null) {
+                requestTransfer(member, withdrawalAccount, item);
+            }
+        };
+
+        int workerCount = Math.min(items.size(), Math.max(1, maxConcurrency));
+        List<CompletableFuture<Void>> workers = new ArrayList<>();
+        for (int i = 1; i < workerCount; i++) {
+            try {
+                workers.add(CompletableFuture.runAsync(worker, transferTaskExecutor));
+            } catch (RejectedExecutionException e) {
+                log.warn("BulkSettlementTransferService::executeTransfers 송금 Thread Pool 초과 - 동시 송금 수: {}", workers.size() + 1);
+                break;
+            }
+        }
+        worker.run();
+        CompletableFuture.allOf(workers.toArray(CompletableFuture<?>[]::new)).join();
+    }
+
+    /**
+     * 정산 1건 테스트베드 송금 요청 - 결과는 Transfer 에만 반영 (DB 반영은 applyResults 에서 일괄)
+     */
+    private void requestTransfer(Member member, Account withdrawalAccount, PayoutItem item) {
+        Transfer transfer = item.transfer;
+        TransferApiRequestDto apiRequestDto = new TransferApiRequestDto(
+                member.getUserFinanceId(),
+                "TR",
+                String.valueOf(transfer.getAmount()),
+                LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss")),
+                withdrawalAccount.getFintechUseNum(),
+                transfer.getWdPrintContent(),
+                transfer.getWithdrawalAccountHolder(),
+                transfer.getWithdrawalBankCode(),
+                transfer.getWithdrawalAccountNum(),
+                item.receiverFintechUseNum,
+                transfer.getReceiverAccountHolder(),
+                transfer.getReceiverBankCode(),
+                transfer.getReceiverAccountNum(),
+                transfer.getRcvPrintContent(),
+                transfer.getTransactionId()
+        );
+        try {
+            TransferApiResponseDto apiResponse = testbedApiClient.requestApi(apiRequestDto, "/openbank/transfer", TransferApiResponseDto.class);
+            log.info("BulkSettlementTransferService::requestTransfer Testbed API Response - settlementId: {}, {}", item.settlementId, apiResponse);
+            if ("A0000".equals(apiResponse.getRspCode())) {
+                transfer.updateTransfer(apiResponse.getApiTranId(), "S", apiResponse.getRspCode(), apiResponse.getRspMessage(), apiResponse.getApiTranDtm());
+                item.complete("S", "송금이 완료되었습니다.", TransferResponseDto.create(
+                        transfer.getIdempotencyKey(),
+                        apiResponse.getApiTranDtm(),
+                        transfer.getMemberId(),
+                        transfer.getAccountId(),
+                        transfer.getWithdrawalAccountNum(),
+                        transfer.getWithdrawalAccountHolder(),
+                        transfer.getWithdrawalBankCode(),
+                        transfer.getReceiverAccountNum(),
+                        transfer.getReceiverAccountHolder(),
+                        transfer.getReceiverBankCode(),
+                        transfer.getAmount()
+                ));
+            } else {
+                transfer.updateTransfer(apiResponse.getApiTranId(), "F", apiResponse.getRspCode(), apiResponse.getRspMessage(), apiResponse.getApiTranDtm());
+                item.complete("F", "송금에 실패하였습니다. (" + apiResponse.getRspMessage() + ")", null);
+            }
+        } catch (TestbedApiException ex) {
+            applyErrorResponse(item, ex);
+        } catch (Exception ex) {
+            log.error("BulkSettlementTransferService::requestTransfer 송금 결과 불확실 - settlementId: {}, transactionId: {}, Error: {}",
+                    item.settlementId, transfer.getTransactionId(), ex.getMessage());
+            item.complete("R", "송금 결과를 확인 중입니다.", null);
+        }
+    }
+
+    /**
+     * 테스트베드 오류 응답
+     *  - 요청 미전송 확정(속도 제한, Circuit Breaker, Bulkhead 거절, 연결 실패): 실패(F) - 재시도 가능
+     *  - 응답 Body 가 있으면 실패(F), 없으면 결과 불확실(R)
+     */
+    private void applyErrorResponse(PayoutItem item, TestbedApiException ex) {
+        if (ex instanceof TestbedRequestNotSentException) {
+            log.warn("BulkSettlementTransferService::applyErrorResponse 송금 요청 미전송 - settlementId: {}, Error: {}", item.settlementId, ex.getMessage());
+            item.transfer.updateTransfer(null, "F", TestbedRequestNotSentException.RSP_CODE, ex.getMessage(), null);
+            item.complete("F", "송금이 처리되지 않았습니다. " + ex.getMessage(), null);
+            return;
+        }
+        if (ex.getResponseBody() == null) {
+            log.error("BulkSettlementTransferService::applyErrorResponse 송금 결과 불확실 - settlementId: {}, transactionId: {}, Error: {}",
+                    item.settlementId, item.transfer.getTransactionId(), ex.getMessage());
+            item.complete("R", "송금 결과를 확인 중입니다.", null);
+            return;
+        }
+        try {
+            JsonNode rootNode = objectMapper.readTree(ex.getResponseBody());
+            String apiTranId = rootNode.has("apiTranId") ? rootNode.get("apiTranId").asText("") : "";
+            String rspMessage = rootNode.has("rspMessage") ? rootNode.get("rspMessage").asText("") : "송금 처리 중 오류 발생";
+            String rspCode = rootNode.has("rspCode") ? rootNode.get("rspCode").asText("") : "ERR001";
+            item.transfer.updateTransfer(apiTranId, "F", rspCode, rspMessage, null);
+            item.complete("F", rspMessage, null);
+        } catch (Exception parseException) {
+            log.error("BulkSettlementTransferService::applyErrorResponse 송금 결과 불확실 - settlementId: {}, transactionId: {}, Error: {}",
+                    item.settlementId, item.transfer.getTransactionId(), ex.getMessage());
+            item.complete("R", "송금 결과를 확인 중입니다.", null);
+        }
+    }
+
+    /**
+     * 송금 결과 UPDATE + 개별 정산/정산 완료 + 후속 처리 Outbox INSERT (1개 트랜잭션)
+     */
+    private void applyResults(List<PayoutItem> items) {
+        if (items.isEmpty()) {
+            return;
+        }
+        List<PayoutItem> succeeded = items.stream().filter(item -> "S".equals(item.status)).toList();
+        transactionTemplate.executeWithoutResult(status -> {
+            transferRepository.saveAll(items.stream().map(item -> item.transfer).toList());
+            transferOutboxRepository.saveAll(items.stream().map(item -> TransferOutbox.createOutbox(item.transfer)).toList());
+            if (!succeeded.isEmpty()) {
+                settlementDetailsRepository.completeByIdIn(succeeded.stream().map(item -> item.settlementDetailsId).toList());
+                settlementRepository.completeFullyPaidByIdIn(succeeded.stream().map(item -> item.settlementId).toList());
+            }
+        });
+    }
+
+    /**
+     * 중복 방지 KEY 선점 정리 - 성공(S): 응답 보관, 실패(F): 해제, 결과 불확실(R): 유지
+     */
+    private void settleIdempotencyClaim(PayoutItem item) {
+        String idempotencyKey = item.transfer.getIdempotencyKey();
+        String transactionId = item.transfer.getTransactionId();
+        if ("S".equals(item.transfer.getStatus())) {
+            transferIdempotencyService.complete(idempotencyKey, transactionId, item.response);
+        } else if ("F".equals(item.transfer.getStatus())) {
+            transferIdempotencyService.release(idempotencyKey, transactionId);
+        }
+    }
+
+    /**
+     * 정산 1건 송금 진행 정보
+     */
+    private static class PayoutItem {
+        private final Long settlementId;
+        private Long settlementDetailsId;
+        private int amount;
+        private String receiverFintechUseNum;
+        private String receiverBankCode;
+        private String receiverAccountNum;
+        private String receiverAccountHolder;
+        private Transfer transfer;
+
+        private volatile String status;
+        private volatile String message;
+        private volatile TransferResponseDto response;
+
+        private PayoutItem(Long settlementId) {
+            this.settlementId = settlementId;
+        }
+
+        private PayoutItem complete(String status, String message, TransferResponseDto response) {
+            this.status = status;
+            this.message = message;
+            this.response = response;
+            return this;
+        }
+    }
+}
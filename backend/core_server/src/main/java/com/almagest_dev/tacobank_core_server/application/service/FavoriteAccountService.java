@@ -23,6 +23,7 @@ public class FavoriteAccountService {
     private final FavoriteAccountRepository favoriteAccountRepository;
     private final MemberRepository memberRepository;
     private final AccountRepository accountRepository;
+    private final TransferOptionsCache transferOptionsCache;
 
     /**
      * 즐겨찾기 계좌 설정
@@ -54,6 +55,7 @@ public class FavoriteAccountService {
         favoriteAccount.saveAccountHolderName(accountOwner.getName()); // 소유자의 이름을 저장
         favoriteAccount.saveBankCode(account.getBankCode());
         favoriteAccountRepository.save(favoriteAccount);
+        transferOptionsCache.invalidate(member.getId()); // 송금 대상 캐시 삭제
 
         // 응답 생성
         return new FavoriteAccountResponseDto(
@@ -101,6 +103,7 @@ public class FavoriteAccountService {
 
         // 즐겨찾기 계좌 삭제
         favoriteAccountRepository.delete(favoriteAccount);
+        transferOptionsCache.invalidate(member.getId()); // 송금 대상 캐시 삭제
     }
 
 
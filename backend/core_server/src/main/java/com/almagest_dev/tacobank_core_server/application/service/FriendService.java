@@ -21,6 +21,7 @@ public class FriendService {
 
     private final FriendRepository friendRepository;
     private final MemberRepository memberRepository;
+    private final TransferOptionsCache transferOptionsCache;
 
     /**
      * 친구상태 관리 조건제약
@@ -162,6 +163,7 @@ public class FriendService {
 
         friend.updateGroup();
 
+        evictTransferOptions(requestDto);
     }
 
     /**
@@ -188,6 +190,7 @@ public class FriendService {
         reverseFriend.saveStatus("ACC");
         friendRepository.save(reverseFriend);
         friend.updateGroup();
+        evictTransferOptions(requestDto);
     }
 
     /**
@@ -214,6 +217,7 @@ public class FriendService {
         reverseFriend.saveStatus("NONE");
         friendRepository.save(reverseFriend);
         friend.updateGroup();
+        evictTransferOptions(requestDto);
     }
 
     /**
@@ -245,6 +249,7 @@ public class FriendService {
         }
         friendRepository.save(reverseFriend);
         friend.updateGroup();
+        evictTransferOptions(requestDto);
     }
 
 
@@ -270,6 +275,7 @@ public class FriendService {
         reverseFriend.saveLiked("N");
         friendRepository.save(reverseFriend);
         friend.updateGroup();
+        evictTransferOptions(requestDto);
     }
 
     /**
@@ -297,6 +303,7 @@ public class FriendService {
             throw new IllegalArgumentException("차단한 사용자만 차단 해제를 할 수 있습니다.");
         }
         friend.updateGroup();
+        evictTransferOptions(requestDto);
     }
 
     /**
@@ -459,6 +466,13 @@ public class FriendService {
 
         friend.updateGroup();
         reverseFriend.updateGroup();
+        evictTransferOptions(requestDto);
     }
 
-}
\ No newline at end of file
+    /**
+     * 친구 상태 변경 - 양쪽 회원의 송금 대상(친구 메인 계좌) 캐시 삭제
+     */
+    private void evictTransferOptions(FriendRequestDto requestDto) {
+        transferOptionsCache.invalidate(requestDto.getRequesterId(), requestDto.getReceiverId());
+    }
+}
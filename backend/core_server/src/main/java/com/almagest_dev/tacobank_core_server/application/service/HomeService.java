@@ -1,155 +1,272 @@
 package com.almagest_dev.tacobank_core_server.application.service;
 
+import com.almagest_dev.tacobank_core_server.common.constants.RedisKeyConstants;
 import com.almagest_dev.tacobank_core_server.common.exception.MemberAuthException;
+import com.almagest_dev.tacobank_core_server.common.utils.RedisLockUtil;
 import com.almagest_dev.tacobank_core_server.domain.account.model.Account;
 import com.almagest_dev.tacobank_core_server.domain.account.model.MainAccount;
 import com.almagest_dev.tacobank_core_server.domain.account.repository.AccountRepository;
 import com.almagest_dev.tacobank_core_server.domain.account.repository.MainAccountRepository;
 import com.almagest_dev.tacobank_core_server.domain.member.model.Member;
 import com.almagest_dev.tacobank_core_server.domain.member.repository.MemberRepository;
-import com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.client.TestbedApiClient;
 import com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.dto.*;
 import com.almagest_dev.tacobank_core_server.presentation.dto.home.AccountMemberReponseDto;
 import com.almagest_dev.tacobank_core_server.presentation.dto.home.AccountResponseDto;
+import com.almagest_dev.tacobank_core_server.presentation.dto.home.HomeTransactionEventDto;
 import com.almagest_dev.tacobank_core_server.presentation.dto.home.TransactionResponseDto2;
-import com.almagest_dev.tacobank_core_server.presentation.dto.transantion.TransactionListRequestDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class HomeService {
+    private static final int RECENT_TRANSACTION_COUNT = 5; // 계좌별 최근 거래 내역 건수
 
     private final MemberRepository memberRepository;
     private final AccountRepository accountRepository;
     private final MainAccountRepository mainAccountRepository;
 
-    private final TestbedApiClient testbedApiClient;
+    private final TransactionHistoryService transactionHistoryService;
+    private final AccountSyncService accountSyncService;
+    private final AccountService accountService;
+    private final HomeSnapshotCache homeSnapshotCache;
+    private final RedisLockUtil redisLockUtil;
     private final OrgCodeService orgCodeService;
+    @Qualifier("testbedTaskExecutor")
+    private final Executor testbedTaskExecutor;
+    @Qualifier("testbedCallbackExecutor")
+    private final Executor testbedCallbackExecutor;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${home.transaction.deadline-ms:3000}")
+    private long transactionDeadlineMs; // 홈 화면 거래 내역 조회 전체 제한 시간
+    @Value("${home.snapshot.refresh-lock-ttl:30s}")
+    private Duration snapshotRefreshLockTtl; // Snapshot 백그라운드 갱신 잠금 시간
 
     /**
-     * 사용자 계좌 및 거래 내역 조회
+     * 사용자 계좌 및 거래 내역 조회 (비동기, Snapshot 우선)
      */
-    @Transactional
-    public AccountMemberReponseDto getMemberHome() {
-        /**
-         * 인증 정보로 멤버 조회
-         */
-        // 인증 정보 가져오기
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null || !authentication.isAuthenticated()) {
-            throw new MemberAuthException("인증되지 않은 사용자입니다.", HttpStatus.UNAUTHORIZED);
+    public CompletableFuture<AccountMemberReponseDto> getMemberHomeAsync() {
+        Long memberId = currentMemberId();
+        log.info("HomeService::getMemberHomeAsync - memberId: {} ", memberId);
+        return getMemberHomeAsync(memberId);
+    }
+
+    /**
+     * 사용자 계좌 및 거래 내역 조회 (Snapshot 우선)
+     *  - Snapshot 이 있으면 즉시 응답, stale 이면 백그라운드에서 갱신 (stale-while-revalidate)
+     *  - Snapshot 이 없으면 조회 후 저장
+     */
+    public CompletableFuture<AccountMemberReponseDto> getMemberHomeAsync(Long memberId) {
+        HomeSnapshotCache.HomeSnapshot snapshot = homeSnapshotCache.get(memberId);
+        if (snapshot != null) {
+            accountSyncService.recordActivity(memberId); // 계좌 백그라운드 갱신 대상 유지
+            if (!homeSnapshotCache.isFresh(snapshot)) {
+                refreshSnapshotInBackground(memberId);
+            }
+            return CompletableFuture.completedFuture(snapshot.home());
+        }
+        return loadAndStoreSnapshot(memberId);
+    }
+
+    /**
+     * 홈 화면 조회 + Snapshot 저장
+     */
+    private CompletableFuture<AccountMemberReponseDto> loadAndStoreSnapshot(Long memberId) {
+        String generation = homeSnapshotCache.generation(memberId); // 조회 중 invalidate 되면 저장 생략
+        return loadMemberHomeAsync(memberId)
+                .thenApply(home -> {
+                    boolean partial = home.getAccountList() != null && home.getAccountList().stream().anyMatch(AccountResponseDto::isTransactionListPartial);
+                    homeSnapshotCache.put(memberId, generation, home, partial);
+                    return home;
+                });
+    }
+
+    /**
+     * Snapshot 백그라운드 갱신 - 멤버별 1건만 수행 (Redis 잠금)
+     */
+    private void refreshSnapshotInBackground(Long memberId) {
+        String lockKey = RedisKeyConstants.HOME_SNAPSHOT_REFRESH_LOCK_PREFIX + memberId;
+        String owner = UUID.randomUUID().toString();
+        if (!redisLockUtil.tryLock(lockKey, owner, snapshotRefreshLockTtl)) {
+            return;
         }
 
-        // 인증 정보에서 멤버 ID 추출
-        Long memberId = (Long) authentication.getDetails();
-        log.info("HomeService::getMemberHome - memberId: {} ", memberId);
+        try {
+            CompletableFuture.supplyAsync(() -> loadAndStoreSnapshot(memberId), testbedCallbackExecutor)
+                    .thenCompose(Function.identity())
+                    .whenComplete((home, ex) -> {
+                        redisLockUtil.unlock(lockKey, owner);
+                        if (ex != null) {
+                            log.warn("HomeService::refreshSnapshotInBackground Snapshot 갱신 실패 - memberId: {}, {}", memberId, ex.getMessage());
+                        }
+                    });
+        } catch (RejectedExecutionException e) {
+            redisLockUtil.unlock(lockKey, owner);
+            log.warn("HomeService::refreshSnapshotInBackground Snapshot 갱신 생략 (작업 Queue 초과) - memberId: {}", memberId);
+        }
+    }
 
+    /**
+     * 사용자 계좌 및 거래 내역 조회 (비동기)
+     *  - 멤버 조회는 호출 Thread 에서 수행, 테스트베드 응답 대기 중에는 Thread 를 점유하지 않음
+     *  - 응답 이후 DB 저장/매핑은 testbedCallbackExecutor 에서 트랜잭션으로 수행
+     *  - 거래 내역은 전체 제한 시간(deadline) 내 도착한 계좌만 포함
+     */
+    private CompletableFuture<AccountMemberReponseDto> loadMemberHomeAsync(Long memberId) {
         // 멤버 조회
         Member member = memberRepository.findByIdAndDeleted(memberId, "N")
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다."));
 
-        String userFinanceId = member.getUserFinanceId();
-        String userName = member.getName();
-        IntegrateAccountApiResponseDto accountResponseDto;
-
-        if (userFinanceId == null || userFinanceId.isEmpty()) {
-            // 최초 요청 - memberId 기반으로 계좌 조회
-            accountResponseDto = fetchAccountsFromApi(member.getId().toString(), userName);
-            member.setUserFinanceId(accountResponseDto.getUserFinanceId());
-            member.changeMydataLinked("Y");
-            memberRepository.save(member);
-        } else {
-            // 이후 요청 - userFinanceId 기반으로 계좌 조회
-            accountResponseDto = fetchAccountsFromApi(userFinanceId, userName);
-        }
+        return fetchHomeAccountsAsync(member)
+                // 거래 내역 - 전체 제한 시간까지만 대기 (실패한 계좌는 applyTransactionLists 에서 처리)
+                .thenCompose(homeAccounts -> CompletableFuture
+                        .allOf(homeAccounts.transactionFutures().values().toArray(new CompletableFuture<?>[0]))
+                        .completeOnTimeout(null, transactionDeadlineMs, TimeUnit.MILLISECONDS)
+                        .handle((ignored, ex) -> homeAccounts))
+                .thenApplyAsync(homeAccounts -> {
+                    applyTransactionLists(memberId, homeAccounts.transactionFutures());
+                    return transactionTemplate.execute(status -> completeResponse(member, homeAccounts));
+                }, testbedCallbackExecutor);
+    }
 
-        // 계좌 정보 저장 (최초 요청 시)
-        // @TODO 계좌 정보 저장 로직 수정 - 새로운 계좌만 추가
-        if (accountRepository.countByMember(member) == 0) {
-            saveAccounts(accountResponseDto.getResList(), member);
+    /**
+     * 사용자 계좌 및 거래 내역 단계별 응답 (Streaming)
+     *  - 계좌 목록 조회 직후 멤버/계좌 요약 전달 (거래 내역 제외)
+     *  - 계좌별 거래 내역은 도착하는 대로 전달, 제한 시간(deadline) 초과/실패 계좌는 빈 거래 내역 + transactionListPartial = true
+     *  - 최신 Snapshot 이 있으면 Snapshot 으로 즉시 전달
+     */
+    public void streamMemberHome(HomeStreamListener listener) {
+        Long memberId = currentMemberId();
+        log.info("HomeService::streamMemberHome - memberId: {} ", memberId);
+
+        HomeSnapshotCache.HomeSnapshot snapshot = homeSnapshotCache.get(memberId);
+        if (snapshot != null && homeSnapshotCache.isFresh(snapshot)) {
+            streamSnapshot(snapshot.home(), listener);
+            return;
         }
 
-        // 현재 시점 및 포맷팅 설정
-        String fromDate = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-        String toDate = LocalDateTime.now().plusMonths(1).format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-        String tranDtime = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
+        // 멤버 조회
+        Member member = memberRepository.findByIdAndDeleted(memberId, "N")
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다."));
 
-        // 계좌 및 거래 내역 응답 생성
-        return mapToAccountMemberResponseDto(member, accountResponseDto, fromDate, toDate, tranDtime);
+        fetchHomeAccountsAsync(member)
+                // 멤버/계좌 요약 전달
+                .thenApplyAsync(homeAccounts -> {
+                    listener.onSummary(transactionTemplate.execute(status -> completeResponse(member, homeAccounts)));
+                    return homeAccounts;
+                }, testbedCallbackExecutor)
+                // 계좌별 거래 내역 전달 (도착 순서)
+                .thenCompose(homeAccounts -> CompletableFuture.allOf(homeAccounts.transactionFutures().entrySet().stream()
+                        .map(entry -> entry.getValue()
+                                .completeOnTimeout(null, transactionDeadlineMs, TimeUnit.MILLISECONDS)
+                                .handle((transactionList, ex) -> {
+                                    listener.onTransactions(toTransactionEvent(entry.getKey(), transactionList));
+                                    return null;
+                                }))
+                        .toArray(CompletableFuture<?>[]::new)))
+                .whenComplete((ignored, ex) -> {
+                    if (ex != null) {
+                        log.warn("HomeService::streamMemberHome 홈 화면 조회 실패 - memberId: {}, {}", memberId, ex.getMessage());
+                        listener.onError(ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex);
+                    } else {
+                        listener.onComplete();
+                    }
+                });
     }
 
     /**
-     * 테스트베드 요청: 오픈뱅킹 계좌 연동(조회)
+     * Snapshot 단계별 전달 - 요약 후 계좌별 거래 내역
      */
-    private IntegrateAccountApiResponseDto fetchAccountsFromApi(String userFinanceId, String userName) {
-        IntegrateAccountApiRequestDto requestDto = new IntegrateAccountApiRequestDto();
-        requestDto.setUserFinanceId(userFinanceId);
-        requestDto.setUserName(userName);
-        requestDto.setInquiryBankType("A");
+    private void streamSnapshot(AccountMemberReponseDto home, HomeStreamListener listener) {
+        List<HomeTransactionEventDto> events = new ArrayList<>();
+        if (home.getAccountList() != null) {
+            for (AccountResponseDto accountDto : home.getAccountList()) {
+                if (accountDto.getTransactionList() != null) {
+                    events.add(toTransactionEvent(accountDto, accountDto.getTransactionList()));
+                    accountDto.setTransactionList(null);
+                }
+            }
+        }
+        listener.onSummary(home);
+        events.forEach(listener::onTransactions);
+        listener.onComplete();
+    }
 
-        return testbedApiClient.requestApi(requestDto, "/openbank/accounts", IntegrateAccountApiResponseDto.class);
+    private HomeTransactionEventDto toTransactionEvent(AccountResponseDto accountDto, List<TransactionResponseDto2> transactionList) {
+        HomeTransactionEventDto event = new HomeTransactionEventDto();
+        event.setAccountId(accountDto.getAccountId());
+        event.setAccountNum(accountDto.getAccountNum());
+        event.setTransactionList(transactionList != null ? transactionList : List.of());
+        event.setTransactionListPartial(transactionList == null || accountDto.isTransactionListPartial());
+        return event;
     }
 
     /**
-     * 사용자 Account 조회 결과 저장
+     * 계좌 목록 조회 + 계좌 동기화 + 계좌별 거래 내역 비동기 조회 요청
      */
-    private void saveAccounts(List<AccountInfoDto> accountInfoList, Member member) {
-        List<Account> accounts = accountInfoList.stream().map(accountInfo -> {
-            Account account = new Account();
-            account.saveMember(member);
-            account.saveAccountNum(accountInfo.getAccountNum());
-            account.saveAccountHolderName(accountInfo.getAccountHolder());
-            account.saveBankCode(accountInfo.getBankCodeStd());
-            account.saveFintechUseNum(accountInfo.getFintechUseNum());
-            account.saveVerified();
-            account.saveAccountName(accountInfo.getProductName());
-
-            return account;
-        }).collect(Collectors.toList());
-        accountRepository.saveAll(accounts);
+    private CompletableFuture<HomeAccounts> fetchHomeAccountsAsync(Member member) {
+        return accountSyncService.fetchAndSyncAsync(member)
+                // 계좌별 거래 내역 비동기 조회 요청
+                .thenApplyAsync(accountResponseDto -> buildAccountList(member.getId(), accountResponseDto, this::fetchTransactionListAsync), testbedCallbackExecutor);
     }
 
     /**
-     * 홈 화면 응답 데이터로 변환/매핑
+     * 인증 정보에서 멤버 ID 추출
      */
-    private AccountMemberReponseDto mapToAccountMemberResponseDto(Member member, IntegrateAccountApiResponseDto accountResponseDto, String fromDate, String toDate, String tranDtime) {
-        AccountMemberReponseDto response = new AccountMemberReponseDto();
-        response.setMemberId(member.getId());
-        response.setEmail(member.getEmail());
-        response.setName(member.getName());
-        response.setTel(member.getTel());
-        response.setMydataLinked(member.getMydataLinked());
+    private Long currentMemberId() {
+        // 인증 정보 가져오기
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            throw new MemberAuthException("인증되지 않은 사용자입니다.", HttpStatus.UNAUTHORIZED);
+        }
+        return (Long) authentication.getDetails();
+    }
 
-        boolean isPinSet = member.getTransferPin() != null;
-        response.setPinSet(isPinSet);
+    /**
+     * 계좌 리스트 생성 + 계좌별 거래 내역 조회 요청
+     *  - 저장된 계좌(ID, fintechUseNum)는 계좌번호 목록으로 한 번에 조회
+     * @param transactionFetcher fintechUseNum -> 거래 내역 조회 Future
+     */
+    private HomeAccounts buildAccountList(Long memberId, IntegrateAccountApiResponseDto accountResponseDto,
+                                          Function<String, CompletableFuture<List<TransactionResponseDto2>>> transactionFetcher) {
+        // 계좌 일괄 조회 (accountNum -> Account)
+        Map<String, Account> accountsByAccountNum = findAccountsByAccountNum(memberId, accountResponseDto.getResList());
 
         // 잔액이 가장 많은 계좌 정보를 위한 변수
-        long highestBalanceAccountId = 0L;
+        Account highestBalanceAccount = null;
         double maxBalance = 0.0;
 
         // 계좌 리스트 생성
         List<AccountResponseDto> accountList = new ArrayList<>();
+        // 계좌별 거래 내역 조회 요청 (동시 호출)
+        Map<AccountResponseDto, CompletableFuture<List<TransactionResponseDto2>>> transactionFutures = new IdentityHashMap<>();
 
         // 계좌 정보 반복 처리
         for (AccountInfoDto accountInfo : accountResponseDto.getResList()) {
             // AccountResponseDto 객체 생성
             AccountResponseDto accountDto = new AccountResponseDto();
-            Long accountId = accountRepository.findByAccountNum(accountInfo.getAccountNum())
-                    .map(Account::getId)
-                    .orElse(null);
+            Account account = accountsByAccountNum.get(accountInfo.getAccountNum());
+            Long accountId = (account != null) ? account.getId() : null;
             accountDto.setAccountId(accountId);
             accountDto.setAccountName(accountInfo.getProductName());
             accountDto.setBankCode(accountInfo.getBankCodeStd());
@@ -164,37 +281,66 @@ public class HomeService {
             double balance = Double.parseDouble(accountInfo.getBalanceAmt());
             accountDto.setBalance(balance);
 
-            // 가장 잔액이 많은 계좌 확인
-            if (balance > maxBalance) {
+            // 가장 잔액이 많은 계좌 확인 (저장된 계좌만)
+            if (account != null && balance > maxBalance) {
                 maxBalance = balance;
-                highestBalanceAccountId = accountDto.getAccountId();
+                highestBalanceAccount = account;
             }
 
-            // 거래 내역 추가
-            if (accountId != null) {
-                TransactionListRequestDto transactionRequest = new TransactionListRequestDto();
-                transactionRequest.setAccountId(accountDto.getAccountId());
-                transactionRequest.setFromDate(fromDate);
-                transactionRequest.setToDate(toDate);
-                List<TransactionResponseDto2> transactions = fetchTransactionList(transactionRequest);
-                accountDto.setTransactionList(transactions);
+            // 거래 내역 조회 요청
+            if (account != null) {
+                transactionFutures.put(accountDto, transactionFetcher.apply(account.getFintechUseNum()));
             }
 
             // 계좌 리스트에 추가
             accountList.add(accountDto);
         }
-        response.setAccountList(accountList);
+
+        return new HomeAccounts(accountList, transactionFutures, highestBalanceAccount);
+    }
+
+    /**
+     * 테스트베드 계좌 목록의 계좌번호로 저장된 계좌 일괄 조회 (accountNum -> Account)
+     *  - 같은 계좌번호가 여러 건이면 본인 인증된 계좌 우선
+     */
+    private Map<String, Account> findAccountsByAccountNum(Long memberId, List<AccountInfoDto> accountInfoList) {
+        List<String> accountNums = accountInfoList.stream().map(AccountInfoDto::getAccountNum).filter(Objects::nonNull).distinct().toList();
+        if (accountNums.isEmpty()) {
+            return Map.of();
+        }
+        return accountRepository.findByMember_IdAndAccountNumIn(memberId, accountNums).stream()
+                .collect(Collectors.toMap(Account::getAccountNum, Function.identity(),
+                        (first, second) -> "Y".equals(second.getVerified()) && !"Y".equals(first.getVerified()) ? second : first));
+    }
+
+    /**
+     * 멤버 정보, 계좌 리스트, 메인 계좌 응답 설정
+     */
+    private AccountMemberReponseDto completeResponse(Member member, HomeAccounts homeAccounts) {
+        AccountMemberReponseDto response = new AccountMemberReponseDto();
+        response.setMemberId(member.getId());
+        response.setEmail(member.getEmail());
+        response.setName(member.getName());
+        response.setTel(member.getTel());
+        response.setMydataLinked(member.getMydataLinked());
+
+        boolean isPinSet = member.getTransferPin() != null;
+        response.setPinSet(isPinSet);
+
+        response.setAccountList(homeAccounts.accountList());
 
         // 메인 계좌 추가 - 최초엔 잔액이 가장 많은 계좌로
         MainAccount mainAccount = mainAccountRepository.findByMemberId(member.getId()).orElse(null);
         if (mainAccount == null) {
-            // 메인 계좌 DB INSERT
-            Account highestAccount = accountRepository.findById(highestBalanceAccountId).orElse(null);
+            // 메인 계좌 DB INSERT (계좌 리스트 생성 시 조회한 계좌 사용)
+            Account highestAccount = homeAccounts.highestBalanceAccount();
             if (highestAccount != null) {
                 mainAccount = MainAccount.createMainAccount(member, highestAccount);
                 mainAccountRepository.save(mainAccount);
+                // 친구들의 송금 대상 캐시 삭제 (메인 계좌 없음 -> 등록)
+                accountService.invalidateFriendsTransferOptions(member.getId());
 
-                log.info("HomeService::mapToAccountMemberResponseDto 메인계좌 INSERT - 메인계좌 ID: {}", highestAccount.getId());
+                log.info("HomeService::completeResponse 메인계좌 INSERT - 메인계좌 ID: {}", highestAccount.getId());
             }
         }
         response.setMainAccountId(mainAccount.getAccount().getId());
@@ -204,44 +350,35 @@ public class HomeService {
     }
 
     /**
-     * 테스트베드 요청: 거래내역 조회
+     * 계좌별 거래 내역 조회 결과 반영
+     *  - 완료된 계좌: 거래 내역 설정
+     *  - 미완료(제한 시간 초과) 또는 실패 계좌: 요청 취소 + 빈 거래 내역 + transactionListPartial = true
      */
-    private List<TransactionResponseDto2> fetchTransactionList(TransactionListRequestDto requestDto) {
-        // 현재 시점
-        LocalDateTime now = LocalDateTime.now();
-
-        // fromDate: 1년 전 시점
-        String fromDate = now.minusYears(1).format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-
-        // toDate: 현재 시점
-        String toDate = now.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-
-        // tranDtime: 현재 날짜와 시간
-        String tranDtime = now.format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
-
-        // API 요청 DTO 생성
-        TransactionListApiRequestDto apiRequestDto = new TransactionListApiRequestDto();
-        apiRequestDto.setFintechUseNum(accountRepository.findById(requestDto.getAccountId())
-                .orElseThrow(() -> new IllegalArgumentException("계좌가 존재하지 않습니다."))
-                .getFintechUseNum());
-        apiRequestDto.setInquiryType("A");
-        apiRequestDto.setInquiryBase("D");
-        apiRequestDto.setFromDate(fromDate);
-        apiRequestDto.setFromTime("001000");
-        apiRequestDto.setToDate(toDate);
-        apiRequestDto.setToTime("240000");
-        apiRequestDto.setSortOrder("D");
-        apiRequestDto.setTranDtime(tranDtime); // 동적으로 설정된 트랜잭션 시간 추가
-        apiRequestDto.setDataLength("5"); // 기본값
-
-
-        TransactionListApiResponseDto responseDto = testbedApiClient.requestApi(apiRequestDto, "/openbank/tranlist", TransactionListApiResponseDto.class);
-
-        if (responseDto.getResList() == null || responseDto.getResList().isEmpty()) {
-            return List.of();
+    private void applyTransactionLists(Long memberId, Map<AccountResponseDto, CompletableFuture<List<TransactionResponseDto2>>> transactionFutures) {
+        int partialCount = 0;
+        for (Map.Entry<AccountResponseDto, CompletableFuture<List<TransactionResponseDto2>>> entry : transactionFutures.entrySet()) {
+            AccountResponseDto accountDto = entry.getKey();
+            CompletableFuture<List<TransactionResponseDto2>> future = entry.getValue();
+
+            if (future.isDone() && !future.isCompletedExceptionally()) {
+                accountDto.setTransactionList(future.join());
+            } else {
+                future.cancel(true);
+                accountDto.setTransactionList(List.of());
+                accountDto.setTransactionListPartial(true);
+                partialCount++;
+            }
+        }
+        if (partialCount > 0) {
+            log.warn("HomeService::applyTransactionLists 거래 내역 일부 누락 - memberId: {}, 누락 계좌 수: {}/{}", memberId, partialCount, transactionFutures.size());
         }
+    }
 
-        return responseDto.getResList().stream()
+    /**
+     * 최근 거래 내역 조회 - 최신 5건 (저장된 내역에서 조회, 최초 조회는 테스트베드 1페이지 + 백그라운드 동기화)
+     */
+    private List<TransactionResponseDto2> fetchTransactionList(String fintechUseNum) {
+        return transactionHistoryService.findRecentTransactions(fintechUseNum, RECENT_TRANSACTION_COUNT).stream()
                 .map(transaction -> {
                     TransactionResponseDto2 transactionDto = new TransactionResponseDto2();
                     transactionDto.setTranNum(transaction.getTranNum());
@@ -259,5 +396,35 @@ public class HomeService {
                     return transactionDto;
                 })
                 .collect(Collectors.toList());
-        }
+    }
+
+    /**
+     * 최근 거래 내역 비동기 조회 (testbedTaskExecutor 에서 수행)
+     */
+    private CompletableFuture<List<TransactionResponseDto2>> fetchTransactionListAsync(String fintechUseNum) {
+        return CompletableFuture.supplyAsync(() -> fetchTransactionList(fintechUseNum), testbedTaskExecutor);
+    }
+
+    /**
+     * 홈 화면 단계별 응답 수신
+     */
+    public interface HomeStreamListener {
+        void onSummary(AccountMemberReponseDto summary); // 멤버/계좌 요약 (거래 내역 제외)
+
+        void onTransactions(HomeTransactionEventDto transactions); // 계좌별 거래 내역
+
+        void onComplete();
+
+        void onError(Throwable ex);
+    }
+
+    /**
+     * 홈 화면 계좌 리스트 + 계좌별 거래 내역 조회 Future
+     */
+    private record HomeAccounts(
+            List<AccountResponseDto> accountList,
+            Map<AccountResponseDto, CompletableFuture<List<TransactionResponseDto2>>> transactionFutures,
+            Account highestBalanceAccount
+    ) {
+    }
 }
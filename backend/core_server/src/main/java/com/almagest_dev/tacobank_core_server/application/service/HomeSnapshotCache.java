@@ -0,0 +1,140 @@
+package com.almagest_dev.tacobank_core_server.application.service;
+
+import com.almagest_dev.tacobank_core_server.common.constants.RedisKeyConstants;
+import com.almagest_dev.tacobank_core_server.presentation.dto.home.AccountMemberReponseDto;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 홈 화면 응답 Snapshot (멤버 단위, Redis)
+ *  - 홈 화면 응답을 null 필드를 제외한 JSON 으로 저장 (home.snapshot.ttl 동안 보관)
+ *  - 저장 후 home.snapshot.fresh-for 가 지나거나 거래 내역 일부가 누락된 Snapshot 은 stale - 응답은 즉시 하고 백그라운드에서 갱신
+ *  - 송금/메인 계좌 변경/계좌 동기화/회원 정보 변경 시 삭제 (invalidate)
+ *  - invalidate 전에 시작된 갱신 결과가 저장되지 않도록 세대(generation) 값이 같을 때만 저장
+ *  - 메트릭: home.snapshot{result=fresh|stale|miss}
+ */
+@Slf4j
+@Component
+public class HomeSnapshotCache {
+    /**
+     * KEYS[1]: Snapshot Key, KEYS[2]: 세대 Key / ARGV[1]: 조회 시작 시점 세대, ARGV[2]: Snapshot, ARGV[3]: TTL(ms)
+     */
+    private static final DefaultRedisScript<Long> PUT_IF_GENERATION_SCRIPT = new DefaultRedisScript<>(
+            "local generation = redis.call('get', KEYS[2]) or '0' " +
+            "if generation == ARGV[1] then redis.call('set', KEYS[1], ARGV[2], 'PX', ARGV[3]) return 1 end " +
+            "return 0",
+            Long.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${home.snapshot.ttl:10m}")
+    private Duration ttl;
+    @Value("${home.snapshot.fresh-for:30s}")
+    private Duration freshFor;
+
+    public HomeSnapshotCache(RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper.copy().setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Snapshot 조회
+     * @return 없거나 조회 실패 시 null
+     */
+    public HomeSnapshot get(Long memberId) {
+        HomeSnapshot snapshot = null;
+        try {
+            String cached = redisTemplate.opsForValue().get(snapshotKey(memberId));
+            if (cached != null) {
+                snapshot = objectMapper.readValue(cached, HomeSnapshot.class);
+            }
+        } catch (Exception e) {
+            log.warn("HomeSnapshotCache::get Snapshot 조회 실패 - memberId: {}, Error: {}", memberId, e.getMessage());
+        }
+        meterRegistry.counter("home.snapshot", "result", snapshot == null ? "miss" : isFresh(snapshot) ? "fresh" : "stale").increment();
+        return snapshot;
+    }
+
+    /**
+     * 현재 세대 조회 - 홈 화면 조회 시작 전에 읽고 저장 시 전달
+     */
+    public String generation(Long memberId) {
+        try {
+            return Objects.requireNonNullElse(redisTemplate.opsForValue().get(generationKey(memberId)), "0");
+        } catch (Exception e) {
+            log.warn("HomeSnapshotCache::generation 세대 조회 실패 - memberId: {}, Error: {}", memberId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Snapshot 저장 (조회 시작 이후 invalidate 되었으면 저장하지 않음)
+     * @param generation 조회 시작 전 generation() 값
+     * @param partial    거래 내역 일부 누락 여부 (누락 시 다음 조회에서 갱신)
+     */
+    public void put(Long memberId, String generation, AccountMemberReponseDto home, boolean partial) {
+        if (generation == null || home == null) {
+            return;
+        }
+        try {
+            String value = objectMapper.writeValueAsString(new HomeSnapshot(System.currentTimeMillis(), partial, home));
+            Long stored = redisTemplate.execute(PUT_IF_GENERATION_SCRIPT, List.of(snapshotKey(memberId), generationKey(memberId)),
+                    generation, value, String.valueOf(ttl.toMillis()));
+            if (!Long.valueOf(1L).equals(stored)) {
+                log.info("HomeSnapshotCache::put 조회 중 변경되어 저장 생략 - memberId: {}", memberId);
+            }
+        } catch (Exception e) {
+            log.warn("HomeSnapshotCache::put Snapshot 저장 실패 - memberId: {}, Error: {}", memberId, e.getMessage());
+        }
+    }
+
+    /**
+     * Snapshot 삭제 + 세대 증가
+     */
+    public void invalidate(Long... memberIds) {
+        Arrays.stream(memberIds).filter(Objects::nonNull).distinct().forEach(memberId -> {
+            try {
+                redisTemplate.opsForValue().increment(generationKey(memberId));
+                redisTemplate.expire(generationKey(memberId), ttl.multipliedBy(2));
+                redisTemplate.delete(snapshotKey(memberId));
+                log.info("HomeSnapshotCache::invalidate Snapshot 삭제 - memberId: {}", memberId);
+            } catch (Exception e) {
+                log.warn("HomeSnapshotCache::invalidate Snapshot 삭제 실패 - memberId: {}, Error: {}", memberId, e.getMessage());
+            }
+        });
+    }
+
+    public boolean isFresh(HomeSnapshot snapshot) {
+        return !snapshot.partial() && System.currentTimeMillis() - snapshot.createdAt() < freshFor.toMillis();
+    }
+
+    private String snapshotKey(Long memberId) {
+        return RedisKeyConstants.HOME_SNAPSHOT_PREFIX + memberId;
+    }
+
+    private String generationKey(Long memberId) {
+        return RedisKeyConstants.HOME_SNAPSHOT_GENERATION_PREFIX + memberId;
+    }
+
+    /**
+     * 홈 화면 Snapshot
+     * @param createdAt 저장 시각 (epoch ms)
+     */
+    public record HomeSnapshot(long createdAt, boolean partial, AccountMemberReponseDto home) {
+    }
+}
@@ -30,6 +30,7 @@ public class MemberService {
     private final RedisSessionUtil redisSessionUtil;
     private final PasswordEncoder passwordEncoder;
     private final FriendRepository friendRepository;
+    private final HomeSnapshotCache homeSnapshotCache;
 
     /**
      * ID로 Member 조회
@@ -85,6 +86,7 @@ public class MemberService {
 
         member.changeTel(requestDto.getTel());
         memberRepository.save(member);
+        homeSnapshotCache.invalidate(memberId); // 홈 화면 Snapshot 삭제 (회원 정보 변경)
 
         // 수정 성공시 성공 세션 삭제
         smsAuthUtil.cleanupSuccessSmsSession(requestDto.getTel(), "tel");
@@ -205,6 +207,7 @@ public class MemberService {
         String encodedPin = passwordEncoder.encode(requestDto.getTransferPin());
         member.changeTransferPin(encodedPin);
         memberRepository.save(member);
+        homeSnapshotCache.invalidate(member.getId()); // 홈 화면 Snapshot 삭제 (출금 비밀번호 설정 여부 변경)
 
         // 성공시 성공 세션 삭제
         smsAuthUtil.cleanupSuccessSmsSession(member.getTel(), "pin");
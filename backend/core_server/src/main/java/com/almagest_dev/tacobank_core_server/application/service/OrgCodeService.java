@@ -2,20 +2,79 @@ package com.almagest_dev.tacobank_core_server.application.service;
 
 import com.almagest_dev.tacobank_core_server.domain.bankCode.OrgCode;
 import com.almagest_dev.tacobank_core_server.domain.bankCode.OrgCodeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import lombok.RequiredArgsConstructor;
 
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 은행 코드 -> 기관명 조회 (메모리)
+ *  - org_code 테이블 전체를 불변 Map 으로 보관 (애플리케이션 시작 시 로드)
+ *  - org-code.refresh-interval 주기 또는 관리자 요청(/taco/core/admin/org-codes/refresh)으로 다시 로드
+ *  - 로드 전이거나 Map 에 없는 코드는 DB 조회
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class OrgCodeService {
 
     private final OrgCodeRepository orgCodeRepository;
 
+    private volatile Map<String, String> bankNames = Map.of();
+
     public String getBankNameByCode(String code) {
-        OrgCode orgCode = orgCodeRepository.findByCode(code).orElse(null);
+        String bankName = code != null ? bankNames.get(code) : null;
+        if (bankName != null) {
+            return bankName;
+        }
+        OrgCode orgCode = code != null ? orgCodeRepository.findByCode(code).orElse(null) : null;
         if (orgCode != null) {
             return orgCode.getName();
         }
         throw new IllegalArgumentException("Invalid bank code: " + code);
     }
+
+    /**
+     * 애플리케이션 시작 시 로드
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.warn("OrgCodeService::load 은행 코드 로드 실패 (DB 조회로 대체) - Error: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 주기적 갱신
+     */
+    @Scheduled(fixedDelayString = "${org-code.refresh-interval:1h}", initialDelayString = "${org-code.refresh-interval:1h}")
+    public void scheduledRefresh() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.warn("OrgCodeService::scheduledRefresh 은행 코드 갱신 실패 (기존 값 유지) - Error: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * org_code 테이블 다시 로드 (이 서버의 Map 만 교체)
+     * @return 로드된 은행 코드 수
+     */
+    public int refresh() {
+        Map<String, String> loaded = orgCodeRepository.findAll().stream()
+                .filter(orgCode -> orgCode.getCode() != null && orgCode.getName() != null)
+                .collect(Collectors.collectingAndThen(
+                        Collectors.toMap(OrgCode::getCode, OrgCode::getName, (first, second) -> first),
+                        Map::copyOf));
+        bankNames = loaded;
+        log.info("OrgCodeService::refresh 은행 코드 로드 - 건수: {}", loaded.size());
+        return loaded.size();
+    }
 }
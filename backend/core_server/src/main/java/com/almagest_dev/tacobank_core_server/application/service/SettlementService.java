@@ -15,21 +15,16 @@ import com.almagest_dev.tacobank_core_server.domain.settlememt.model.Settlement;
 import com.almagest_dev.tacobank_core_server.domain.settlememt.model.SettlementDetails;
 import com.almagest_dev.tacobank_core_server.domain.settlememt.repository.SettlementDetailsRepository;
 import com.almagest_dev.tacobank_core_server.domain.settlememt.repository.SettlementRepository;
-import com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.client.TestbedApiClient;
-
 import com.almagest_dev.tacobank_core_server.presentation.dto.account.AccountInfoWithBalance;
 import com.almagest_dev.tacobank_core_server.presentation.dto.account.AccountDto;
 import com.almagest_dev.tacobank_core_server.presentation.dto.receipt.ProductMemberDetails;
 import com.almagest_dev.tacobank_core_server.presentation.dto.settlement.*;
-import com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.dto.BalanceInquiryApiRequestDto;
 import com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.dto.BalanceInquiryApiResponseDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -50,7 +45,7 @@ public class SettlementService {
     private final ReceiptRepository receiptRepository;
     private final ReceiptProductRepository receiptProductRepository;
     private final ReceiptMemberRepository receiptMemberRepository;
-    private final TestbedApiClient testbedApiClient;
+    private final BalanceInquiryService balanceInquiryService;
     private final OrgCodeService orgCodeService;
 
     /**
@@ -371,26 +366,19 @@ public class SettlementService {
             throw new IllegalArgumentException("출금할 수 있는 계좌가 없습니다. 출금을 위한 본인 인증을 진행해주세요.");
         }
 
-        // TestBed 잔액조회 호출
+        // TestBed 잔액조회 호출 (병렬)
         log.info("SettlementService::validateSettlementsAndGetAvailableBalances 다건 잔액 조회");
+        Map<String, BalanceInquiryApiResponseDto> balances = balanceInquiryService.inquireBalances(
+                member.getUserFinanceId(),
+                availableAccounts.stream().map(Account::getFintechUseNum).toList()
+        );
+
         List<AccountInfoWithBalance> accountInfoWithBalances = new ArrayList<>();
         for (Account account : availableAccounts) {
-            BalanceInquiryApiRequestDto apiRequestDto = new BalanceInquiryApiRequestDto(
-                    member.getUserFinanceId(),
-                    account.getFintechUseNum(),
-                    LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"))
-            );
-            // API 호출
-            BalanceInquiryApiResponseDto apiResponse = testbedApiClient.requestApi(
-                    apiRequestDto,
-                    "/openbank/account",
-                    BalanceInquiryApiResponseDto.class
-            );
-            log.info("SettlementService::validateSettlementsAndGetAvailableBalances 잔액 조회 Response: {} ", apiResponse);
+            BalanceInquiryApiResponseDto apiResponse = balances.get(account.getFintechUseNum());
 
             // 개별 계좌 잔액 조회 실패 - 해당 계좌 잔액 0원으로 Return
-            if (apiResponse.getApiTranId() == null || !apiResponse.getRspCode().equals("A0000") || apiResponse.getBalanceAmt() == null) {
-                log.warn("계좌 잔액 조회에 실패했습니다. - " + apiResponse.getRspMessage());
+            if (apiResponse == null) {
                 accountInfoWithBalances.add(new AccountInfoWithBalance(
                         account.getId()
                         , ""
@@ -402,7 +390,7 @@ public class SettlementService {
                 continue;
             }
             // 개별 계좌 잔액 조회 성공 - 계좌별 잔액 객체에 추가
-            int balance = (apiResponse.getBalanceAmt() == null) ? 0 : Integer.parseInt(apiResponse.getBalanceAmt());
+            int balance = Integer.parseInt(apiResponse.getBalanceAmt());
             String bankName = orgCodeService.getBankNameByCode(account.getBankCode());
 
             accountInfoWithBalances.add(new AccountInfoWithBalance(
@@ -0,0 +1,496 @@
+package com.almagest_dev.tacobank_core_server.application.service;
+
+import com.almagest_dev.tacobank_core_server.common.constants.RedisKeyConstants;
+import com.almagest_dev.tacobank_core_server.common.exception.TestbedApiException;
+import com.almagest_dev.tacobank_core_server.common.utils.RedisLockUtil;
+import com.almagest_dev.tacobank_core_server.domain.transaction.model.TransactionHistory;
+import com.almagest_dev.tacobank_core_server.domain.transaction.model.TransactionSyncWatermark;
+import com.almagest_dev.tacobank_core_server.domain.transaction.repository.TransactionHistoryRepository;
+import com.almagest_dev.tacobank_core_server.domain.transaction.repository.TransactionSyncWatermarkRepository;
+import com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.client.TestbedApiClient;
+import com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.dto.TransactionDetailApiDto;
+import com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.dto.TransactionListApiRequestDto;
+import com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.util.TransactionListStreamParser;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 계좌 거래 내역 저장소 (transaction_history)
+ *  - 조회는 저장된 거래 내역에서 수행 (fintech_use_num, tran_date, tran_time 인덱스)
+ *  - 동기화: 저장 범위(transaction_sync_watermark)의 마지막 거래 일자 이후 거래만 테스트베드에 요청
+ *      - 최초: transaction.history.initial-period 기간 전체 저장
+ *      - 저장 범위보다 이전 기간 조회 시 해당 기간만 추가 저장
+ *      - 마지막 동기화 후 transaction.history.fresh-for 동안은 테스트베드 요청 없이 조회 (송금 시 즉시 만료)
+ *      - 동기화 중 만료된 경우 동기화 결과로 덮어쓰지 않음 (version 충돌)
+ *  - 계좌별 동기화는 1건만 수행 (Redis 잠금), (fintechUseNum, tranNum) 기준 중복 저장 방지
+ *  - 1회 동기화는 transaction.history.max-fetch-pages 페이지까지만 요청, 나머지는 다음 조회 시 이어서 동기화
+ *      - 최초/이전 기간: 최신순으로 받은 일자까지만 저장 범위로 기록
+ *      - 최근 거래: 과거순으로 받은 마지막 거래까지만 기록, 동기화 완료 처리 X
+ *  - 홈 화면(최근 거래): 최초 동기화는 백그라운드에서 수행, 완료 전에는 테스트베드에서 최근 거래 1페이지만 조회
+ *  - 메트릭: transaction.history.sync{result=fresh|initial|incremental|partial|stale|busy}
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TransactionHistoryService {
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final long LOCK_RETRY_INTERVAL_MS = 100;
+    private static final String SORT_LATEST = "D"; // 최신순
+    private static final String SORT_OLDEST = "A"; // 과거순
+
+    private final TestbedApiClient testbedApiClient;
+    private final TransactionListStreamParser transactionListStreamParser;
+    private final TransactionHistoryRepository transactionHistoryRepository;
+    private final TransactionSyncWatermarkRepository transactionSyncWatermarkRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final RedisLockUtil redisLockUtil;
+    private final MeterRegistry meterRegistry;
+    @Qualifier("transactionSyncExecutor")
+    private final Executor transactionSyncExecutor;
+    private final Set<String> backgroundSyncs = ConcurrentHashMap.newKeySet(); // 백그라운드 동기화 중인 계좌 (중복 요청 방지)
+
+    @Value("${transaction.history.initial-period:365d}")
+    private Duration initialPeriod;
+    @Value("${transaction.history.fresh-for:30s}")
+    private Duration freshFor;
+    @Value("${transaction.history.fetch-page-size:100}")
+    private int fetchPageSize;
+    @Value("${transaction.history.max-fetch-pages:50}")
+    private int maxFetchPages;
+    @Value("${transaction.history.lock-ttl:60s}")
+    private Duration lockTtl;
+    @Value("${transaction.history.lock-wait:5s}")
+    private Duration lockWait;
+
+    /**
+     * 거래 내역 동기화 - 조회 기간이 저장 범위 안에 있고 최근에 동기화했으면 생략
+     * @param fromDate 조회 시작 일자 (yyyyMMdd, null 이면 기본 저장 범위)
+     * @return 동기화 후 저장 범위 (잔액 포함)
+     */
+    public TransactionSyncWatermark sync(String fintechUseNum, String fromDate) {
+        return sync(fintechUseNum, resolveCoverFrom(fromDate), transactionSyncWatermarkRepository.findById(fintechUseNum).orElse(null));
+    }
+
+    /**
+     * @param coverFrom 저장 범위 시작 일자 (yyyyMMdd)
+     * @param watermark 현재 저장 범위 (없으면 null)
+     */
+    private TransactionSyncWatermark sync(String fintechUseNum, String coverFrom, TransactionSyncWatermark watermark) {
+        if (isCovered(watermark, coverFrom) && isFresh(watermark)) {
+            record("fresh");
+            return watermark;
+        }
+
+        String lockKey = RedisKeyConstants.TRANSACTION_HISTORY_SYNC_LOCK_PREFIX + fintechUseNum;
+        String owner = UUID.randomUUID().toString();
+        // 다른 요청에서 동기화 중 - 저장 범위 안이면 저장된 내역으로 응답, 아니면 동기화 완료까지 대기
+        boolean locked = isCovered(watermark, coverFrom) ? redisLockUtil.tryLock(lockKey, owner, lockTtl) : acquireLock(lockKey, owner);
+        if (!locked) {
+            record("busy");
+            if (isCovered(watermark, coverFrom)) {
+                return watermark;
+            }
+            throw new TestbedApiException("거래 내역을 불러오는 중입니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE);
+        }
+
+        try {
+            // 잠금 대기 중 다른 요청에서 동기화했을 수 있으므로 다시 조회
+            watermark = transactionSyncWatermarkRepository.findById(fintechUseNum).orElse(null);
+            if (isCovered(watermark, coverFrom) && isFresh(watermark)) {
+                record("fresh");
+                return watermark;
+            }
+            return syncLocked(fintechUseNum, coverFrom, watermark);
+        } finally {
+            redisLockUtil.unlock(lockKey, owner);
+        }
+    }
+
+    /**
+     * 저장된 거래 내역 페이지 조회 (최신순, Keyset)
+     *  - (tranDate, tranTime, tranNum) 기준으로 Cursor 이후 size + 1 건만 조회하여 다음 페이지 여부 판단
+     * @param fromDate 조회 시작 일자 (yyyyMMdd, null 이면 기본 저장 범위)
+     * @param toDate   조회 종료 일자 (yyyyMMdd, null 이면 오늘)
+     * @param after    이전 페이지의 마지막 거래 (첫 페이지는 null)
+     */
+    public TransactionPage findTransactions(String fintechUseNum, String fromDate, String toDate, Cursor after, int size) {
+        String from = parseDate(fromDate) != null ? fromDate : resolveCoverFrom(null);
+        String to = parseDate(toDate) != null ? toDate : LocalDate.now().format(DATE);
+        PageRequest limit = PageRequest.of(0, size + 1);
+
+        List<TransactionHistory> transactions = after == null
+                ? transactionHistoryRepository.findByFintechUseNumAndTranDateBetweenOrderByTranDateDescTranTimeDescTranNumDesc(fintechUseNum, from, to, limit)
+                : transactionHistoryRepository.findNextPage(fintechUseNum, from, to, after.tranDate(), after.tranTime(), after.tranNum(), limit);
+
+        if (transactions.size() <= size) {
+            return new TransactionPage(transactions, null);
+        }
+        List<TransactionHistory> items = transactions.subList(0, size);
+        TransactionHistory last = items.get(size - 1);
+        return new TransactionPage(items, new Cursor(last.getTranDate(), last.getTranTime(), last.getTranNum()));
+    }
+
+    /**
+     * 최근 거래 내역 조회 (홈 화면)
+     *  - 저장 범위가 있으면 마지막 거래 이후만 동기화 (저장 범위 확장 X) 후 저장된 내역에서 최신순
+     *  - 최초 조회: 기본 저장 범위 동기화는 백그라운드에서 수행, 테스트베드에서 최근 limit 건만 조회 (저장 X)
+     */
+    public List<TransactionHistory> findRecentTransactions(String fintechUseNum, int limit) {
+        TransactionSyncWatermark watermark = transactionSyncWatermarkRepository.findById(fintechUseNum).orElse(null);
+        if (watermark == null) {
+            syncInBackground(fintechUseNum);
+            return fetchLatest(fintechUseNum, limit);
+        }
+        sync(fintechUseNum, watermark.getCoveredFromDate(), watermark);
+        return findTransactions(fintechUseNum, null, null, null, limit).items();
+    }
+
+    /**
+     * 기본 저장 범위 백그라운드 동기화 - 계좌별 1건만 요청, Pool 초과 시 생략 (다음 조회 시 다시 요청)
+     */
+    private void syncInBackground(String fintechUseNum) {
+        if (!backgroundSyncs.add(fintechUseNum)) {
+            return;
+        }
+        try {
+            transactionSyncExecutor.execute(() -> {
+                try {
+                    sync(fintechUseNum, null);
+                } catch (RuntimeException e) {
+                    log.warn("TransactionHistoryService::syncInBackground 거래 내역 동기화 실패 - fintechUseNum: {}, {}", fintechUseNum, e.getMessage());
+                } finally {
+                    backgroundSyncs.remove(fintechUseNum);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            backgroundSyncs.remove(fintechUseNum);
+            log.warn("TransactionHistoryService::syncInBackground 거래 내역 동기화 생략 (작업 Queue 초과) - fintechUseNum: {}", fintechUseNum);
+        }
+    }
+
+    /**
+     * 테스트베드에서 최근 거래 limit 건 조회 (1페이지, 저장 X)
+     */
+    private List<TransactionHistory> fetchLatest(String fintechUseNum, int limit) {
+        TransactionListApiRequestDto apiRequestDto = createTransactionListApiRequest(fintechUseNum, resolveCoverFrom(null), LocalDate.now().format(DATE), SORT_LATEST, null);
+        apiRequestDto.setDataLength(String.valueOf(limit));
+        TransactionListStreamParser.Page<TransactionHistory> page = testbedApiClient.requestApiStream(
+                apiRequestDto,
+                "/openbank/tranlist",
+                body -> transactionListStreamParser.parse(body, transaction -> toTransactionHistory(fintechUseNum, transaction), limit)
+        );
+        if (!"A0000".equals(page.header().getRspCode())) {
+            log.warn("TransactionHistoryService::fetchLatest 거래 내역 조회 실패 - fintechUseNum: {}, rspCode: {}, rspMessage: {}",
+                    fintechUseNum, page.header().getRspCode(), page.header().getRspMessage());
+            throw new TestbedApiException("거래 내역 조회에 실패했습니다.", HttpStatus.BAD_GATEWAY);
+        }
+        return page.items();
+    }
+
+    /**
+     * 다음 조회 시 동기화 (송금 등으로 새 거래 발생)
+     */
+    public void markStale(String... fintechUseNums) {
+        List<String> targets = Arrays.stream(fintechUseNums).filter(Objects::nonNull).distinct().toList();
+        if (targets.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> transactionSyncWatermarkRepository.markStaleByFintechUseNumIn(targets));
+    }
+
+    /**
+     * 동기화 (잠금 획득 후)
+     */
+    private TransactionSyncWatermark syncLocked(String fintechUseNum, String coverFrom, TransactionSyncWatermark watermark) {
+        String today = LocalDate.now().format(DATE);
+        FetchResult result;
+
+        if (watermark == null) {
+            // 최초 - 기본 저장 범위 전체 (최신순, 요청 한도 초과 시 받은 일자까지만 저장 범위로 기록)
+            result = fetchAndStore(fintechUseNum, coverFrom, today, SORT_LATEST);
+            watermark = TransactionSyncWatermark.createWatermark(fintechUseNum, result.complete() ? coverFrom : result.coveredFrom(coverFrom));
+            watermark.markSynced(result.lastTranDate(), result.lastTranTime(), result.balanceAmt());
+            record(result.complete() ? "initial" : "partial");
+        } else {
+            boolean complete = true;
+            // 저장 범위 이전 기간 - 해당 기간만 추가 저장 (최신순, 요청 한도 초과 시 받은 일자까지만 저장 범위 확장)
+            if (coverFrom.compareTo(watermark.getCoveredFromDate()) < 0) {
+                String backfillTo = LocalDate.parse(watermark.getCoveredFromDate(), DATE).minusDays(1).format(DATE);
+                FetchResult backfill = fetchAndStore(fintechUseNum, coverFrom, backfillTo, SORT_LATEST);
+                watermark.extendCoveredFrom(backfill.complete() ? coverFrom : backfill.coveredFrom(watermark.getCoveredFromDate()));
+                complete = backfill.complete();
+            }
+            // 마지막 거래 일자 이후 거래만 요청 (같은 일자 거래는 tranNum 으로 중복 제외)
+            //  - 과거순: 요청 한도 초과 시 받은 마지막 거래까지만 기록, 다음 조회 시 이어서 요청
+            String incrementalFrom = watermark.getLastTranDate() != null ? watermark.getLastTranDate() : watermark.getCoveredFromDate();
+            result = fetchAndStore(fintechUseNum, incrementalFrom, today, SORT_OLDEST);
+            complete &= result.complete();
+            if (complete) {
+                watermark.markSynced(result.lastTranDate(), result.lastTranTime(), result.balanceAmt());
+            } else {
+                watermark.markPartiallySynced(result.lastTranDate(), result.lastTranTime(), result.balanceAmt());
+            }
+            record(complete ? "incremental" : "partial");
+        }
+
+        TransactionSyncWatermark synced = watermark;
+        try {
+            transactionTemplate.executeWithoutResult(status -> transactionSyncWatermarkRepository.save(synced));
+        } catch (OptimisticLockingFailureException e) {
+            // 동기화 중 송금 등으로 만료됨 - 만료 상태를 유지하여 다음 조회 시 다시 동기화 (저장된 거래는 tranNum 으로 중복 제외)
+            log.info("TransactionHistoryService::sync 동기화 중 만료됨, 다음 조회 시 다시 동기화 - fintechUseNum: {}", fintechUseNum);
+            record("stale");
+            return watermark;
+        }
+        log.info("TransactionHistoryService::sync 거래 내역 동기화 - fintechUseNum: {}, 저장: {}건, 저장 범위: {} ~ {}, 동기화 완료: {}",
+                fintechUseNum, result.inserted(), watermark.getCoveredFromDate(), watermark.getLastTranDate(), watermark.getSyncedDate() != null);
+        return watermark;
+    }
+
+    /**
+     * 기간 내 거래 내역을 페이지 단위로 요청하여 새 거래만 저장
+     *  - transaction.history.max-fetch-pages 페이지까지 요청, 다음 페이지가 남아 있으면 complete = false
+     *  - 페이지 크기를 넘는 항목을 건너뛴 응답도 complete = false (받지 못한 거래를 저장 범위에 포함하지 않음)
+     * @param sortOrder D(최신순) | A(과거순)
+     */
+    private FetchResult fetchAndStore(String fintechUseNum, String fromDate, String toDate, String sortOrder) {
+        FetchResult result = FetchResult.EMPTY;
+        String cursor = null;
+        for (int pageCount = 0; pageCount < maxFetchPages; pageCount++) {
+            TransactionListApiRequestDto apiRequestDto = createTransactionListApiRequest(fintechUseNum, fromDate, toDate, sortOrder, cursor);
+            TransactionListStreamParser.Page<TransactionHistory> page = testbedApiClient.requestApiStream(
+                    apiRequestDto,
+                    "/openbank/tranlist",
+                    body -> transactionListStreamParser.parse(body, transaction -> toTransactionHistory(fintechUseNum, transaction), fetchPageSize)
+            );
+            if (!"A0000".equals(page.header().getRspCode())) {
+                log.warn("TransactionHistoryService::fetchAndStore 거래 내역 조회 실패 - fintechUseNum: {}, rspCode: {}, rspMessage: {}",
+                        fintechUseNum, page.header().getRspCode(), page.header().getRspMessage());
+                throw new TestbedApiException("거래 내역 조회에 실패했습니다.", HttpStatus.BAD_GATEWAY);
+            }
+
+            result = result.merge(page.items(), storeNew(fintechUseNum, page.items()), page.header().getBalanceAmt());
+            if (page.truncated()) {
+                // 페이지 크기를 넘는 항목은 받지 못함 - 받은 거래까지만 기록, 다음 조회 시 이어서 동기화
+                log.warn("TransactionHistoryService::fetchAndStore 페이지 크기 초과 응답, 다음 조회 시 이어서 동기화 - fintechUseNum: {}, 기간: {} ~ {}, 저장 거래: {} ~ {}",
+                        fintechUseNum, fromDate, toDate, result.oldestTranDate(), result.lastTranDate());
+                return result.incomplete();
+            }
+            if (!page.hasNext()) {
+                return result;
+            }
+            cursor = page.header().getBeforInquiryTraceInfo();
+        }
+        log.warn("TransactionHistoryService::fetchAndStore 요청 한도 초과, 다음 조회 시 이어서 동기화 - fintechUseNum: {}, 기간: {} ~ {}, 저장 거래: {} ~ {}",
+                fintechUseNum, fromDate, toDate, result.oldestTranDate(), result.lastTranDate());
+        return result.incomplete();
+    }
+
+    /**
+     * 저장되지 않은 거래만 저장
+     * @return 저장 건수
+     */
+    private int storeNew(String fintechUseNum, List<TransactionHistory> transactions) {
+        if (transactions.isEmpty()) {
+            return 0;
+        }
+        Integer inserted = transactionTemplate.execute(status -> {
+            Set<String> existing = new HashSet<>(transactionHistoryRepository.findTranNumsByFintechUseNumAndTranNumIn(
+                    fintechUseNum, transactions.stream().map(TransactionHistory::getTranNum).toList()));
+            List<TransactionHistory> newTransactions = transactions.stream()
+                    .filter(transaction -> existing.add(transaction.getTranNum()))
+                    .toList();
+            transactionHistoryRepository.saveAll(newTransactions);
+            return newTransactions.size();
+        });
+        return inserted != null ? inserted : 0;
+    }
+
+    private TransactionListApiRequestDto createTransactionListApiRequest(String fintechUseNum, String fromDate, String toDate, String sortOrder, String cursor) {
+        TransactionListApiRequestDto apiRequestDto = new TransactionListApiRequestDto();
+        apiRequestDto.setFintechUseNum(fintechUseNum);
+        apiRequestDto.setInquiryType("A"); // 전체 조회
+        apiRequestDto.setInquiryBase("D"); // 날짜 기준
+        apiRequestDto.setFromDate(fromDate);
+        apiRequestDto.setFromTime("000000");
+        apiRequestDto.setToDate(toDate);
+        apiRequestDto.setToTime("240000");
+        apiRequestDto.setSortOrder(sortOrder);
+        apiRequestDto.setTranDtime(LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss")));
+        apiRequestDto.setDataLength(String.valueOf(fetchPageSize));
+        apiRequestDto.setBeforInquiryTraceInfo(cursor);
+        return apiRequestDto;
+    }
+
+    /**
+     * API 거래 내역 항목 -> 저장 Entity (거래 번호가 없으면 거래 일시 + 거래 후 잔액으로 대체)
+     */
+    private TransactionHistory toTransactionHistory(String fintechUseNum, TransactionDetailApiDto transaction) {
+        String tranNum = transaction.getTranNum() != null && !transaction.getTranNum().isBlank()
+                ? transaction.getTranNum()
+                : transaction.getTranDate() + transaction.getTranTime() + "-" + transaction.getAfterBalanceAmt();
+        return TransactionHistory.createTransactionHistory(
+                fintechUseNum,
+                tranNum,
+                transaction.getTranDate(),
+                transaction.getTranTime(),
+                transaction.getInoutType(),
+                transaction.getTranType(),
+                transaction.getPrintContent(),
+                transaction.getTranAmt(),
+                transaction.getAfterBalanceAmt()
+        );
+    }
+
+    /**
+     * 저장 범위 시작 일자 - 조회 시작 일자와 기본 저장 범위 중 이른 날짜
+     */
+    private String resolveCoverFrom(String fromDate) {
+        LocalDate defaultFrom = LocalDate.now().minusDays(initialPeriod.toDays());
+        LocalDate requestedFrom = parseDate(fromDate);
+        return (requestedFrom != null && requestedFrom.isBefore(defaultFrom) ? requestedFrom : defaultFrom).format(DATE);
+    }
+
+    private LocalDate parseDate(String date) {
+        if (date == null || date.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(date, DATE);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private boolean isCovered(TransactionSyncWatermark watermark, String coverFrom) {
+        return watermark != null && watermark.getCoveredFromDate().compareTo(coverFrom) <= 0;
+    }
+
+    private boolean isFresh(TransactionSyncWatermark watermark) {
+        return watermark.getSyncedDate() != null && watermark.getSyncedDate().plus(freshFor).isAfter(LocalDateTime.now());
+    }
+
+    /**
+     * 잠금 획득 (transaction.history.lock-wait 동안 재시도)
+     */
+    private boolean acquireLock(String lockKey, String owner) {
+        long deadline = System.currentTimeMillis() + lockWait.toMillis();
+        while (true) {
+            if (redisLockUtil.tryLock(lockKey, owner, lockTtl)) {
+                return true;
+            }
+            if (System.currentTimeMillis() >= deadline) {
+                return false;
+            }
+            try {
+                Thread.sleep(LOCK_RETRY_INTERVAL_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+
+    private void record(String result) {
+        meterRegistry.counter("transaction.history.sync", "result", result).increment();
+    }
+
+    /**
+     * 테스트베드 조회 결과 요약
+     * @param oldestTranDate 받은 거래 중 가장 이른 거래 일자
+     * @param balanceAmt     첫 페이지 응답의 현재 잔액
+     * @param complete       기간 내 거래를 모두 받았는지 (false: 요청 한도 초과, 페이지 크기 초과 응답)
+     */
+    private record FetchResult(int inserted, String oldestTranDate, String lastTranDate, String lastTranTime, String balanceAmt, boolean complete) {
+        static final FetchResult EMPTY = new FetchResult(0, null, null, null, null, true);
+
+        FetchResult merge(List<TransactionHistory> transactions, int insertedCount, String pageBalanceAmt) {
+            String oldestDate = oldestTranDate;
+            String latestDate = lastTranDate;
+            String latestTime = lastTranTime;
+            for (TransactionHistory transaction : transactions) {
+                if (oldestDate == null || transaction.getTranDate().compareTo(oldestDate) < 0) {
+                    oldestDate = transaction.getTranDate();
+                }
+                if (latestDate == null || (transaction.getTranDate() + transaction.getTranTime()).compareTo(latestDate + latestTime) > 0) {
+                    latestDate = transaction.getTranDate();
+                    latestTime = transaction.getTranTime();
+                }
+            }
+            return new FetchResult(inserted + insertedCount, oldestDate, latestDate, latestTime, balanceAmt != null ? balanceAmt : pageBalanceAmt, complete);
+        }
+
+        FetchResult incomplete() {
+            return new FetchResult(inserted, oldestTranDate, lastTranDate, lastTranTime, balanceAmt, false);
+        }
+
+        /**
+         * 최신순 조회가 중간에 끝난 경우 모두 저장된 시작 일자 (가장 이른 거래 일자는 일부만 받았을 수 있으므로 다음 일자)
+         * @param fallback 받은 거래가 없을 때 저장 범위 시작 일자
+         */
+        String coveredFrom(String fallback) {
+            return oldestTranDate != null ? LocalDate.parse(oldestTranDate, DATE).plusDays(1).format(DATE) : fallback;
+        }
+    }
+
+    /**
+     * 거래 내역 페이지
+     * @param next 다음 페이지 조회 Cursor (마지막 페이지는 null)
+     */
+    public record TransactionPage(List<TransactionHistory> items, Cursor next) {
+        public boolean hasNext() {
+            return next != null;
+        }
+    }
+
+    /**
+     * 거래 내역 페이지 Cursor - 이전 페이지 마지막 거래의 (tranDate, tranTime, tranNum)
+     *  - 클라이언트에는 URL-safe Base64 문자열로 전달
+     */
+    public record Cursor(String tranDate, String tranTime, String tranNum) {
+        private static final String DELIMITER = "|";
+
+        public String encode() {
+            String raw = String.join(DELIMITER, tranDate, tranTime, tranNum);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        /**
+         * @return cursor 가 없으면 null
+         * @throws IllegalArgumentException 형식이 올바르지 않은 경우
+         */
+        public static Cursor decode(String cursor) {
+            if (cursor == null || cursor.isBlank()) {
+                return null;
+            }
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", 3);
+                if (parts.length != 3 || parts[0].length() != 8 || parts[1].isEmpty() || parts[2].isEmpty()) {
+                    throw new IllegalArgumentException("다음 페이지 조회 정보가 올바르지 않습니다.");
+                }
+                return new Cursor(parts[0], parts[1], parts[2]);
+            } catch (IllegalArgumentException e) { // Base64 형식 오류 포함
+                throw new IllegalArgumentException("다음 페이지 조회 정보가 올바르지 않습니다.");
+            }
+        }
+    }
+}
@@ -2,125 +2,105 @@ package com.almagest_dev.tacobank_core_server.application.service;
 
 import com.almagest_dev.tacobank_core_server.domain.account.model.Account;
 import com.almagest_dev.tacobank_core_server.domain.account.repository.AccountRepository;
-import com.almagest_dev.tacobank_core_server.domain.bankCode.OrgCode;
-import com.almagest_dev.tacobank_core_server.domain.bankCode.OrgCodeRepository;
-import com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.client.TestbedApiClient;
-import com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.dto.TransactionDetailApiDto;
-import com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.dto.TransactionListApiRequestDto;
-import com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.dto.TransactionListApiResponseDto;
+import com.almagest_dev.tacobank_core_server.domain.transaction.model.TransactionHistory;
+import com.almagest_dev.tacobank_core_server.domain.transaction.model.TransactionSyncWatermark;
 import com.almagest_dev.tacobank_core_server.presentation.dto.transantion.TransactionListRequestDto;
 import com.almagest_dev.tacobank_core_server.presentation.dto.transantion.TransactionDetails;
 import com.almagest_dev.tacobank_core_server.presentation.dto.transantion.TransactionResponseDto;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class TransactionService {
 
-    private final TestbedApiClient testbedApiClient;
     private final AccountRepository accountRepository;
-    private final OrgCodeRepository orgCodeRepository;
-
-    @Transactional
-    public TransactionResponseDto getTransactionList(TransactionListRequestDto requestDto) {
+    private final OrgCodeService orgCodeService;
+    private final TransactionHistoryService transactionHistoryService;
+    @Qualifier("testbedTaskExecutor")
+    private final Executor testbedTaskExecutor;
+
+    @Value("${transaction.list.page-size:20}")
+    private int defaultPageSize;
+    @Value("${transaction.list.max-page-size:100}")
+    private int maxPageSize;
+
+    /**
+     * 거래 내역 조회 (비동기)
+     *  - DB 조회는 요청 Thread 에서 수행, 거래 내역 동기화/조회는 testbedTaskExecutor 에서 수행
+     */
+    public CompletableFuture<TransactionResponseDto> getTransactionListAsync(TransactionListRequestDto requestDto) {
         // 계좌 조회
         Account account = accountRepository.findByIdAndVerified(requestDto.getAccountId(), "Y")
                 .orElseThrow(() -> new IllegalArgumentException("본인 인증된 해당 계좌가 존재하지 않습니다."));
 
-        // @TODO 해당 부분 필요한지 확인
-        //if (accounts.size() > 1) {
-        //    throw new IllegalArgumentException("해당 계좌에 대해 중복된 데이터가 존재합니다. 관리자에게 문의하세요.");
-        //}
-        // 유일한 계좌를 가져옴
-        // Account account = accounts.get(0);
-
         // 계좌 금융 ID 조회
         String fintechUseNum = account.getFintechUseNum();
         if (fintechUseNum == null || fintechUseNum.isEmpty()) {
             throw new IllegalArgumentException("계좌 정보가 유효하지 않습니다. 관리자에게 문의해주세요.");
         }
+        String bankName = orgCodeService.getBankNameByCode(account.getBankCode()); // 은행명 조회
+
+        return CompletableFuture.supplyAsync(() -> loadTransactionList(account, bankName, requestDto), testbedTaskExecutor);
+    }
 
-        // 거래내역 API 호출 요청 생성 및 데이터 조회
-        TransactionListApiResponseDto responseDto = fetchTransactionListFromApi(fintechUseNum, requestDto);
-        List<TransactionDetails> transactionDetails =  mapToTransactionResponseDto(responseDto.getResList());
+    /**
+     * 거래 내역 동기화 (마지막 동기화 이후 거래만 테스트베드에 요청) + 저장된 내역에서 페이지 조회
+     */
+    private TransactionResponseDto loadTransactionList(Account account, String bankName, TransactionListRequestDto requestDto) {
+        String fintechUseNum = account.getFintechUseNum();
+        int pageSize = resolvePageSize(requestDto.getPageSize());
+        TransactionHistoryService.Cursor cursor = TransactionHistoryService.Cursor.decode(requestDto.getCursor());
 
-        // 응답 매핑
-        OrgCode orgCode = orgCodeRepository.findByCode(account.getBankCode()).orElse(null); // 은행 코드 조회
+        TransactionSyncWatermark watermark = transactionHistoryService.sync(fintechUseNum, requestDto.getFromDate());
+        TransactionHistoryService.TransactionPage transactions = transactionHistoryService.findTransactions(
+                fintechUseNum, requestDto.getFromDate(), requestDto.getToDate(), cursor, pageSize);
 
+        log.info("TransactionService::loadTransactionList 거래 내역 조회 - fintechUseNum: {}, 건수: {}, 다음 페이지: {}", fintechUseNum, transactions.items().size(), transactions.hasNext());
         return new TransactionResponseDto(
                 account.getId(),
                 account.getAccountName(),
                 account.getAccountNum(),
                 account.getAccountHolderName(),
-                orgCode.getName(),
+                bankName,
                 account.getBankCode(),
-                responseDto.getBalanceAmt(),
-                transactionDetails
+                watermark.getBalanceAmt(),
+                transactions.items().stream().map(this::mapToTransactionDetails).toList(),
+                transactions.hasNext(),
+                transactions.hasNext() ? transactions.next().encode() : null
         );
     }
 
-    private TransactionListApiResponseDto fetchTransactionListFromApi(String fintechUseNum, TransactionListRequestDto requestDto) {
-
-        LocalDateTime now = LocalDateTime.now();
-        String tranDtime = now.format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
-
-        // API 요청 DTO 생성
-        TransactionListApiRequestDto apiRequestDto = new TransactionListApiRequestDto();
-        apiRequestDto.setFintechUseNum(fintechUseNum); // 금융 ID
-        apiRequestDto.setInquiryType("A"); // 기본값: 전체 조회
-        apiRequestDto.setInquiryBase("D"); // 기본값: 날짜 기준
-        apiRequestDto.setFromDate(requestDto.getFromDate()); // 조회 시작 날짜
-        apiRequestDto.setFromTime("001000"); // 기본값
-        apiRequestDto.setToDate(requestDto.getToDate()); // 조회 종료 날짜
-        apiRequestDto.setToTime("240000"); // 기본값
-        apiRequestDto.setSortOrder("D"); // 기본값: 내림차순
-        apiRequestDto.setTranDtime(tranDtime); // 디폴트 값
-        apiRequestDto.setDataLength(""); // 기본값
-
-        // API 호출
-        TransactionListApiResponseDto responseDto = testbedApiClient.requestApi(
-                apiRequestDto,
-                "/openbank/tranlist",
-                TransactionListApiResponseDto.class
-        );
-
-        // 거래 내역 확인
-        if (responseDto.getResList() == null || responseDto.getResList().isEmpty()) {
-            System.out.println("API 응답의 거래 내역이 비어 있습니다.");
-        } else {
-            System.out.println("API 응답의 거래 내역: " + responseDto.getResList());
+    /**
+     * 요청 페이지 크기 -> 기본값/최대값 적용
+     */
+    private int resolvePageSize(Integer pageSize) {
+        if (pageSize == null || pageSize <= 0) {
+            return defaultPageSize;
         }
-
-        return responseDto;
+        return Math.min(pageSize, maxPageSize);
     }
 
-    private List<TransactionDetails> mapToTransactionResponseDto(List<TransactionDetailApiDto> transactions) {
-
-        if (transactions == null || transactions.isEmpty()) {
-            return List.of(); // 빈 리스트 반환
-        }
-
-        // API 응답 데이터를 클라이언트로 반환하기 위한 DTO로 매핑
-        return transactions.stream()
-                .map(transaction -> {
-                    TransactionDetails responseDto = new TransactionDetails();
-                    responseDto.setTranNum(transaction.getTranNum()); // 거래 ID가 없는 경우 null 처리
-                    responseDto.setType(transaction.getTranType());
-                    responseDto.setAfterBalanceAmount(Double.valueOf(transaction.getAfterBalanceAmt()));
-                    responseDto.setTranDateTime(transaction.getTranDate() + " " + transaction.getTranTime());
-                    String tranAmt = "출금".equals(transaction.getInoutType()) ? "-" + transaction.getTranAmt() : transaction.getTranAmt();
-                    responseDto.setTranAmt(tranAmt);
-                    responseDto.setInoutType(transaction.getInoutType());
-                    responseDto.setPrintContent(transaction.getPrintContent());
-                    return responseDto;
-                })
-                .collect(Collectors.toList());
+    /**
+     * 저장된 거래 내역 -> 클라이언트 반환 DTO
+     */
+    private TransactionDetails mapToTransactionDetails(TransactionHistory transaction) {
+        TransactionDetails responseDto = new TransactionDetails();
+        responseDto.setTranNum(transaction.getTranNum());
+        responseDto.setType(transaction.getTranType());
+        responseDto.setAfterBalanceAmount(Double.valueOf(transaction.getAfterBalanceAmt()));
+        responseDto.setTranDateTime(transaction.getTranDate() + " " + transaction.getTranTime());
+        String tranAmt = "출금".equals(transaction.getInoutType()) ? "-" + transaction.getTranAmt() : transaction.getTranAmt();
+        responseDto.setTranAmt(tranAmt);
+        responseDto.setInoutType(transaction.getInoutType());
+        responseDto.setPrintContent(transaction.getPrintContent());
+        return responseDto;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,139 @@
+package com.almagest_dev.tacobank_core_server.application.service;
+
+import com.almagest_dev.tacobank_core_server.common.constants.RedisKeyConstants;
+import com.almagest_dev.tacobank_core_server.common.utils.RedisCacheUtil;
+import com.almagest_dev.tacobank_core_server.common.utils.RedisLockUtil;
+import com.almagest_dev.tacobank_core_server.domain.transfer.model.TransferIdempotency;
+import com.almagest_dev.tacobank_core_server.domain.transfer.repository.TransferIdempotencyRepository;
+import com.almagest_dev.tacobank_core_server.presentation.dto.transfer.TransferResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+/**
+ * 송금 중복 방지 (idempotencyKey 단위)
+ *  - 선점: Redis SET NX (동시 요청 차단) -> transfer_idempotency INSERT (Unique Index, Redis 장애/TTL 만료 대비)
+ *  - 송금 성공: 응답을 DB + Redis 에 보관, 같은 KEY 재요청 시 검증 없이 보관된 응답 반환
+ *  - 송금 실패(F) 또는 송금 요청 전 종료: 선점 해제 (같은 KEY 로 다시 송금 가능)
+ *  - 결과 불확실(R): 선점 유지 (중복 송금 방지)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TransferIdempotencyService {
+    private static final String CACHE_NAME = "transfer-idempotency";
+
+    private final TransferIdempotencyRepository transferIdempotencyRepository;
+    private final RedisLockUtil redisLockUtil;
+    private final RedisCacheUtil redisCacheUtil;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${transfer.idempotency.claim-ttl:10m}")
+    private Duration claimTtl;
+    @Value("${transfer.idempotency.response-ttl:24h}")
+    private Duration responseTtl;
+
+    /**
+     * 완료된 송금 응답 조회 (Redis -> DB)
+     * @return 같은 멤버의 성공한 송금이 없으면 null
+     */
+    public TransferResponseDto findCompletedResponse(Long memberId, String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return null;
+        }
+        TransferResponseDto cached = redisCacheUtil.get(CACHE_NAME, responseKey(idempotencyKey), TransferResponseDto.class);
+        if (cached != null) {
+            return cached.getMemberId() != null && cached.getMemberId().equals(memberId) ? cached : null;
+        }
+
+        TransferIdempotency claim = transferIdempotencyRepository.findByIdempotencyKey(idempotencyKey).orElse(null);
+        if (claim == null || !"S".equals(claim.getStatus()) || claim.getResponse() == null || !claim.getMemberId().equals(memberId)) {
+            return null;
+        }
+        try {
+            TransferResponseDto response = objectMapper.readValue(claim.getResponse(), TransferResponseDto.class);
+            redisCacheUtil.put(responseKey(idempotencyKey), response, responseTtl);
+            return response;
+        } catch (Exception e) {
+            log.warn("TransferIdempotencyService::findCompletedResponse 응답 변환 실패 - idempotencyKey: {}, Error: {}", idempotencyKey, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 같은 멤버가 선점한 KEY 의 거래 ID 조회 (진행 중 또는 성공)
+     * @return 선점 기록이 없으면 null
+     */
+    public String findTransactionId(Long memberId, String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return null;
+        }
+        return transferIdempotencyRepository.findByIdempotencyKey(idempotencyKey)
+                .filter(claim -> claim.getMemberId().equals(memberId))
+                .map(TransferIdempotency::getTransactionId)
+                .orElse(null);
+    }
+
+    /**
+     * 선점 시도
+     * @return 선점 성공 여부 (false: 진행 중이거나 완료된 같은 KEY 의 송금 존재)
+     */
+    public boolean claim(String idempotencyKey, String transactionId, Long memberId) {
+        if (!redisLockUtil.tryLock(claimKey(idempotencyKey), transactionId, claimTtl)) {
+            // 진행 중인 요청 존재 또는 Redis 장애 - 장애인 경우 DB Unique Index 로 판단
+            if (redisLockUtil.isHeld(claimKey(idempotencyKey))) {
+                return false;
+            }
+        }
+        try {
+            transferIdempotencyRepository.saveAndFlush(TransferIdempotency.createClaim(idempotencyKey, transactionId, memberId));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            log.info("TransferIdempotencyService::claim 이미 선점된 KEY - idempotencyKey: {}", idempotencyKey);
+            redisLockUtil.unlock(claimKey(idempotencyKey), transactionId);
+            return false;
+        }
+    }
+
+    /**
+     * 송금 성공 - 응답 보관
+     */
+    public void complete(String idempotencyKey, String transactionId, TransferResponseDto response) {
+        try {
+            String json = response != null ? objectMapper.writeValueAsString(response) : null;
+            transactionTemplate.executeWithoutResult(status -> transferIdempotencyRepository.findByIdempotencyKey(idempotencyKey)
+                    .filter(claim -> transactionId.equals(claim.getTransactionId()))
+                    .ifPresent(claim -> claim.complete(json)));
+            redisCacheUtil.put(responseKey(idempotencyKey), response, responseTtl);
+        } catch (Exception e) {
+            log.warn("TransferIdempotencyService::complete 송금 응답 보관 실패 - idempotencyKey: {}, Error: {}", idempotencyKey, e.getMessage());
+        }
+    }
+
+    /**
+     * 선점 해제 - 송금 실패 또는 송금 요청 전 종료
+     */
+    public void release(String idempotencyKey, String transactionId) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> transferIdempotencyRepository.deleteClaim(idempotencyKey, transactionId));
+        } catch (Exception e) {
+            log.warn("TransferIdempotencyService::release 선점 해제 실패 - idempotencyKey: {}, Error: {}", idempotencyKey, e.getMessage());
+        }
+        redisLockUtil.unlock(claimKey(idempotencyKey), transactionId);
+    }
+
+    private String claimKey(String idempotencyKey) {
+        return RedisKeyConstants.TRANSFER_IDEMPOTENCY_CLAIM_PREFIX + idempotencyKey;
+    }
+
+    private String responseKey(String idempotencyKey) {
+        return RedisKeyConstants.TRANSFER_IDEMPOTENCY_RESPONSE_PREFIX + idempotencyKey;
+    }
+}
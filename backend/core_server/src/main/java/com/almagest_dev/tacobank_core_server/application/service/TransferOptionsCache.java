@@ -0,0 +1,57 @@
+package com.almagest_dev.tacobank_core_server.application.service;
+
+import com.almagest_dev.tacobank_core_server.common.constants.RedisKeyConstants;
+import com.almagest_dev.tacobank_core_server.common.utils.RedisCacheUtil;
+import com.almagest_dev.tacobank_core_server.presentation.dto.transfer.TransferOptionsResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * 송금 대상 선택 화면(즐겨찾기/최근 이체/친구 메인 계좌) 응답 캐시 (멤버 단위, Redis)
+ *  - 친구 상태 변경, 즐겨찾기 변경, 메인 계좌 변경, 송금 시 삭제
+ *  - 트랜잭션 안에서 삭제 요청 시 커밋 이후 삭제 (커밋 전 조회 결과가 다시 저장되지 않도록)
+ *  - 메트릭: cache.gets{cache=transfer-options}
+ */
+@Component
+@RequiredArgsConstructor
+public class TransferOptionsCache {
+    private static final String CACHE_NAME = "transfer-options";
+
+    private final RedisCacheUtil redisCacheUtil;
+
+    @Value("${transfer.options.cache-ttl:10m}")
+    private Duration ttl;
+
+    public TransferOptionsResponseDto getOrLoad(Long memberId, Supplier<TransferOptionsResponseDto> loader) {
+        return redisCacheUtil.getOrLoad(CACHE_NAME, cacheKey(memberId), TransferOptionsResponseDto.class, ttl, loader, Objects::nonNull);
+    }
+
+    public void invalidate(Long... memberIds) {
+        String[] keys = Arrays.stream(memberIds).filter(Objects::nonNull).distinct().map(this::cacheKey).toArray(String[]::new);
+        if (keys.length == 0) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            redisCacheUtil.evict(keys);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                redisCacheUtil.evict(keys);
+            }
+        });
+    }
+
+    private String cacheKey(Long memberId) {
+        return RedisKeyConstants.TRANSFER_OPTIONS_CACHE_PREFIX + memberId;
+    }
+}
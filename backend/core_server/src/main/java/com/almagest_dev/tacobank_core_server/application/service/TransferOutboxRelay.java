@@ -0,0 +1,207 @@
+package com.almagest_dev.tacobank_core_server.application.service;
+
+import com.almagest_dev.tacobank_core_server.common.constants.RedisKeyConstants;
+import com.almagest_dev.tacobank_core_server.common.utils.RedisLockUtil;
+import com.almagest_dev.tacobank_core_server.domain.account.model.Account;
+import com.almagest_dev.tacobank_core_server.domain.account.repository.AccountRepository;
+import com.almagest_dev.tacobank_core_server.domain.settlememt.repository.SettlementDetailsRepository;
+import com.almagest_dev.tacobank_core_server.domain.settlememt.repository.SettlementRepository;
+import com.almagest_dev.tacobank_core_server.domain.transfer.model.Transfer;
+import com.almagest_dev.tacobank_core_server.domain.transfer.model.TransferOutbox;
+import com.almagest_dev.tacobank_core_server.domain.transfer.repository.TransferOutboxRepository;
+import com.almagest_dev.tacobank_core_server.domain.transfer.repository.TransferRepository;
+import com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.client.TestbedResponseCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 송금 후속 처리 (transfer_outbox Relay)
+ *  - 송금 성공(S): 개별 정산/정산 상태 반영 + 입금 회원 알림
+ *  - 모든 결과(S, F, R): 출금/입금 계좌 응답 캐시, 홈 화면 Snapshot, 송금 대상 캐시 삭제 + 거래 내역 동기화 예약
+ *  - Outbox 1건 단위 트랜잭션 (후속 처리 + 처리 완료 변경), 실패 시 다음 주기에 재시도 (최소 1회 처리 보장)
+ *  - 여러 서버 중 1대만 실행 (Redis 잠금), 송금 직후 즉시 1회 실행 + transfer.outbox.fixed-delay 주기 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TransferOutboxRelay {
+    private final TransferOutboxRepository transferOutboxRepository;
+    private final TransferRepository transferRepository;
+    private final AccountRepository accountRepository;
+    private final SettlementRepository settlementRepository;
+    private final SettlementDetailsRepository settlementDetailsRepository;
+    private final NotificationService notificationService;
+    private final TestbedResponseCache testbedResponseCache;
+    private final HomeSnapshotCache homeSnapshotCache;
+    private final TransferOptionsCache transferOptionsCache;
+    private final TransactionHistoryService transactionHistoryService;
+    private final RedisLockUtil redisLockUtil;
+    private final TransactionTemplate transactionTemplate;
+    @Qualifier("testbedCallbackExecutor")
+    private final Executor testbedCallbackExecutor;
+
+    @Value("${transfer.outbox.enabled:true}")
+    private boolean enabled;
+    @Value("${transfer.outbox.batch-size:100}")
+    private int batchSize;
+    @Value("${transfer.outbox.max-attempts:10}")
+    private int maxAttempts;
+    @Value("${transfer.outbox.lock-ttl:30s}")
+    private Duration lockTtl;
+
+    /**
+     * 송금 직후 즉시 처리 요청 (다른 서버/주기 실행 중이면 다음 주기에 처리)
+     */
+    public void relayAsync() {
+        try {
+            testbedCallbackExecutor.execute(this::relay);
+        } catch (RejectedExecutionException e) {
+            log.warn("TransferOutboxRelay::relayAsync 즉시 처리 요청 거부 - 다음 주기에 처리");
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${transfer.outbox.fixed-delay:1s}", initialDelayString = "${transfer.outbox.fixed-delay:1s}")
+    public void relay() {
+        if (!enabled) {
+            return;
+        }
+        String owner = UUID.randomUUID().toString();
+        if (!redisLockUtil.tryLock(RedisKeyConstants.TRANSFER_OUTBOX_RELAY_LOCK, owner, lockTtl)) {
+            return; // 다른 서버에서 실행 중
+        }
+        try {
+            long startedAt = System.currentTimeMillis();
+            List<TransferOutbox> batch;
+            int processed = 0;
+            int failed = 0;
+            do {
+                batch = transferOutboxRepository.findByStatusOrderByIdAsc("P", PageRequest.of(0, batchSize));
+                for (TransferOutbox outbox : batch) {
+                    if (process(outbox.getId())) {
+                        processed++;
+                    } else {
+                        failed++;
+                    }
+                }
+                // 실패 건만 남은 경우 다음 주기에 재시도, 잠금 유지 시간의 절반까지만 처리
+            } while (batch.size() == batchSize && failed == 0 && System.currentTimeMillis() - startedAt < lockTtl.toMillis() / 2);
+
+            if (processed > 0 || failed > 0) {
+                log.info("TransferOutboxRelay::relay 송금 후속 처리 - 완료: {}, 실패: {}, 소요: {}ms", processed, failed, System.currentTimeMillis() - startedAt);
+            }
+        } catch (Exception e) {
+            log.warn("TransferOutboxRelay::relay 송금 후속 처리 실패 - Error: {}", e.getMessage());
+        } finally {
+            redisLockUtil.unlock(RedisKeyConstants.TRANSFER_OUTBOX_RELAY_LOCK, owner);
+        }
+    }
+
+    /**
+     * Outbox 1건 처리
+     * @return 처리 성공 여부
+     */
+    private boolean process(Long outboxId) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                TransferOutbox outbox = transferOutboxRepository.findById(outboxId).orElse(null);
+                if (outbox == null || !"P".equals(outbox.getStatus())) {
+                    return;
+                }
+                Transfer transfer = transferRepository.findById(outbox.getTransferId()).orElse(null);
+                if (transfer != null) {
+                    List<Account> receiverAccounts = accountRepository.findWithMemberByAccountNum(transfer.getReceiverAccountNum()).stream()
+                            .filter(account -> transfer.getReceiverBankCode() == null || transfer.getReceiverBankCode().equals(account.getBankCode()))
+                            .toList();
+                    if ("S".equals(transfer.getStatus())) {
+                        applySettlement(transfer);
+                        notifyReceivers(transfer, receiverAccounts);
+                    }
+                    evictAccountCaches(transfer, receiverAccounts);
+                }
+                outbox.markProcessed();
+            });
+            return true;
+        } catch (Exception e) {
+            log.warn("TransferOutboxRelay::process 송금 후속 처리 실패 - outboxId: {}, Error: {}", outboxId, e.getMessage());
+            try {
+                transactionTemplate.executeWithoutResult(status -> transferOutboxRepository.findById(outboxId)
+                        .ifPresent(outbox -> {
+                            outbox.markFailed(e.getMessage(), maxAttempts);
+                            if ("F".equals(outbox.getStatus())) {
+                                log.error("TransferOutboxRelay::process 재시도 횟수 초과 - outboxId: {}, transferId: {}", outboxId, outbox.getTransferId());
+                            }
+                        }));
+            } catch (Exception ex) {
+                log.warn("TransferOutboxRelay::process 실패 기록 실패 - outboxId: {}, Error: {}", outboxId, ex.getMessage());
+            }
+            return false;
+        }
+    }
+
+    /**
+     * 정산 송금 - 개별 정산 완료, 모든 개별 정산이 완료되면 정산 완료
+     */
+    private void applySettlement(Transfer transfer) {
+        if (transfer.getSettlementId() == null || transfer.getSettlementId() <= 0) {
+            return;
+        }
+        settlementDetailsRepository.findBySettlement_IdAndGroupMember_Member_IdAndSettlementStatus(transfer.getSettlementId(), transfer.getMemberId(), "N")
+                .ifPresent(settlementDetails -> {
+                    settlementDetails.updateSettlementDetailsStatus("Y");
+                    log.info("TransferOutboxRelay::applySettlement 개별 정산 완료 - settlementId: {}, memberId: {}", transfer.getSettlementId(), transfer.getMemberId());
+                });
+        if (settlementDetailsRepository.findBySettlement_IdAndSettlementStatus(transfer.getSettlementId(), "N").isEmpty()) {
+            settlementRepository.findById(transfer.getSettlementId())
+                    .filter(settlement -> !"Y".equals(settlement.getSettlementStatus()))
+                    .ifPresent(settlement -> {
+                        settlement.updateSettlementStatus("Y");
+                        log.info("TransferOutboxRelay::applySettlement 정산 완료 - settlementId: {}", transfer.getSettlementId());
+                    });
+        }
+    }
+
+    /**
+     * 입금 계좌가 타코뱅크 회원 계좌인 경우 입금 알림
+     */
+    private void notifyReceivers(Transfer transfer, List<Account> receiverAccounts) {
+        String message = transfer.getSettlementId() != null && transfer.getSettlementId() > 0
+                ? String.format("정산금이 입금되었습니다. 보낸 사람: %s, 입금 금액: %d원", transfer.getWithdrawalAccountHolder(), transfer.getAmount())
+                : String.format("%s님이 %d원을 보냈습니다.", transfer.getWithdrawalAccountHolder(), transfer.getAmount());
+        receiverAccounts.stream()
+                .map(Account::getMember)
+                .distinct()
+                .forEach(member -> notificationService.sendNotification(member, message));
+    }
+
+    /**
+     * 송금 관련 계좌 응답 캐시, 홈 화면 Snapshot, 송금 대상 캐시 삭제 + 거래 내역 동기화 예약
+     *  - 출금 계좌: 송금 회원 계좌의 userFinanceId, fintechUseNum, 송금 회원 Snapshot
+     *  - 입금 계좌: 타코뱅크 회원 계좌인 경우 해당 회원의 캐시, Snapshot
+     */
+    private void evictAccountCaches(Transfer transfer, List<Account> receiverAccounts) {
+        accountRepository.findById(transfer.getAccountId()).ifPresent(account -> {
+            testbedResponseCache.evict(account.getMember().getUserFinanceId(), account.getFintechUseNum());
+            transactionHistoryService.markStale(account.getFintechUseNum()); // 다음 조회 시 거래 내역 동기화
+        });
+        homeSnapshotCache.invalidate(transfer.getMemberId());
+        transferOptionsCache.invalidate(transfer.getMemberId()); // 최근 이체 계좌
+
+        receiverAccounts.forEach(account -> {
+            testbedResponseCache.evict(account.getMember().getUserFinanceId(), account.getFintechUseNum());
+            homeSnapshotCache.invalidate(account.getMember().getId());
+            transactionHistoryService.markStale(account.getFintechUseNum());
+        });
+    }
+}
@@ -0,0 +1,292 @@
+package com.almagest_dev.tacobank_core_server.application.service;
+
+import com.almagest_dev.tacobank_core_server.common.constants.RedisKeyConstants;
+import com.almagest_dev.tacobank_core_server.common.utils.RedisLockUtil;
+import com.almagest_dev.tacobank_core_server.domain.account.model.Account;
+import com.almagest_dev.tacobank_core_server.domain.account.repository.AccountRepository;
+import com.almagest_dev.tacobank_core_server.domain.transfer.model.Transfer;
+import com.almagest_dev.tacobank_core_server.domain.transfer.model.TransferOutbox;
+import com.almagest_dev.tacobank_core_server.domain.transfer.repository.TransferOutboxRepository;
+import com.almagest_dev.tacobank_core_server.domain.transfer.repository.TransferRepository;
+import com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.client.TestbedApiClient;
+import com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.dto.TransferResultApiRequestDto;
+import com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.dto.TransferResultApiResponseDto;
+import com.almagest_dev.tacobank_core_server.presentation.dto.transfer.TransferResponseDto;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 미확정(R) 송금 결과 확인
+ *  - 송금 요청 후 transfer.reconcile.min-age 가 지나도록 R 상태인 송금 (테스트베드 응답 전 서버 종료, 응답 타임아웃 등)
+ *  - id 기준 Keyset 페이지로 조회, 테스트베드 송금 결과 조회(/openbank/transfer/result, bankTranId = transactionId)를 동시 조회 수 제한 내 병렬 요청
+ *  - 결과 확인(S, F) 건은 페이지 단위로 상태 일괄 변경 + 후속 처리 Outbox INSERT (1개 트랜잭션), 이후 중복 방지 KEY 선점 정리
+ *  - 테스트베드에 송금 요청 내역이 없으면 실패(F) - 요청이 전달되지 않은 송금
+ *  - 조회 실패 건은 R 유지, 다음 주기에 재시도
+ *  - 여러 서버 중 1대만 실행 (Redis 잠금)
+ *  - 메트릭: transfer.reconcile{result}, transfer.reconcile.pending, transfer.reconcile.last.run
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TransferReconciler {
+    private static final String RESULT_PATH = "/openbank/transfer/result";
+    private static final String RESULT_NOT_FOUND = "A0004"; // 송금 요청 내역 없음
+    private static final DateTimeFormatter TRAN_DTIME = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private final TransferRepository transferRepository;
+    private final TransferOutboxRepository transferOutboxRepository;
+    private final AccountRepository accountRepository;
+    private final TestbedApiClient testbedApiClient;
+    private final TransferIdempotencyService transferIdempotencyService;
+    private final TransferStatusService transferStatusService;
+    private final TransferOutboxRelay transferOutboxRelay;
+    private final RedisLockUtil redisLockUtil;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    @Qualifier("testbedTaskExecutor")
+    private final Executor testbedTaskExecutor;
+
+    @Value("${transfer.reconcile.enabled:true}")
+    private boolean enabled;
+    @Value("${transfer.reconcile.min-age:5m}")
+    private Duration minAge;
+    @Value("${transfer.reconcile.batch-size:100}")
+    private int batchSize;
+    @Value("${transfer.reconcile.concurrency:4}")
+    private int concurrency;
+    @Value("${transfer.reconcile.lock-ttl:5m}")
+    private Duration lockTtl;
+
+    private final AtomicLong pendingCount = new AtomicLong();
+    private final AtomicLong lastRunEpochSecond = new AtomicLong();
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("transfer.reconcile.pending", pendingCount, AtomicLong::get)
+                .description("결과 확인 대상 미확정(R) 송금 수 (마지막 실행 기준)")
+                .register(meterRegistry);
+        Gauge.builder("transfer.reconcile.last.run", lastRunEpochSecond, AtomicLong::get)
+                .description("마지막 송금 결과 확인 완료 시각 (epoch seconds)")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${transfer.reconcile.fixed-delay:1m}", initialDelayString = "${transfer.reconcile.fixed-delay:1m}")
+    public void reconcile() {
+        if (!enabled) {
+            return;
+        }
+        String owner = UUID.randomUUID().toString();
+        if (!redisLockUtil.tryLock(RedisKeyConstants.TRANSFER_RECONCILE_LOCK, owner, lockTtl)) {
+            return; // 다른 서버에서 실행 중
+        }
+        try {
+            long startedAt = System.currentTimeMillis();
+            long deadline = startedAt + lockTtl.toMillis() / 2; // 잠금 유지 시간의 절반까지만 처리
+            LocalDateTime requestedBefore = LocalDateTime.now().minus(minAge);
+            pendingCount.set(transferRepository.countByStatusAndRequestedDateBefore("R", requestedBefore));
+            if (pendingCount.get() == 0) {
+                lastRunEpochSecond.set(System.currentTimeMillis() / 1000);
+                return;
+            }
+
+            long afterId = 0L;
+            int scanned = 0;
+            int resolved = 0;
+            List<Transfer> batch;
+            do {
+                batch = transferRepository.findByStatusRequestedBeforeAfterId("R", requestedBefore, afterId, PageRequest.of(0, batchSize));
+                if (batch.isEmpty()) {
+                    break;
+                }
+                afterId = batch.get(batch.size() - 1).getId(); // 결과 미확인 건은 다음 주기에 다시 조회
+                scanned += batch.size();
+                resolved += resolve(batch, deadline);
+            } while (batch.size() == batchSize && System.currentTimeMillis() < deadline);
+
+            lastRunEpochSecond.set(System.currentTimeMillis() / 1000);
+            log.info("TransferReconciler::reconcile 미확정 송금 결과 확인 - 대상: {}, 조회: {}, 확정: {}, 소요: {}ms",
+                    pendingCount.get(), scanned, resolved, System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.warn("TransferReconciler::reconcile 미확정 송금 결과 확인 실패 - Error: {}", e.getMessage());
+        } finally {
+            redisLockUtil.unlock(RedisKeyConstants.TRANSFER_RECONCILE_LOCK, owner);
+        }
+    }
+
+    /**
+     * 페이지 1개 결과 확인 + 반영
+     * @return 확정(S, F)된 송금 수
+     */
+    private int resolve(List<Transfer> batch, long deadline) {
+        Map<Long, String> fintechUseNums = accountRepository.findAllById(batch.stream().map(Transfer::getAccountId).filter(Objects::nonNull).distinct().toList()).stream()
+                .filter(account -> account.getFintechUseNum() != null)
+                .collect(Collectors.toMap(Account::getId, Account::getFintechUseNum, (first, second) -> first));
+
+        Map<Long, TransferResultApiResponseDto> results = inquire(batch, fintechUseNums, deadline);
+        List<Transfer> resolved = apply(results);
+
+        pendingCount.addAndGet(-resolved.size());
+        resolved.forEach(this::settle);
+        if (!resolved.isEmpty()) {
+            transferOutboxRelay.relayAsync();
+        }
+        return resolved.size();
+    }
+
+    /**
+     * 송금 결과 병렬 조회 - 동시 조회 수 제한, 제한 시간 안에 끝나지 않은 조회는 다음 주기에 재시도
+     * @return transferId -> 송금 결과 조회 응답 (조회 성공 건만)
+     */
+    private Map<Long, TransferResultApiResponseDto> inquire(List<Transfer> batch, Map<Long, String> fintechUseNums, long deadline) {
+        Semaphore permits = new Semaphore(Math.max(1, concurrency));
+        Map<Long, TransferResultApiResponseDto> results = new ConcurrentHashMap<>();
+
+        List<CompletableFuture<?>> futures = new ArrayList<>();
+        for (Transfer transfer : batch) {
+            if (!acquire(permits, deadline)) {
+                log.warn("TransferReconciler::inquire 결과 조회 대기 시간 초과 - 대상: {}, 요청: {}", batch.size(), futures.size());
+                break;
+            }
+            TransferResultApiRequestDto requestDto = new TransferResultApiRequestDto(
+                    transfer.getTransactionId(),
+                    LocalDateTime.now().format(TRAN_DTIME),
+                    fintechUseNums.get(transfer.getAccountId()),
+                    String.valueOf(transfer.getAmount())
+            );
+            CompletableFuture<TransferResultApiResponseDto> future;
+            try {
+                future = CompletableFuture.supplyAsync(
+                        () -> testbedApiClient.requestApi(requestDto, RESULT_PATH, TransferResultApiResponseDto.class), testbedTaskExecutor);
+            } catch (Exception e) {
+                future = CompletableFuture.failedFuture(e);
+            }
+            futures.add(future.whenComplete((result, ex) -> {
+                permits.release();
+                if (ex != null) {
+                    record("error");
+                    log.warn("TransferReconciler::inquire 송금 결과 조회 실패 - transactionId: {}, Error: {}", transfer.getTransactionId(), ex.getMessage());
+                } else {
+                    results.put(transfer.getId(), result);
+                }
+            }));
+        }
+
+        try {
+            long remaining = Math.max(0, deadline - System.currentTimeMillis());
+            CompletableFuture.allOf(futures.toArray(CompletableFuture<?>[]::new)).get(remaining, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("TransferReconciler::inquire 결과 조회 대기 시간 초과 - 대상: {}, 완료: {}", batch.size(), results.size());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            // 송금별 실패는 whenComplete 에서 기록
+        }
+        return new HashMap<>(results);
+    }
+
+    /**
+     * 조회 결과 반영 - 상태 일괄 변경 + 후속 처리 Outbox INSERT (1개 트랜잭션)
+     *  - 조회 사이에 다른 경로로 상태가 바뀐 송금(R 아님)은 제외
+     * @return 확정(S, F)된 송금
+     */
+    private List<Transfer> apply(Map<Long, TransferResultApiResponseDto> results) {
+        if (results.isEmpty()) {
+            return List.of();
+        }
+        List<Transfer> resolved = transactionTemplate.execute(status -> {
+            List<Transfer> changed = new ArrayList<>();
+            for (Transfer transfer : transferRepository.findAllById(results.keySet())) {
+                if ("R".equals(transfer.getStatus()) && applyResult(transfer, results.get(transfer.getId()))) {
+                    changed.add(transfer);
+                }
+            }
+            transferRepository.saveAll(changed);
+            transferOutboxRepository.saveAll(changed.stream().map(TransferOutbox::createOutbox).toList());
+            return changed;
+        });
+        return resolved != null ? resolved : List.of();
+    }
+
+    /**
+     * 송금 결과 조회 응답 -> Transfer 상태 변경
+     * @return 확정 여부 (false: 결과 미확인, R 유지)
+     */
+    private boolean applyResult(Transfer transfer, TransferResultApiResponseDto result) {
+        if (RESULT_NOT_FOUND.equals(result.getRspCode())) {
+            transfer.updateTransfer(null, "F", result.getRspCode(), result.getRspMessage(), null);
+            record("not_found");
+            log.info("TransferReconciler::applyResult 송금 요청 내역 없음 (실패 처리) - transactionId: {}", transfer.getTransactionId());
+            return true;
+        }
+        if (!"A0000".equals(result.getRspCode()) || result.getTranResult() == null) {
+            record("unresolved");
+            log.warn("TransferReconciler::applyResult 송금 결과 미확인 - transactionId: {}, rspCode: {}, rspMessage: {}",
+                    transfer.getTransactionId(), result.getRspCode(), result.getRspMessage());
+            return false;
+        }
+        String status = "S".equals(result.getTranResult()) ? "S" : "F";
+        transfer.updateTransfer(result.getApiTranId(), status, result.getTranRspCode(), result.getTranRspMessage(), result.getApiTranDtm());
+        record("S".equals(status) ? "success" : "failure");
+        log.info("TransferReconciler::applyResult 송금 결과 확정 - transactionId: {}, status: {}", transfer.getTransactionId(), status);
+        return true;
+    }
+
+    /**
+     * 중복 방지 KEY 선점 정리 (성공: 응답 보관, 실패: 해제) + 송금 상태 조회 대기 요청 응답
+     */
+    private void settle(Transfer transfer) {
+        if ("S".equals(transfer.getStatus())) {
+            LocalDateTime tranDtm = transfer.getResponseDate() != null ? transfer.getResponseDate() : LocalDateTime.now();
+            transferIdempotencyService.complete(transfer.getIdempotencyKey(), transfer.getTransactionId(), TransferResponseDto.create(
+                    transfer.getIdempotencyKey(),
+                    tranDtm.format(TRAN_DTIME),
+                    transfer.getMemberId(),
+                    transfer.getAccountId(),
+                    transfer.getWithdrawalAccountNum(),
+                    transfer.getWithdrawalAccountHolder(),
+                    transfer.getWithdrawalBankCode(),
+                    transfer.getReceiverAccountNum(),
+                    transfer.getReceiverAccountHolder(),
+                    transfer.getReceiverBankCode(),
+                    transfer.getAmount()
+            ));
+        } else {
+            transferIdempotencyService.release(transfer.getIdempotencyKey(), transfer.getTransactionId());
+        }
+        transferStatusService.notifyCompleted(transfer.getTransactionId());
+    }
+
+    /**
+     * 동시 조회 허용 대기 (제한 시간 안에서만)
+     */
+    private boolean acquire(Semaphore permits, long deadline) {
+        long remaining = deadline - System.currentTimeMillis();
+        try {
+            return remaining > 0 && permits.tryAcquire(remaining, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void record(String result) {
+        meterRegistry.counter("transfer.reconcile", "result", result).increment();
+    }
+}
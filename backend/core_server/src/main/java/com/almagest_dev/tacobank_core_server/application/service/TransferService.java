@@ -2,6 +2,7 @@ package com.almagest_dev.tacobank_core_server.application.service;
 
 import com.almagest_dev.tacobank_core_server.common.dto.CoreResponseDto;
 import com.almagest_dev.tacobank_core_server.common.exception.TestbedApiException;
+import com.almagest_dev.tacobank_core_server.common.exception.TestbedRequestNotSentException;
 import com.almagest_dev.tacobank_core_server.common.exception.TransferException;
 import com.almagest_dev.tacobank_core_server.common.utils.RedisSessionUtil;
 import com.almagest_dev.tacobank_core_server.domain.account.model.Account;
@@ -16,7 +17,9 @@ import com.almagest_dev.tacobank_core_server.domain.settlememt.repository.Settle
 import com.almagest_dev.tacobank_core_server.domain.settlememt.repository.SettlementRepository;
 import com.almagest_dev.tacobank_core_server.domain.transfer.model.Transfer;
 import com.almagest_dev.tacobank_core_server.domain.transfer.model.TransferDuplicateLog;
+import com.almagest_dev.tacobank_core_server.domain.transfer.model.TransferOutbox;
 import com.almagest_dev.tacobank_core_server.domain.transfer.repository.TransferDuplicateLogRepository;
+import com.almagest_dev.tacobank_core_server.domain.transfer.repository.TransferOutboxRepository;
 import com.almagest_dev.tacobank_core_server.domain.transfer.repository.TransferRepository;
 import com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.client.TestbedApiClient;
 import com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.dto.*;
@@ -26,15 +29,23 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 
 
@@ -52,7 +63,20 @@ public class TransferService {
 
     private final PasswordEncoder passwordEncoder;
     private final TestbedApiClient testbedApiClient;
+    private final BalanceInquiryService balanceInquiryService;
+    private final TransferOutboxRepository transferOutboxRepository;
+    private final TransferOutboxRelay transferOutboxRelay;
+    private final TransactionTemplate transactionTemplate;
+    private final TransferStatusService transferStatusService;
+    private final TransferIdempotencyService transferIdempotencyService;
     private final RedisSessionUtil redisSessionUtil;
+    @Qualifier("testbedTaskExecutor")
+    private final Executor testbedTaskExecutor;
+    @Qualifier("transferTaskExecutor")
+    private final Executor transferTaskExecutor;
+
+    @Value("${transfer.inquiry.deadline-ms:6000}")
+    private long inquiryDeadlineMs;
 
     private final String TRANSFER_SESSION_PREFIX = "transfer:session:";
     private static final String PIN_FAILURE_PREFIX = "transfer:pw:failures:";
@@ -88,32 +112,36 @@ public class TransferService {
                 withdrawalMember.getName(), // 출금 회원명
                 "0"
         );
-        // Testbed 수취인 조회 API 요청
-        log.info("TransferService - [{}] inquireReceiverAccount CALL 수취인 조회 API", sessionId);
-        ReceiverInquiryApiResponseDto receiverInquiryApiResponse = testbedApiClient.requestApi(
+        // Testbed 수취인 조회 + 잔액 조회 API 동시 요청 (서로 의존하지 않음)
+        log.info("TransferService - [{}] inquireReceiverAccount CALL 수취인 조회 API + 잔액 조회 API", sessionId);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(inquiryDeadlineMs);
+        CompletableFuture<ReceiverInquiryApiResponseDto> receiverFuture = testbedApiClient.requestApiAsync(
                 receiverInquiryApiRequest,
                 "/openbank/recipient",
                 ReceiverInquiryApiResponseDto.class
         );
+        CompletableFuture<BalanceInquiryApiResponseDto> balanceFuture = CompletableFuture.supplyAsync(() -> balanceInquiryService.inquireBalance(
+                withdrawalMember.getUserFinanceId(),
+                withdrawalAccount.getFintechUseNum()
+        ), testbedTaskExecutor);
+
+        ReceiverInquiryApiResponseDto receiverInquiryApiResponse;
+        try {
+            receiverInquiryApiResponse = awaitInquiry(sessionId, receiverFuture, deadline);
+        } catch (RuntimeException e) {
+            balanceFuture.cancel(true); // 수취인 조회 실패 시 잔액 조회 취소 (시작 전이면 호출하지 않음)
+            throw e;
+        }
         log.info("TransferService - [{}] inquireReceiverAccount 수취인 조회 Response: {} ", sessionId, receiverInquiryApiResponse);
         // 수취인 조회 실패
         if (receiverInquiryApiResponse.getApiTranId() == null || !receiverInquiryApiResponse.getRspCode().equals("A0000") || receiverInquiryApiResponse.getRecvAccountFintechUseNum() == null) {
+            balanceFuture.cancel(true);
             throw new TransferException("FAILURE", "확인되지 않는 계좌입니다. 다시 입력해주세요.", HttpStatus.BAD_REQUEST);
         }
 
-        BalanceInquiryApiRequestDto balanceInquiryApiRequest = new BalanceInquiryApiRequestDto(
-                withdrawalMember.getUserFinanceId(),
-                withdrawalAccount.getFintechUseNum(),
-                LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"))
-        );
-        log.info("TransferService - [{}] inquireReceiverAccount CALL 잔액 조회 API", sessionId);
-        BalanceInquiryApiResponseDto balanceInquiryApiResponse = testbedApiClient.requestApi(
-                balanceInquiryApiRequest,
-                "/openbank/account",
-                BalanceInquiryApiResponseDto.class
-        );
+        BalanceInquiryApiResponseDto balanceInquiryApiResponse = awaitInquiry(sessionId, balanceFuture, deadline);
         log.info("TransferService - [{}] inquireReceiverAccount 잔액 조회 Response: {} ", sessionId, balanceInquiryApiResponse);
-        if (balanceInquiryApiResponse.getApiTranId() == null || !balanceInquiryApiResponse.getRspCode().equals("A0000") || balanceInquiryApiResponse.getBalanceAmt() == null) {
+        if (!balanceInquiryService.isSuccess(balanceInquiryApiResponse)) {
             throw new TransferException("TERMINATED", "계좌 잔액 조회에 실패했습니다. - " + balanceInquiryApiResponse.getRspMessage(), HttpStatus.BAD_REQUEST);
         }
 
@@ -155,10 +183,89 @@ public class TransferService {
         return response;
     }
 
+    /**
+     * 수취인/잔액 조회 응답 대기 (두 조회 공통 제한 시간)
+     *  - 제한 시간 초과 시 요청 취소 후 TestbedApiException
+     *  - 조회 중 발생한 예외는 그대로 전달
+     */
+    private <R> R awaitInquiry(String sessionId, CompletableFuture<R> future, long deadline) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("TransferService - [{}] inquireReceiverAccount 조회 시간 초과 - deadline: {}ms", sessionId, inquiryDeadlineMs);
+            throw new TestbedApiException("테스트베드 서버 응답이 지연되고 있습니다. 잠시 후 다시 시도해주세요.", HttpStatus.GATEWAY_TIMEOUT);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() instanceof CompletionException && e.getCause().getCause() != null ? e.getCause().getCause() : e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new TestbedApiException(null, cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new TestbedApiException(null, e);
+        }
+    }
+
     /**
      * 송금
      */
     public CoreResponseDto<TransferResponseDto> transfer(TransferRequestDto requestDto) {
+        // 이미 완료된 송금 재요청 - 검증 없이 보관된 응답 반환 (완료 후 세션이 삭제되므로 세션 확인 전에 처리)
+        TransferResponseDto completedResponse = transferIdempotencyService.findCompletedResponse(requestDto.getMemberId(), requestDto.getIdempotencyKey());
+        if (completedResponse != null) {
+            log.info("TransferService - transfer 완료된 송금 재요청 - 보관된 응답 반환, idempotencyKey: {}", requestDto.getIdempotencyKey());
+            return new CoreResponseDto<>("SUCCESS", "송금이 완료되었습니다.", completedResponse);
+        }
+
+        PreparedTransfer prepared = prepareTransfer(requestDto);
+        return executeTransfer(prepared);
+    }
+
+    /**
+     * 송금 (비동기)
+     *  - 요청 Thread: 검증, 중복 방지 KEY 선점, 출금 비밀번호 검증, 송금 요청 INSERT(R)
+     *  - transferTaskExecutor: 테스트베드 송금 요청 및 결과 반영 (진행 상태는 /{transactionId}/status 로 조회)
+     *  - 같은 KEY 재요청 시 진행 중이거나 완료된 송금의 transactionId 반환
+     */
+    public TransferStatusResponseDto transferAsync(TransferRequestDto requestDto) {
+        String claimedTransactionId = transferIdempotencyService.findTransactionId(requestDto.getMemberId(), requestDto.getIdempotencyKey());
+        if (claimedTransactionId != null) {
+            log.info("TransferService - transferAsync 송금 재요청 - 기존 거래 반환, transactionId: {}", claimedTransactionId);
+            return transferStatusService.findStatus(claimedTransactionId, requestDto.getMemberId())
+                    // 같은 KEY 의 송금 준비 중 (선점 후 송금 요청 INSERT 전)
+                    .orElseThrow(() -> new TransferException("FAILURE", "처리 중인 송금 요청입니다. 잠시 후 다시 시도해주세요.", HttpStatus.CONFLICT));
+        }
+
+        PreparedTransfer prepared = prepareTransfer(requestDto);
+        String transactionId = prepared.transfer().getTransactionId();
+        try {
+            transferTaskExecutor.execute(() -> {
+                try {
+                    executeTransfer(prepared);
+                } catch (Exception e) {
+                    log.error("TransferService - [{}] transferAsync 송금 처리 실패 : {}", prepared.sessionId(), e.getMessage());
+                } finally {
+                    transferStatusService.notifyCompleted(transactionId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 테스트베드 요청 전 - 송금 실패 처리 후 같은 KEY 로 다시 송금 가능
+            log.warn("TransferService - [{}] transferAsync 송금 처리 대기열 초과", prepared.sessionId());
+            updateTransferStatus(prepared.transfer(), null, "F", "REJECTED", "송금 처리 대기열 초과", null);
+            redisSessionUtil.cleanupRedisKeys("TransferService", TRANSFER_SESSION_PREFIX + prepared.sessionId(), PIN_FAILURE_PREFIX + prepared.sessionId());
+            settleIdempotencyClaim(prepared.sessionId(), prepared.sessionData().getIdempotencyKey(), transactionId, prepared.transfer(), null);
+            throw new TransferException("TERMINATED", "송금 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE);
+        }
+        return new TransferStatusResponseDto(transactionId, "R", "송금 처리 중입니다.", null);
+    }
+
+    /**
+     * 송금 준비 - 세션 확인, 정산/요청 데이터 검증, 중복 방지 KEY 선점, 출금 비밀번호 검증, 송금 요청 INSERT(R)
+     *  - 송금 요청 INSERT 전 종료 시 선점 해제
+     */
+    private PreparedTransfer prepareTransfer(TransferRequestDto requestDto) {
         String sessionId = redisSessionUtil.generateEncryptSessionId(requestDto.getMemberId(), requestDto.getIdempotencyKey());
         String transferSessionKey = TRANSFER_SESSION_PREFIX + sessionId;
         String pinFailureKey = PIN_FAILURE_PREFIX + sessionId;
@@ -172,27 +279,27 @@ public class TransferService {
         log.info("TransferService - [{}] transfer START", sessionId);
         log.info("TransferService - [{}] transfer requestDto :{} ", sessionId, requestDto);
 
+        String transactionID = UUID.randomUUID().toString(); // 고유 거래 ID (Backend 생성)
+        boolean claimed = false;
         try {
             // 정산 유효성 검증
             if (sessionData.getSettlementId() != null && sessionData.getSettlementId() > 0 // 세션 데이터에는 정산 정보가 있는데
                     && (requestDto.getSettlementId() == null || requestDto.getSettlementId() <= 0)) { // 요청시에는 없는 경우
                 throw new TransferException("TERMINATED", "유효하지 않은 요청입니다.", HttpStatus.BAD_REQUEST);
             }
-            // 정산 정보 체크
-            Settlement settlement = null;
-            SettlementDetails settlementDetails = null;
+            // 정산 정보 체크 (송금 성공 후 정산 상태 반영은 TransferOutboxRelay)
+            Long settlementId = null;
             if (sessionData.getSettlementId() != null && sessionData.getSettlementId() > 0) {
-                log.info("TransferService - [{}] transfer UPDATE Settlement Status", sessionId);
-                settlementDetails = validateSettlementInfo(sessionId, sessionData.getSettlementId(), sessionData.getMemberId());
-
-                // 정산 정보
-                settlement = settlementRepository.findById(sessionData.getSettlementId())
-                        .orElseThrow(() -> new TransferException("TERMINATED", "잘못된 송금 요청입니다.", HttpStatus.BAD_REQUEST));
+                validateSettlementInfo(sessionId, sessionData.getSettlementId(), sessionData.getMemberId());
+                settlementId = sessionData.getSettlementId();
             }
 
             // 송금 요청 데이터 Validation 확인
-            String transactionID = UUID.randomUUID().toString(); // 고유 거래 ID (Backend 생성)
-            validateTransferData(sessionId, requestDto, sessionData, transactionID);
+            validateTransferData(sessionId, requestDto, sessionData);
+
+            // 중복 방지 KEY 선점 - 같은 KEY 의 송금이 진행 중이거나 완료된 경우 송금 종료
+            claimIdempotencyKey(sessionId, sessionData, transactionID);
+            claimed = true;
 
             // 출금 비밀번호 검증
             verifyPassword(requestDto, sessionId, sessionData);
@@ -222,8 +329,8 @@ public class TransferService {
                     requestDto.getRcvPrintContent() : sessionData.getWithdrawalDetails().getAccountHolder();
 
             // 송금 요청 INSERT
-            Transfer transferData = new Transfer().createTransfer(
-                    sessionData.getIdempotencyKey(), transactionID,
+            Transfer transfer = new Transfer().createTransfer(
+                    sessionData.getIdempotencyKey(), transactionID, settlementId,
                     sessionData.getMemberId(), sessionData.getWithdrawalDetails().getAccountId(),
                     sessionData.getWithdrawalDetails().getBankCode(), sessionData.getWithdrawalDetails().getAccountNum(), sessionData.getWithdrawalDetails().getAccountHolder(),
                     wdPrintContent, rcvPrintContent,
@@ -231,39 +338,94 @@ public class TransferService {
                     sessionData.getAmount()
             );
             log.info("TransferService - [{}] transfer INSERT Start...", sessionId);
-            transferRepository.save(transferData);
+            transferRepository.save(transfer);
             log.info("TransferService - [{}] transfer INSERT End...", sessionId);
 
+            return new PreparedTransfer(sessionId, sessionData, transfer);
+
+        } catch (RuntimeException ex) {
+            if (ex instanceof TransferException transferException && transferException.getStatus().equals("TERMINATED")) { // 완전 종료인 경우, 세션 삭제
+                redisSessionUtil.cleanupRedisKeys("TransferService", transferSessionKey, pinFailureKey);
+            }
+            if (claimed) {
+                settleIdempotencyClaim(sessionId, sessionData.getIdempotencyKey(), transactionID, null, null);
+            }
+            log.info("TransferService - [{}] transfer END", sessionId);
+            throw ex;
+        }
+    }
+
+    /**
+     * 송금 실행 - 테스트베드 송금 요청 및 결과 반영, 중복 방지 KEY 선점 정리
+     */
+    private CoreResponseDto<TransferResponseDto> executeTransfer(PreparedTransfer prepared) {
+        String sessionId = prepared.sessionId();
+        Transfer transfer = prepared.transfer();
+        CoreResponseDto<TransferResponseDto> response = null;
+        try {
             // 송금 로직 처리
             log.info("TransferService - [{}] transfer CALL processTransferTransaction", sessionId);
-            CoreResponseDto<TransferResponseDto> response = processTransferTransaction(transferData, sessionData, sessionId);
-
-            // 송금 성공시 정산 및 개별 정산 테이블에 업데이트
-            if ("SUCCESS".equals(response.getStatus())) {
-                if (settlementDetails != null && settlementDetails.getId() > 0L) { // 정산 정보가 있을때만, 개별 정산정보 업데이트
-                    settlement.updateSettlementStatus("Y");
-                    settlementRepository.save(settlement);
-                    log.info("TransferService - [{}] transfer UPDATE Settlement Status", sessionId);
-
-                    settlementDetails.updateSettlementDetailsStatus("Y");
-                    settlementDetailsRepository.save(settlementDetails);
-                    log.info("TransferService - [{}] transfer UPDATE SettlementDetails Status", sessionId);
-                }
-            }
+            response = processTransferTransaction(transfer, prepared.sessionData(), sessionId);
 
             // 응답 반환
             return response;
-
-        } catch (TransferException ex) { // TransferException Catch
-            if (ex.getStatus().equals("TERMINATED")) { // 완전 종료인 경우, 세션 삭제
-                redisSessionUtil.cleanupRedisKeys("TransferService", transferSessionKey, pinFailureKey);
-            }
-            throw ex;
         } finally {
+            settleIdempotencyClaim(sessionId, prepared.sessionData().getIdempotencyKey(), transfer.getTransactionId(), transfer, response);
             log.info("TransferService - [{}] transfer END", sessionId);
         }
     }
 
+    /**
+     * 검증 완료 후 송금 요청 INSERT 된 송금
+     */
+    private record PreparedTransfer(String sessionId, TransferSessionData sessionData, Transfer transfer) {
+    }
+
+    /**
+     * 송금 - 중복 방지 KEY 선점 (Redis SET NX + transfer_idempotency Unique Index)
+     *  - 선점 실패 시 중복 로그 INSERT 후 송금 종료
+     */
+    private void claimIdempotencyKey(String sessionId, TransferSessionData sessionData, String transactionId) {
+        if (transferIdempotencyService.claim(sessionData.getIdempotencyKey(), transactionId, sessionData.getMemberId())) {
+            return;
+        }
+        log.warn("TransferService - [{}] claimIdempotencyKey 중복된 송금 요청 - idempotencyKey: {}", sessionId, sessionData.getIdempotencyKey());
+
+        // 중복 로그 테이블 INSERT
+        transferDuplicateLogRepository.save(TransferDuplicateLog.createTransferDuplicateLog(
+                transactionId,
+                sessionData.getIdempotencyKey(),
+                sessionData.getSettlementId(),
+                sessionData.getMemberId(),
+                sessionData.getWithdrawalDetails().getAccountId(),
+                sessionData.getWithdrawalDetails().getBankCode(),
+                sessionData.getWithdrawalDetails().getAccountNum(),
+                sessionData.getWithdrawalDetails().getAccountHolder(),
+                sessionData.getReceiverDetails().getBankCode(),
+                sessionData.getReceiverDetails().getAccountNum(),
+                sessionData.getReceiverDetails().getAccountHolder(),
+                sessionData.getAmount()
+        ));
+        throw new TransferException("TERMINATED", "중복된 송금 요청입니다.", HttpStatus.CONFLICT);
+    }
+
+    /**
+     * 송금 - 중복 방지 KEY 선점 정리
+     *  - 성공(S): 응답 보관 (재요청 시 반환)
+     *  - 실패(F) 또는 송금 요청 전 종료: 선점 해제
+     *  - 결과 불확실(R): 선점 유지
+     */
+    private void settleIdempotencyClaim(String sessionId, String idempotencyKey, String transactionId, Transfer transferData, CoreResponseDto<TransferResponseDto> response) {
+        String status = transferData != null ? transferData.getStatus() : null;
+        if ("S".equals(status)) {
+            transferIdempotencyService.complete(idempotencyKey, transactionId, response != null ? response.getData() : null);
+        } else if (status == null || "F".equals(status)) {
+            transferIdempotencyService.release(idempotencyKey, transactionId);
+        } else {
+            log.warn("TransferService - [{}] settleIdempotencyClaim 송금 결과 불확실 - 중복 방지 KEY 유지, transactionId: {}", sessionId, transactionId);
+        }
+    }
+
     /**
      * 송금 - 정산 정보 검증
      * @param sessionId
@@ -306,9 +468,9 @@ public class TransferService {
 
     /**
      * 송금 Validation Check
-     *   - 송금액, 중복 송금 요청 확인 등
+     *   - 송금액, 요청과 세션 데이터 일치 여부 확인 (중복 송금 요청은 claimIdempotencyKey)
      */
-    private void validateTransferData(String sessionId, TransferRequestDto requestDto, TransferSessionData sessionData, String transactionId) {
+    private void validateTransferData(String sessionId, TransferRequestDto requestDto, TransferSessionData sessionData) {
         log.info("TransferService - [{}] validateTransferData START", sessionId);
 
         String status = "TERMINATED";
@@ -322,29 +484,6 @@ public class TransferService {
             throw new TransferException(message, httpStatus);
         }
 
-        // 송금 요청 중복 체크 - 중복 요청이면 송금 종료 @TODO 송금 중복요청 로그 테이블 INSERT
-        if (transferRepository.existsByIdempotencyKeyAndStatusIn(requestDto.getIdempotencyKey(), List.of("S", "R"))) {
-            // 중복 로그 테이블 INSERT
-            transferDuplicateLogRepository.save(TransferDuplicateLog.createTransferDuplicateLog(
-                    transactionId,
-                    sessionData.getIdempotencyKey(),
-                    sessionData.getSettlementId(),
-                    sessionData.getMemberId(),
-                    sessionData.getWithdrawalDetails().getAccountId(),
-                    sessionData.getWithdrawalDetails().getBankCode(),
-                    sessionData.getWithdrawalDetails().getAccountNum(),
-                    sessionData.getWithdrawalDetails().getAccountHolder(),
-                    sessionData.getReceiverDetails().getBankCode(),
-                    sessionData.getReceiverDetails().getAccountNum(),
-                    sessionData.getReceiverDetails().getAccountHolder(),
-                    sessionData.getAmount()
-            ));
-
-            message = "중복된 송금 요청입니다.";
-            httpStatus = HttpStatus.CONFLICT;
-            throw new TransferException(status, message, httpStatus);
-        }
-
         // 송금 요청 파라미터 확인 - 실패할 경우 송금 종료
         WithdrawalDetails withdrawalDetails = requestDto.getWithdrawalDetails();
         ReceiverDetails receiverDetails = requestDto.getReceiverDetails();
@@ -436,7 +575,8 @@ public class TransferService {
                     sessionData.getReceiverDetails().getAccountHolder(),
                     sessionData.getReceiverDetails().getBankCode(),
                     sessionData.getReceiverDetails().getAccountNum(),
-                    transfer.getRcvPrintContent()
+                    transfer.getRcvPrintContent(),
+                    transfer.getTransactionId()
             );
             log.info("TransferService - [{}] transfer processTransferTransaction Testbed API Request : {}", sessionId, apiRequestDto);
             // 테스트베드 송금 요청 수행
@@ -484,8 +624,19 @@ public class TransferService {
             log.info("TransferService - [{}] transfer processTransferTransaction END", sessionId);
             return response;
 
+        } catch (TestbedRequestNotSentException ex) {
+            // 테스트베드에 요청을 보내기 전 거절/연결 실패 - 은행 미전송 확정이므로 실패(F) 처리 (중복 방지 KEY 해제, 재시도 가능)
+            log.warn("TransferService - [{}] transfer processTransferTransaction 송금 요청 미전송 : {}", sessionId, ex.getMessage());
+            updateTransferStatus(transfer, null, "F", TestbedRequestNotSentException.RSP_CODE, ex.getMessage(), null);
+            return new CoreResponseDto<>("TERMINATED", "송금이 처리되지 않았습니다. " + ex.getMessage());
+
         } catch (TestbedApiException ex) {
             log.error("TransferService - [{}] transfer processTransferTransaction Exception : {}", sessionId, ex.getMessage());
+            if (ex.getResponseBody() == null) {
+                // 응답 타임아웃 등 은행 전달 여부 불확실 - R 유지 (TransferReconciler 에서 결과 확인)
+                log.warn("TransferService - [{}] transfer processTransferTransaction 송금 결과 불확실 - transactionId: {}", sessionId, transfer.getTransactionId());
+                return new CoreResponseDto<>("TERMINATED", "송금 결과를 확인 중입니다. 잠시 후 송금 내역을 확인해주세요.");
+            }
             try {
                 // JSON 파싱
                 String responseBody = ex.getResponseBody(); // TestbedApiException에 responseBody 저장
@@ -510,12 +661,30 @@ public class TransferService {
         } finally {
             // 송금 세션 모두 삭제
             redisSessionUtil.cleanupRedisKeys("TransferService", TRANSFER_SESSION_PREFIX + sessionId, PIN_FAILURE_PREFIX + sessionId);
+            // 결과가 불확실한 경우(상태 UPDATE 없음)에도 캐시 삭제를 위해 Outbox INSERT
+            if ("R".equals(transfer.getStatus())) {
+                enqueueOutbox(transfer, sessionId);
+            }
+            // 정산 상태 반영, 알림, 캐시 삭제 즉시 처리 요청
+            transferOutboxRelay.relayAsync();
+        }
+    }
+
+    /**
+     * 송금 후속 처리 Outbox INSERT (상태 UPDATE 없이)
+     */
+    private void enqueueOutbox(Transfer transfer, String sessionId) {
+        try {
+            transferOutboxRepository.save(TransferOutbox.createOutbox(transfer));
+        } catch (Exception e) {
+            log.warn("TransferService - [{}] enqueueOutbox Outbox 저장 실패 : {}", sessionId, e.getMessage());
         }
     }
 
     /**
      * Transfer UPDATE
      *  - Testbed API 요청/응답 후 DB UPDATE
+     *  - 같은 트랜잭션에서 후속 처리(정산 상태 반영, 알림, 캐시 삭제) Outbox INSERT
      */
     public void updateTransferStatus(Transfer transfer, String apiTranId, String status, String responseCode, String responseMessage, String apiTranDtm) {
         transfer.updateTransfer(
@@ -525,7 +694,10 @@ public class TransferService {
                 responseMessage,
                 apiTranDtm
         );
-        transferRepository.save(transfer);
+        transactionTemplate.executeWithoutResult(txStatus -> {
+            transferRepository.save(transfer);
+            transferOutboxRepository.save(TransferOutbox.createOutbox(transfer));
+        });
     }
 
 }
@@ -0,0 +1,149 @@
+package com.almagest_dev.tacobank_core_server.application.service;
+
+import com.almagest_dev.tacobank_core_server.common.exception.MemberAuthException;
+import com.almagest_dev.tacobank_core_server.common.exception.TransferException;
+import com.almagest_dev.tacobank_core_server.domain.transfer.model.Transfer;
+import com.almagest_dev.tacobank_core_server.domain.transfer.repository.TransferRepository;
+import com.almagest_dev.tacobank_core_server.presentation.dto.transfer.TransferResponseDto;
+import com.almagest_dev.tacobank_core_server.presentation.dto.transfer.TransferStatusResponseDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 송금 진행 상태 조회 (비동기 송금)
+ *  - 처리 중(R)이면 완료 또는 대기 시간 초과까지 응답 보류 (Long Polling)
+ *  - 이 서버에서 처리한 송금은 완료 즉시 응답, 다른 서버에서 처리한 송금은 대기 시간 초과 후 DB 상태로 응답
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TransferStatusService {
+    private static final DateTimeFormatter API_TRAN_DTM = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private final TransferRepository transferRepository;
+    @Qualifier("testbedCallbackExecutor")
+    private final Executor testbedCallbackExecutor;
+
+    @Value("${transfer.status.max-wait:25s}")
+    private Duration maxWait;
+
+    // key: transactionId | value: 완료 대기 중인 요청
+    private final Map<String, Set<CompletableFuture<TransferStatusResponseDto>>> waiters = new ConcurrentHashMap<>();
+
+    /**
+     * 송금 상태 조회
+     */
+    public TransferStatusResponseDto getStatus(String transactionId, Long memberId) {
+        return findStatus(transactionId, memberId)
+                .orElseThrow(() -> new TransferException("FAILURE", "존재하지 않는 송금 요청입니다.", HttpStatus.NOT_FOUND));
+    }
+
+    public Optional<TransferStatusResponseDto> findStatus(String transactionId, Long memberId) {
+        return transferRepository.findByTransactionId(transactionId)
+                .filter(transfer -> transfer.getMemberId().equals(memberId))
+                .map(this::toStatusResponse);
+    }
+
+    /**
+     * 송금 상태 조회 (Long Polling) - 인증된 멤버의 송금만 조회
+     * @param waitMs 처리 중인 경우 최대 대기 시간 (transfer.status.max-wait 이하)
+     */
+    public CompletableFuture<TransferStatusResponseDto> awaitStatus(String transactionId, Long waitMs) {
+        Long memberId = currentMemberId();
+        long wait = Math.min(waitMs != null ? Math.max(0, waitMs) : maxWait.toMillis(), maxWait.toMillis());
+
+        // 상태 조회 전에 등록 (조회 ~ 등록 사이에 완료되어도 알림을 놓치지 않도록)
+        CompletableFuture<TransferStatusResponseDto> waiter = new CompletableFuture<>();
+        waiters.computeIfAbsent(transactionId, key -> ConcurrentHashMap.newKeySet()).add(waiter);
+
+        TransferStatusResponseDto current;
+        try {
+            current = getStatus(transactionId, memberId);
+        } catch (RuntimeException e) {
+            removeWaiter(transactionId, waiter);
+            throw e;
+        }
+        if (!"R".equals(current.getStatus()) || wait == 0) {
+            removeWaiter(transactionId, waiter);
+            return CompletableFuture.completedFuture(current);
+        }
+
+        return waiter.completeOnTimeout(null, wait, TimeUnit.MILLISECONDS)
+                .whenComplete((status, ex) -> removeWaiter(transactionId, waiter))
+                // 대기 시간 초과 - DB 상태로 응답 (다른 서버에서 완료된 경우 포함)
+                .thenApplyAsync(status -> status != null ? status : getStatus(transactionId, memberId), testbedCallbackExecutor);
+    }
+
+    /**
+     * 송금 처리 완료 - 대기 중인 요청에 응답
+     */
+    public void notifyCompleted(String transactionId) {
+        Set<CompletableFuture<TransferStatusResponseDto>> pending = waiters.remove(transactionId);
+        if (pending == null || pending.isEmpty()) {
+            return;
+        }
+        try {
+            TransferStatusResponseDto status = transferRepository.findByTransactionId(transactionId)
+                    .map(this::toStatusResponse)
+                    .orElse(null);
+            pending.forEach(waiter -> waiter.complete(status));
+        } catch (Exception e) {
+            log.warn("TransferStatusService::notifyCompleted 송금 상태 조회 실패 - transactionId: {}, Error: {}", transactionId, e.getMessage());
+            pending.forEach(waiter -> waiter.complete(null)); // 각 요청에서 다시 조회
+        }
+    }
+
+    private void removeWaiter(String transactionId, CompletableFuture<TransferStatusResponseDto> waiter) {
+        waiters.computeIfPresent(transactionId, (key, pending) -> {
+            pending.remove(waiter);
+            return pending.isEmpty() ? null : pending;
+        });
+    }
+
+    private TransferStatusResponseDto toStatusResponse(Transfer transfer) {
+        return switch (transfer.getStatus()) {
+            case "S" -> new TransferStatusResponseDto(transfer.getTransactionId(), "S", "송금이 완료되었습니다.", TransferResponseDto.create(
+                    transfer.getIdempotencyKey(),
+                    transfer.getResponseDate().format(API_TRAN_DTM),
+                    transfer.getMemberId(),
+                    transfer.getAccountId(),
+                    transfer.getWithdrawalAccountNum(),
+                    transfer.getWithdrawalAccountHolder(),
+                    transfer.getWithdrawalBankCode(),
+                    transfer.getReceiverAccountNum(),
+                    transfer.getReceiverAccountHolder(),
+                    transfer.getReceiverBankCode(),
+                    transfer.getAmount()
+            ));
+            case "F" -> new TransferStatusResponseDto(transfer.getTransactionId(), "F", "송금에 실패하였습니다. (" + transfer.getResponseMassage() + ")", null);
+            default -> new TransferStatusResponseDto(transfer.getTransactionId(), transfer.getStatus(), "송금 처리 중입니다.", null);
+        };
+    }
+
+    /**
+     * 인증 정보에서 멤버 ID 추출
+     */
+    private Long currentMemberId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            throw new MemberAuthException("인증되지 않은 사용자입니다.", HttpStatus.UNAUTHORIZED);
+        }
+        return (Long) authentication.getDetails();
+    }
+}
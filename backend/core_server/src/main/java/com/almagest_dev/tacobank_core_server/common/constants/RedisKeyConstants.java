@@ -8,6 +8,21 @@ public class RedisKeyConstants { // Redis Key 상수
     public static final String SMS_REQUEST_CNT_PREFIX = "sms:request:";
     public static final String PIN_FAILURE_PREFIX = "pin:failures:";
     public static final String BLACKLIST_PREFIX = "token:blacklist:";
+    public static final String TESTBED_ACCOUNTS_CACHE_PREFIX = "testbed:accounts:";
+    public static final String TESTBED_BALANCE_CACHE_PREFIX = "testbed:balance:";
+    public static final String ACCOUNT_SYNC_WATERMARK_PREFIX = "account:sync:watermark:";
+    public static final String ACCOUNT_SYNC_LOCK_PREFIX = "account:sync:lock:";
+    public static final String ACCOUNT_SYNC_ACTIVE_MEMBERS = "account:sync:active"; // 최근 활동 멤버 (Sorted Set, score: 활동 시각)
+    public static final String ACCOUNT_SYNC_REFRESH_LOCK = "account:sync:refresh:lock";
+    public static final String HOME_SNAPSHOT_PREFIX = "home:snapshot:";
+    public static final String HOME_SNAPSHOT_GENERATION_PREFIX = "home:generation:";
+    public static final String HOME_SNAPSHOT_REFRESH_LOCK_PREFIX = "home:refresh:lock:";
+    public static final String TRANSFER_OPTIONS_CACHE_PREFIX = "transfer:options:";
+    public static final String TRANSACTION_HISTORY_SYNC_LOCK_PREFIX = "transaction:sync:lock:";
+    public static final String TRANSFER_IDEMPOTENCY_CLAIM_PREFIX = "transfer:idempotency:claim:";
+    public static final String TRANSFER_IDEMPOTENCY_RESPONSE_PREFIX = "transfer:idempotency:response:";
+    public static final String TRANSFER_OUTBOX_RELAY_LOCK = "transfer:outbox:relay:lock";
+    public static final String TRANSFER_RECONCILE_LOCK = "transfer:reconcile:lock";
 
     private RedisKeyConstants() {
 
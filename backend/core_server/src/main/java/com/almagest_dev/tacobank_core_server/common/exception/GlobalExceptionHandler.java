@@ -126,7 +126,7 @@ public class GlobalExceptionHandler {
     public ResponseEntity<?> handleTestbedApiException(TestbedApiException ex) {
         log.warn("TestbedApiException - " + ex.getMessage());
         CoreResponseDto response = new CoreResponseDto(ex.getStatus(), ex.getMessage());
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        return ResponseEntity.status(ex.getHttpStatus()).body(response);
     }
 
     // 인증 관련 예외 처리
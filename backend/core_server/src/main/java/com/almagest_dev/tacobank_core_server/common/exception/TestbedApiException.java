@@ -1,11 +1,17 @@
 package com.almagest_dev.tacobank_core_server.common.exception;
 
+import org.springframework.http.HttpStatus;
+
 public class TestbedApiException extends BaseCustomException {
     private String responseBody;
     public TestbedApiException(String message) {
         super(message);
     }
 
+    public TestbedApiException(String message, HttpStatus httpStatus) {
+        super(message, httpStatus);
+    }
+
     public TestbedApiException(String responseBody, Throwable cause) {
         super(cause);
         this.responseBody = responseBody;
@@ -0,0 +1,16 @@
+package com.almagest_dev.tacobank_core_server.common.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * 테스트베드에 요청을 보내기 전 거절/실패 (요청 미전송 확정)
+ *  - 속도 제한, Circuit Breaker, Bulkhead 거절, 연결 실패, Connection Pool 할당 대기 초과
+ *  - 송금: 은행에 전달되지 않았으므로 실패(F) 처리 후 재시도 가능
+ */
+public class TestbedRequestNotSentException extends TestbedApiException {
+    public static final String RSP_CODE = "ERR503"; // Transfer.responseCode (요청 미전송)
+
+    public TestbedRequestNotSentException(String message) {
+        super(message, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+}
@@ -0,0 +1,128 @@
+package com.almagest_dev.tacobank_core_server.common.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Redis 응답 캐시
+ *  - JSON 직렬화하여 TTL 과 함께 저장
+ *  - 캐시 조회 결과를 cache.gets{cache, result=hit|miss} 로 기록
+ *  - Redis 장애 시 예외를 던지지 않고 캐시 미적중으로 처리 (원본 조회로 진행)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisCacheUtil {
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    /**
+     * 캐시 조회
+     * @param cacheName 메트릭 태그로 사용할 캐시 이름
+     * @return 캐시에 없거나 조회 실패시 null
+     */
+    public <T> T get(String cacheName, String redisKey, Class<T> clazz) {
+        T value = null;
+        try {
+            String cached = redisTemplate.opsForValue().get(redisKey);
+            if (cached != null) {
+                value = objectMapper.readValue(cached, clazz);
+            }
+        } catch (Exception e) {
+            log.warn("RedisCacheUtil::get 캐시 조회 실패 - Key: {}, Error: {}", redisKey, e.getMessage());
+        }
+        counter(cacheName, value != null ? "hit" : "miss").increment();
+        return value;
+    }
+
+    /**
+     * 캐시 저장
+     */
+    public <T> void put(String redisKey, T value, Duration ttl) {
+        if (value == null || ttl == null || ttl.isZero() || ttl.isNegative()) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(redisKey, objectMapper.writeValueAsString(value), ttl);
+        } catch (Exception e) {
+            log.warn("RedisCacheUtil::put 캐시 저장 실패 - Key: {}, Error: {}", redisKey, e.getMessage());
+        }
+    }
+
+    /**
+     * 캐시 조회 후 없으면 loader 로 조회하여 저장
+     * @param cacheable 저장 여부 판단 (실패 응답은 캐시하지 않음)
+     */
+    public <T> T getOrLoad(String cacheName, String redisKey, Class<T> clazz, Duration ttl, Supplier<T> loader, Predicate<T> cacheable) {
+        T cached = get(cacheName, redisKey, clazz);
+        if (cached != null) {
+            return cached;
+        }
+
+        T loaded = loader.get();
+        if (loaded != null && cacheable.test(loaded)) {
+            put(redisKey, loaded, ttl);
+        }
+        return loaded;
+    }
+
+    /**
+     * 캐시 조회 후 없으면 비동기 loader 로 조회하여 저장
+     *  - 캐시 조회는 호출 Thread 에서 수행, 저장은 loader 완료 시점에 수행
+     */
+    public <T> CompletableFuture<T> getOrLoadAsync(String cacheName, String redisKey, Class<T> clazz, Duration ttl, Supplier<CompletableFuture<T>> loader, Predicate<T> cacheable) {
+        T cached = get(cacheName, redisKey, clazz);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        return loader.get().thenApply(loaded -> {
+            if (loaded != null && cacheable.test(loaded)) {
+                put(redisKey, loaded, ttl);
+            }
+            return loaded;
+        });
+    }
+
+    /**
+     * 캐시 삭제
+     */
+    public void evict(String... redisKeys) {
+        List<String> keys = Arrays.stream(redisKeys).filter(Objects::nonNull).toList();
+        if (keys.isEmpty()) {
+            return;
+        }
+        try {
+            Long deleted = redisTemplate.delete(keys);
+            log.info("RedisCacheUtil::evict 캐시 삭제 - Keys: {}, 삭제 수: {}", keys, deleted);
+        } catch (Exception e) {
+            log.warn("RedisCacheUtil::evict 캐시 삭제 실패 - Keys: {}, Error: {}", keys, e.getMessage());
+        }
+    }
+
+    private Counter counter(String cacheName, String result) {
+        return counters.computeIfAbsent(cacheName + ":" + result, key -> Counter.builder("cache.gets")
+                .description("Redis 응답 캐시 조회 결과")
+                .tag("cache", cacheName)
+                .tag("result", result)
+                .register(meterRegistry));
+    }
+}
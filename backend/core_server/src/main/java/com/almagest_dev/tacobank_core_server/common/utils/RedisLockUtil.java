@@ -0,0 +1,65 @@
+package com.almagest_dev.tacobank_core_server.common.utils;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Redis 분산 잠금 (SET NX + TTL)
+ *  - 잠금 소유자(owner) 값이 일치할 때만 해제 (TTL 만료 후 다른 서버가 잡은 잠금을 해제하지 않음)
+ *  - Redis 장애 시 잠금 획득 실패로 처리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisLockUtil {
+    private static final DefaultRedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * 잠금 획득 시도
+     * @param owner 잠금 소유자 식별값 (해제 시 동일 값 필요)
+     * @return 획득 성공 여부
+     */
+    public boolean tryLock(String lockKey, String owner, Duration ttl) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(lockKey, owner, ttl));
+        } catch (Exception e) {
+            log.warn("RedisLockUtil::tryLock 잠금 획득 실패 - Key: {}, Error: {}", lockKey, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 잠금 보유 여부 (다른 소유자 포함)
+     *  - Redis 장애 시 false
+     */
+    public boolean isHeld(String lockKey) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(lockKey));
+        } catch (Exception e) {
+            log.warn("RedisLockUtil::isHeld 잠금 조회 실패 - Key: {}, Error: {}", lockKey, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 잠금 해제 (소유자 일치 시)
+     */
+    public void unlock(String lockKey, String owner) {
+        try {
+            redisTemplate.execute(UNLOCK_SCRIPT, List.of(lockKey), owner);
+        } catch (Exception e) {
+            log.warn("RedisLockUtil::unlock 잠금 해제 실패 - Key: {}, Error: {}", lockKey, e.getMessage());
+        }
+    }
+}
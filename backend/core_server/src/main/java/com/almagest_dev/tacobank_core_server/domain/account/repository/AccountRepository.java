@@ -3,20 +3,31 @@ package com.almagest_dev.tacobank_core_server.domain.account.repository;
 import com.almagest_dev.tacobank_core_server.domain.account.model.Account;
 import com.almagest_dev.tacobank_core_server.domain.member.model.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 
 public interface AccountRepository extends JpaRepository<Account, Long> {
     Optional<Account> findByIdAndVerified(Long id, String verified);
-    long countByMember(Member member);
     Optional<Account> findByIdAndMember(Long id, Member member);
     Optional<Account> findByAccountNum(String accountNum);
+    List<Account> findByMember_IdAndAccountNumIn(Long memberId, Collection<String> accountNums); // 멤버의 계좌번호 목록 일괄 조회
     List<Account> findByMember_Id(Long memberId);
 
     List<Account> findByMember_IdAndVerified(Long memberId, String verified); // 특정 멤버의 출금 가능한 계좌 조회
 
+    @Query("SELECT a FROM Account a JOIN FETCH a.member WHERE a.accountNum = :accountNum")
+    List<Account> findWithMemberByAccountNum(@Param("accountNum") String accountNum); // 계좌번호로 계좌 + 소유 멤버 조회
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Account a SET a.verified = 'N', a.updatedDate = CURRENT_TIMESTAMP WHERE a.id IN :ids")
+    int deactivateByIdIn(@Param("ids") List<Long> ids); // 테스트베드에서 사라진 계좌 일괄 비활성화
+
 
 
 }
@@ -2,13 +2,22 @@ package com.almagest_dev.tacobank_core_server.domain.account.repository;
 
 import com.almagest_dev.tacobank_core_server.domain.account.model.MainAccount;
 import com.almagest_dev.tacobank_core_server.domain.member.model.Member;
+import com.almagest_dev.tacobank_core_server.presentation.dto.account.Account2Dto;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 
+import java.util.List;
 import java.util.Optional;
 
 public interface MainAccountRepository extends JpaRepository<MainAccount, Long> {
     Optional<MainAccount> findByMember(Member member);
     Optional<MainAccount> findByMemberId(Long memberId);
 
+    @Query("SELECT new com.almagest_dev.tacobank_core_server.presentation.dto.account.Account2Dto(a.accountHolderName, a.accountNum, a.bankCode) " +
+            "FROM Friend f JOIN MainAccount m ON m.member.id = f.receiverId JOIN m.account a " +
+            "WHERE f.requesterId = :memberId AND f.status = :status")
+    List<Account2Dto> findFriendMainAccounts(@Param("memberId") Long memberId, @Param("status") String status); // 친구 메인 계좌 일괄 조회 (friends -> main_account -> account)
+
 }
@@ -18,5 +18,7 @@ public interface FriendRepository extends JpaRepository<Friend, Long> {
 
     List<Friend> findByRequesterIdAndStatus(Long requesterId, String status);
 
+    List<Friend> findByReceiverIdAndStatus(Long receiverId, String status);
+
 
 }
@@ -1,8 +1,11 @@
 package com.almagest_dev.tacobank_core_server.domain.settlememt.repository;
 import com.almagest_dev.tacobank_core_server.domain.settlememt.model.SettlementDetails;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,4 +25,8 @@ public interface SettlementDetailsRepository extends JpaRepository<SettlementDet
     // 특정 정산의 특정 그룹 구성원 개별 정산 상세 정보
     Optional<SettlementDetails> findBySettlement_IdAndGroupMember_Id(Long settlementId, Long groupMemberId);
 
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE SettlementDetails sd SET sd.settlementStatus = 'Y', sd.updatedDate = CURRENT_TIMESTAMP WHERE sd.id IN :ids AND sd.settlementStatus = 'N'")
+    int completeByIdIn(@Param("ids") Collection<Long> ids); // 개별 정산 일괄 완료 (정산 일괄 송금)
+
 }
\ No newline at end of file
@@ -3,7 +3,11 @@ package com.almagest_dev.tacobank_core_server.domain.settlememt.repository;
 
 import com.almagest_dev.tacobank_core_server.domain.settlememt.model.Settlement;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,4 +15,9 @@ public interface SettlementRepository extends JpaRepository<Settlement, Long> {
     List<Settlement> findByPayGroup_Leader_Id(Long leaderId);
 
     Optional<Settlement> findByIdAndSettlementStatus(Long settlementId, String settlementStatus);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Settlement s SET s.settlementStatus = 'Y', s.updatedDate = CURRENT_TIMESTAMP WHERE s.id IN :ids " +
+            "AND NOT EXISTS (SELECT sd.id FROM SettlementDetails sd WHERE sd.settlement.id = s.id AND (sd.settlementStatus IS NULL OR sd.settlementStatus <> 'Y'))")
+    int completeFullyPaidByIdIn(@Param("ids") Collection<Long> ids); // 모든 개별 정산이 완료된 정산 일괄 완료
 }
@@ -0,0 +1,69 @@
+package com.almagest_dev.tacobank_core_server.domain.transaction.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "transaction_history",
+        uniqueConstraints = @UniqueConstraint(name = "uk_transaction_history_tran", columnNames = {"fintech_use_num", "tran_num"}),
+        indexes = @Index(name = "idx_transaction_history_date", columnList = "fintech_use_num, tran_date, tran_time, tran_num"))
+public class TransactionHistory {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "fintech_use_num", columnDefinition = "VARCHAR(40) NOT NULL COMMENT '계좌 핀테크 이용번호'")
+    private String fintechUseNum;
+
+    @Column(name = "tran_num", columnDefinition = "VARCHAR(50) NOT NULL COMMENT '거래 고유 번호'")
+    private String tranNum;
+
+    @Column(name = "tran_date", columnDefinition = "VARCHAR(8) NOT NULL COMMENT '거래 일자(yyyyMMdd)'")
+    private String tranDate;
+
+    @Column(name = "tran_time", columnDefinition = "VARCHAR(6) NOT NULL COMMENT '거래 시간(HHmmss)'")
+    private String tranTime;
+
+    @Column(columnDefinition = "VARCHAR(10) COMMENT '입출금 구분'")
+    private String inoutType;
+
+    @Column(columnDefinition = "VARCHAR(10) COMMENT '거래 구분'")
+    private String tranType;
+
+    @Column(columnDefinition = "VARCHAR(40) COMMENT '통장 인자 내용'")
+    private String printContent;
+
+    @Column(columnDefinition = "VARCHAR(20) COMMENT '거래 금액'")
+    private String tranAmt;
+
+    @Column(columnDefinition = "VARCHAR(20) COMMENT '거래 후 잔액'")
+    private String afterBalanceAmt;
+
+    @Column(columnDefinition = "DATETIME DEFAULT CURRENT_TIMESTAMP NOT NULL COMMENT '등록일자'")
+    private LocalDateTime createdDate;
+
+    public static TransactionHistory createTransactionHistory(String fintechUseNum, String tranNum, String tranDate, String tranTime,
+                                                              String inoutType, String tranType, String printContent,
+                                                              String tranAmt, String afterBalanceAmt) {
+        return new TransactionHistory(
+                null,
+                fintechUseNum,
+                tranNum,
+                tranDate,
+                tranTime,
+                inoutType,
+                tranType,
+                printContent,
+                tranAmt,
+                afterBalanceAmt,
+                LocalDateTime.now()
+        );
+    }
+}
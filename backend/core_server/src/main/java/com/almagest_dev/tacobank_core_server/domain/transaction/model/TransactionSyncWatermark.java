@@ -0,0 +1,77 @@
+package com.almagest_dev.tacobank_core_server.domain.transaction.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 계좌별 거래 내역 저장 범위
+ *  - coveredFromDate ~ 마지막 동기화 시점까지의 거래 내역이 transaction_history 에 저장되어 있음
+ *  - 다음 동기화는 lastTranDate 이후 거래만 테스트베드에 요청
+ *  - version: 동기화 중 송금 등으로 만료(syncedDate = NULL)된 경우 동기화 결과 저장 시 충돌 -> 만료 유지
+ */
+@Entity
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "transaction_sync_watermark")
+public class TransactionSyncWatermark {
+    @Id
+    @Column(name = "fintech_use_num", columnDefinition = "VARCHAR(40) NOT NULL COMMENT '계좌 핀테크 이용번호'")
+    private String fintechUseNum;
+
+    @Column(columnDefinition = "VARCHAR(8) NOT NULL COMMENT '저장된 거래 내역 시작 일자(yyyyMMdd)'")
+    private String coveredFromDate;
+
+    @Column(columnDefinition = "VARCHAR(8) COMMENT '마지막 거래 일자(yyyyMMdd)'")
+    private String lastTranDate;
+
+    @Column(columnDefinition = "VARCHAR(6) COMMENT '마지막 거래 시간(HHmmss)'")
+    private String lastTranTime;
+
+    @Column(columnDefinition = "VARCHAR(20) COMMENT '마지막 동기화 시점 잔액'")
+    private String balanceAmt;
+
+    @Column(columnDefinition = "DATETIME COMMENT '마지막 동기화 일시 (NULL: 다음 조회 시 동기화)'")
+    private LocalDateTime syncedDate;
+
+    @Version
+    @Column(columnDefinition = "BIGINT NOT NULL DEFAULT 0 COMMENT '변경 버전 (만료 처리 시 증가)'")
+    private Long version;
+
+    public static TransactionSyncWatermark createWatermark(String fintechUseNum, String coveredFromDate) {
+        return new TransactionSyncWatermark(fintechUseNum, coveredFromDate, null, null, null, null, null);
+    }
+
+    public void extendCoveredFrom(String coveredFromDate) {
+        this.coveredFromDate = coveredFromDate;
+    }
+
+    // 동기화 완료 - 새로 받은 거래 중 가장 최근 거래로 갱신
+    public void markSynced(String lastTranDate, String lastTranTime, String balanceAmt) {
+        if (lastTranDate != null && isAfterLastTran(lastTranDate, lastTranTime)) {
+            this.lastTranDate = lastTranDate;
+            this.lastTranTime = lastTranTime;
+        }
+        if (balanceAmt != null) {
+            this.balanceAmt = balanceAmt;
+        }
+        this.syncedDate = LocalDateTime.now();
+    }
+
+    // 일부만 동기화 (요청 한도 초과) - 받은 거래까지만 갱신, 다음 조회 시 이어서 동기화
+    public void markPartiallySynced(String lastTranDate, String lastTranTime, String balanceAmt) {
+        markSynced(lastTranDate, lastTranTime, balanceAmt);
+        this.syncedDate = null;
+    }
+
+    private boolean isAfterLastTran(String tranDate, String tranTime) {
+        if (this.lastTranDate == null) {
+            return true;
+        }
+        return (tranDate + tranTime).compareTo(this.lastTranDate + this.lastTranTime) > 0;
+    }
+}
@@ -0,0 +1,28 @@
+package com.almagest_dev.tacobank_core_server.domain.transaction.repository;
+
+import com.almagest_dev.tacobank_core_server.domain.transaction.model.TransactionHistory;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface TransactionHistoryRepository extends JpaRepository<TransactionHistory, Long> {
+
+    @Query("SELECT t.tranNum FROM TransactionHistory t WHERE t.fintechUseNum = :fintechUseNum AND t.tranNum IN :tranNums")
+    List<String> findTranNumsByFintechUseNumAndTranNumIn(@Param("fintechUseNum") String fintechUseNum, @Param("tranNums") Collection<String> tranNums); // 이미 저장된 거래 번호 조회
+
+    // 기간 내 거래 내역 최신순 첫 페이지 (fintech_use_num, tran_date, tran_time, tran_num 인덱스)
+    List<TransactionHistory> findByFintechUseNumAndTranDateBetweenOrderByTranDateDescTranTimeDescTranNumDesc(String fintechUseNum, String fromDate, String toDate, Pageable pageable);
+
+    // 기간 내 거래 내역 최신순 다음 페이지 - Cursor(이전 페이지 마지막 거래) 이후만 조회 (Keyset)
+    @Query("SELECT t FROM TransactionHistory t " +
+            "WHERE t.fintechUseNum = :fintechUseNum AND t.tranDate BETWEEN :fromDate AND :toDate " +
+            "AND (t.tranDate < :tranDate OR (t.tranDate = :tranDate AND (t.tranTime < :tranTime OR (t.tranTime = :tranTime AND t.tranNum < :tranNum)))) " +
+            "ORDER BY t.tranDate DESC, t.tranTime DESC, t.tranNum DESC")
+    List<TransactionHistory> findNextPage(@Param("fintechUseNum") String fintechUseNum, @Param("fromDate") String fromDate, @Param("toDate") String toDate,
+                                          @Param("tranDate") String tranDate, @Param("tranTime") String tranTime, @Param("tranNum") String tranNum,
+                                          Pageable pageable);
+}
@@ -0,0 +1,16 @@
+package com.almagest_dev.tacobank_core_server.domain.transaction.repository;
+
+import com.almagest_dev.tacobank_core_server.domain.transaction.model.TransactionSyncWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+
+public interface TransactionSyncWatermarkRepository extends JpaRepository<TransactionSyncWatermark, String> {
+
+    @Modifying
+    @Query("UPDATE TransactionSyncWatermark w SET w.syncedDate = NULL, w.version = w.version + 1 WHERE w.fintechUseNum IN :fintechUseNums")
+    int markStaleByFintechUseNumIn(@Param("fintechUseNums") Collection<String> fintechUseNums); // 다음 조회 시 동기화 (송금 등으로 거래 발생), 진행 중인 동기화의 저장은 version 충돌
+}
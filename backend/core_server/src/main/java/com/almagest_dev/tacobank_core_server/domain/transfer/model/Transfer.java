@@ -13,13 +13,17 @@ import java.util.UUID;
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "transfer")
+@Table(name = "transfer",
+        indexes = {
+                @Index(name = "idx_transfer_transaction_id", columnList = "transaction_id"),
+                @Index(name = "idx_transfer_status_id", columnList = "status, id") // 미확정(R) 송금 결과 확인 (TransferReconciler)
+        })
 public class Transfer {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(columnDefinition = "VARCHAR(40) NOT NULL COMMENT '거래 고유 ID'")
+    @Column(name = "transaction_id", columnDefinition = "VARCHAR(40) NOT NULL COMMENT '거래 고유 ID'")
     private String transactionId;
 
     @Column(columnDefinition = "VARCHAR(40) NOT NULL COMMENT '중복 방지 KEY(클라이언트에서 생성)'")
@@ -83,7 +87,7 @@ public class Transfer {
      * Transfer 관련 메서드
      */
     // Transfer 첫 생성 메서드
-    public static Transfer createTransfer(String idempotencyKey, String transactionId,
+    public static Transfer createTransfer(String idempotencyKey, String transactionId, Long settlementId,
                                           Long memberId, Long accountId,
                                           String withdrawalBankCode, String withdrawalAccountNum, String withdrawalAccountHolder,
                                           String wdPrintContent, String rcvPrintContent,
@@ -94,7 +98,7 @@ public class Transfer {
                 transactionId,                 // 고유 거래 ID
                 idempotencyKey,               // 중복 방지 키
                 null,                         // apiTranId 초기값 null
-                null,                         // settlementId 초기값 null
+                settlementId,                 // 정산 ID (정산 송금이 아니면 null)
                 memberId,                     // 송금 요청자
                 accountId,                    // 출금 계좌 ID
                 withdrawalBankCode,           // 출금 은행 코드
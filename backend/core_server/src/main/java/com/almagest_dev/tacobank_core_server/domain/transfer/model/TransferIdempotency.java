@@ -0,0 +1,56 @@
+package com.almagest_dev.tacobank_core_server.domain.transfer.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 송금 중복 방지 KEY 선점 기록
+ *  - idempotency_key Unique Index 로 같은 KEY 의 송금은 1건만 진행
+ *  - 송금 실패(F) 시 삭제하여 같은 KEY 로 다시 송금 가능, 성공(S) 시 응답 보관
+ */
+@Entity
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "transfer_idempotency",
+        uniqueConstraints = @UniqueConstraint(name = "uk_transfer_idempotency_key", columnNames = "idempotency_key"))
+public class TransferIdempotency {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "idempotency_key", columnDefinition = "VARCHAR(40) NOT NULL COMMENT '중복 방지 KEY(클라이언트에서 생성)'")
+    private String idempotencyKey;
+
+    @Column(columnDefinition = "VARCHAR(40) NOT NULL COMMENT '거래 고유 ID'")
+    private String transactionId;
+
+    @Column(columnDefinition = "BIGINT NOT NULL COMMENT '출금 멤버 ID'")
+    private Long memberId;
+
+    @Column(columnDefinition = "VARCHAR(1) DEFAULT 'R' NOT NULL COMMENT '송금 상태(R: 진행/결과 불확실, S: 성공)'")
+    private String status;
+
+    @Column(columnDefinition = "TEXT COMMENT '송금 성공 응답(JSON)'")
+    private String response;
+
+    @Column(columnDefinition = "DATETIME DEFAULT CURRENT_TIMESTAMP NOT NULL COMMENT '선점 일시'")
+    private LocalDateTime createdDate;
+
+    @Column(columnDefinition = "DATETIME COMMENT '완료 일시'")
+    private LocalDateTime completedDate;
+
+    public static TransferIdempotency createClaim(String idempotencyKey, String transactionId, Long memberId) {
+        return new TransferIdempotency(null, idempotencyKey, transactionId, memberId, "R", null, LocalDateTime.now(), null);
+    }
+
+    public void complete(String response) {
+        this.status = "S";
+        this.response = response;
+        this.completedDate = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,64 @@
+package com.almagest_dev.tacobank_core_server.domain.transfer.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 송금 후속 처리 Outbox
+ *  - 송금 상태 UPDATE 와 같은 트랜잭션에서 INSERT
+ *  - TransferOutboxRelay 가 정산 상태 반영, 알림, 캐시 삭제 후 처리 완료(D)로 변경
+ */
+@Entity
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "transfer_outbox",
+        indexes = @Index(name = "idx_transfer_outbox_status", columnList = "status, id"))
+public class TransferOutbox {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(columnDefinition = "BIGINT NOT NULL COMMENT '송금 ID'")
+    private Long transferId;
+
+    @Column(columnDefinition = "VARCHAR(1) NOT NULL COMMENT '송금 상태(S, F, R: 결과 불확실)'")
+    private String transferStatus;
+
+    @Column(name = "status", columnDefinition = "VARCHAR(1) DEFAULT 'P' NOT NULL COMMENT '처리 상태(P: 대기, D: 완료, F: 재시도 초과)'")
+    private String status;
+
+    @Column(columnDefinition = "INT DEFAULT 0 NOT NULL COMMENT '처리 시도 횟수'")
+    private Integer attempts;
+
+    @Column(columnDefinition = "VARCHAR(255) COMMENT '마지막 처리 오류'")
+    private String lastError;
+
+    @Column(columnDefinition = "DATETIME DEFAULT CURRENT_TIMESTAMP NOT NULL COMMENT '등록일시'")
+    private LocalDateTime createdDate;
+
+    @Column(columnDefinition = "DATETIME COMMENT '처리 완료일시'")
+    private LocalDateTime processedDate;
+
+    public static TransferOutbox createOutbox(Transfer transfer) {
+        return new TransferOutbox(null, transfer.getId(), transfer.getStatus(), "P", 0, null, LocalDateTime.now(), null);
+    }
+
+    public void markProcessed() {
+        this.status = "D";
+        this.attempts = this.attempts + 1;
+        this.processedDate = LocalDateTime.now();
+    }
+
+    public void markFailed(String error, int maxAttempts) {
+        this.attempts = this.attempts + 1;
+        this.lastError = error != null && error.length() > 255 ? error.substring(0, 255) : error;
+        if (this.attempts >= maxAttempts) {
+            this.status = "F";
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.almagest_dev.tacobank_core_server.domain.transfer.repository;
+
+import com.almagest_dev.tacobank_core_server.domain.transfer.model.TransferIdempotency;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface TransferIdempotencyRepository extends JpaRepository<TransferIdempotency, Long> {
+    Optional<TransferIdempotency> findByIdempotencyKey(String idempotencyKey);
+
+    @Modifying
+    @Query("DELETE FROM TransferIdempotency t WHERE t.idempotencyKey = :idempotencyKey AND t.transactionId = :transactionId AND t.status = 'R'")
+    int deleteClaim(@Param("idempotencyKey") String idempotencyKey, @Param("transactionId") String transactionId); // 선점한 거래의 기록만 삭제
+}
@@ -0,0 +1,11 @@
+package com.almagest_dev.tacobank_core_server.domain.transfer.repository;
+
+import com.almagest_dev.tacobank_core_server.domain.transfer.model.TransferOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface TransferOutboxRepository extends JpaRepository<TransferOutbox, Long> {
+    List<TransferOutbox> findByStatusOrderByIdAsc(String status, Pageable pageable); // 처리 대기 Outbox (등록 순)
+}
@@ -3,14 +3,26 @@ package com.almagest_dev.tacobank_core_server.domain.transfer.repository;
 import com.almagest_dev.tacobank_core_server.domain.transfer.model.Transfer;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import org.springframework.data.domain.Pageable;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface TransferRepository extends JpaRepository<Transfer, Long> {
-    boolean existsByIdempotencyKeyAndStatusIn(String idempotencyKey, List<String> status);
+    Optional<Transfer> findByTransactionId(String transactionId);
 
     // 최근 송금 성공 내역 5개 조회
     @Query("SELECT t FROM Transfer t WHERE t.memberId = :memberId AND t.status = :status GROUP BY t.receiverAccountNum")
     List<Transfer> findTop5DistinctByMemberIdAndStatus(Long memberId, String status, Pageable pageable);
+
+    // 요청 후 일정 시간이 지난 상태별 송금 조회 (id 기준 Keyset 페이지)
+    @Query("SELECT t FROM Transfer t WHERE t.status = :status AND t.requestedDate < :requestedBefore AND t.id > :afterId ORDER BY t.id ASC")
+    List<Transfer> findByStatusRequestedBeforeAfterId(@Param("status") String status,
+                                                      @Param("requestedBefore") LocalDateTime requestedBefore,
+                                                      @Param("afterId") Long afterId,
+                                                      Pageable pageable);
+
+    long countByStatusAndRequestedDateBefore(String status, LocalDateTime requestedBefore);
 }
@@ -0,0 +1,117 @@
+package com.almagest_dev.tacobank_core_server.infrastructure.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 비동기 작업 Thread Pool 설정
+ */
+@Configuration
+public class AsyncConfig {
+
+    @Value("${testbed.executor.core-pool-size:16}")
+    private int testbedCorePoolSize;
+    @Value("${testbed.executor.max-pool-size:32}")
+    private int testbedMaxPoolSize;
+    @Value("${testbed.executor.queue-capacity:200}")
+    private int testbedQueueCapacity;
+    @Value("${testbed.callback-executor.core-pool-size:8}")
+    private int callbackCorePoolSize;
+    @Value("${testbed.callback-executor.max-pool-size:32}")
+    private int callbackMaxPoolSize;
+    @Value("${testbed.callback-executor.queue-capacity:1000}")
+    private int callbackQueueCapacity;
+    @Value("${transfer.executor.core-pool-size:8}")
+    private int transferCorePoolSize;
+    @Value("${transfer.executor.max-pool-size:8}")
+    private int transferMaxPoolSize;
+    @Value("${transfer.executor.queue-capacity:100}")
+    private int transferQueueCapacity;
+    @Value("${transaction.history.sync-executor.core-pool-size:2}")
+    private int historySyncCorePoolSize;
+    @Value("${transaction.history.sync-executor.max-pool-size:4}")
+    private int historySyncMaxPoolSize;
+    @Value("${transaction.history.sync-executor.queue-capacity:100}")
+    private int historySyncQueueCapacity;
+
+    /**
+     * 테스트베드 API 동시 호출용 Thread Pool
+     *  - 크기가 제한된 Pool + Queue
+     *  - Pool, Queue 가 모두 찬 경우 요청 Thread 에서 직접 실행 (순차 호출로 저하)
+     */
+    @Bean
+    public ThreadPoolTaskExecutor testbedTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("testbed-");
+        executor.setCorePoolSize(testbedCorePoolSize);
+        executor.setMaxPoolSize(testbedMaxPoolSize);
+        executor.setQueueCapacity(testbedQueueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 테스트베드 비동기 응답 후속 처리용 Thread Pool (DB 조회/저장, 응답 매핑)
+     *  - Non-blocking HTTP Client 의 I/O Thread 에서 Blocking 작업을 수행하지 않도록 분리
+     *  - Pool, Queue 가 모두 찬 경우 거절 (I/O Thread 에서 직접 실행하지 않음)
+     */
+    @Bean
+    public ThreadPoolTaskExecutor testbedCallbackExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("testbed-cb-");
+        executor.setCorePoolSize(callbackCorePoolSize);
+        executor.setMaxPoolSize(callbackMaxPoolSize);
+        executor.setQueueCapacity(callbackQueueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 비동기 송금 처리용 Thread Pool (테스트베드 송금 요청 + 결과 반영)
+     *  - HTTP 요청 Thread 와 별도로 송금 동시 처리 수 제한
+     *  - Pool, Queue 가 모두 찬 경우 거절 (송금 요청 전 실패 처리)
+     *  - 종료 시 진행 중인 송금 완료 대기
+     */
+    @Bean
+    public ThreadPoolTaskExecutor transferTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("transfer-");
+        executor.setCorePoolSize(transferCorePoolSize);
+        executor.setMaxPoolSize(transferMaxPoolSize);
+        executor.setQueueCapacity(transferQueueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 거래 내역 최초 동기화용 Thread Pool (홈 화면 첫 조회 시 백그라운드 수행)
+     *  - 요청 Thread, 테스트베드 API 동시 호출용 Pool 과 분리하여 긴 동기화가 화면 응답을 점유하지 않도록 함
+     *  - Pool, Queue 가 모두 찬 경우 거절 (다음 조회 시 다시 요청)
+     */
+    @Bean
+    public ThreadPoolTaskExecutor transactionSyncExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("tran-sync-");
+        executor.setCorePoolSize(historySyncCorePoolSize);
+        executor.setMaxPoolSize(historySyncMaxPoolSize);
+        executor.setQueueCapacity(historySyncQueueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+}
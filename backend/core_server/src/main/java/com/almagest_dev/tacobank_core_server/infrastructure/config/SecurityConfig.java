@@ -5,6 +5,7 @@ import com.almagest_dev.tacobank_core_server.infrastructure.security.authenticat
 import com.almagest_dev.tacobank_core_server.infrastructure.security.authentication.JwtProvider;
 import com.almagest_dev.tacobank_core_server.infrastructure.security.handler.CustomAccessDeniedHandler;
 import com.almagest_dev.tacobank_core_server.infrastructure.security.handler.CustomAuthenticationEntryPoint;
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -46,6 +47,7 @@ public class SecurityConfig {
                 .cors((cors) -> cors.configurationSource(CorsConfig.corsConfigurationSource())) // CORS 설정
                 .sessionManagement((session) -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)) // 세션 비활성화
                 .authorizeHttpRequests((authorize) -> authorize
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll() // 비동기 응답 재디스패치 (최초 요청에서 인가 완료)
                         .requestMatchers(PUBLIC_API_URL).permitAll() // 인증 없이 접근 가능한 경로
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll() // OPTIONS 요청 허용
                         .requestMatchers(ADMIN_API_URL).hasRole("ADMIN") // Admin 페이지 권한 제한
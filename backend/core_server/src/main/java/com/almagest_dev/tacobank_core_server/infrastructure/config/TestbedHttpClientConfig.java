@@ -0,0 +1,122 @@
+package com.almagest_dev.tacobank_core_server.infrastructure.config;
+
+import com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.client.TestbedConnectionManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * 테스트베드 API 전용 HTTP Client 설정
+ *  - Keep-Alive 연결 재사용 (Connection Pool)
+ *  - 연결/응답 타임아웃 (응답 타임아웃은 경로별 설정)
+ *  - 유휴/만료 연결 정리
+ *  - Pool 사용량 메트릭 (httpcomponents.httpclient.pool.*{httpclient="testbed"})
+ *  - 비동기 호출용 Non-blocking WebClient (Reactor Netty, 같은 Pool/타임아웃 설정 사용)
+ */
+@Configuration
+@EnableConfigurationProperties({TestbedHttpProperties.class, TestbedRateLimitProperties.class})
+public class TestbedHttpClientConfig {
+
+    @Bean
+    public TestbedConnectionManager testbedConnectionManager(TestbedHttpProperties properties, MeterRegistry meterRegistry) {
+        TestbedConnectionManager connectionManager = new TestbedConnectionManager(meterRegistry);
+        connectionManager.setMaxTotal(properties.getMaxTotal());
+        connectionManager.setDefaultMaxPerRoute(properties.getMaxPerRoute());
+        connectionManager.setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(toTimeout(properties.getConnectTimeout()))
+                .setTimeToLive(TimeValue.ofMilliseconds(properties.getConnectionTimeToLive().toMillis()))
+                .setValidateAfterInactivity(TimeValue.ofMilliseconds(properties.getValidateAfterInactivity().toMillis()))
+                .build());
+
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "testbed").bindTo(meterRegistry);
+        return connectionManager;
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient testbedHttpClient(TestbedConnectionManager testbedConnectionManager, TestbedHttpProperties properties) {
+        return HttpClients.custom()
+                .setConnectionManager(testbedConnectionManager)
+                .setDefaultRequestConfig(createRequestConfig(properties, properties.getReadTimeout()))
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(properties.getIdleEvictTimeout().toMillis()))
+                .build();
+    }
+
+    @Bean
+    public RestTemplate testbedRestTemplate(RestTemplateBuilder restTemplateBuilder, CloseableHttpClient testbedHttpClient, TestbedHttpProperties properties) {
+        HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(testbedHttpClient);
+        // 요청 경로별 응답 타임아웃 적용
+        requestFactory.setHttpContextFactory((httpMethod, uri) -> {
+            HttpClientContext context = HttpClientContext.create();
+            context.setRequestConfig(createRequestConfig(properties, properties.resolveReadTimeout(uri.getPath())));
+            return context;
+        });
+
+        // RestTemplateBuilder 사용 - http.client.requests 메트릭 자동 등록
+        return restTemplateBuilder
+                .requestFactory(() -> requestFactory)
+                .build();
+    }
+
+    /**
+     * 비동기 호출용 Connection Pool (Reactor Netty)
+     *  - Pool 메트릭: reactor.netty.connection.provider.*{name="testbed"}
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider testbedConnectionProvider(TestbedHttpProperties properties) {
+        return ConnectionProvider.builder("testbed")
+                .maxConnections(properties.getMaxTotal())
+                .pendingAcquireTimeout(properties.getConnectionRequestTimeout())
+                .maxIdleTime(properties.getIdleEvictTimeout())
+                .maxLifeTime(properties.getConnectionTimeToLive())
+                .evictInBackground(properties.getIdleEvictTimeout())
+                .metrics(true)
+                .build();
+    }
+
+    /**
+     * 비동기 호출용 WebClient
+     *  - 응답 타임아웃은 요청마다 경로별로 적용 (TestbedApiClient)
+     *  - WebClient.Builder 사용 - http.client.requests 메트릭 자동 등록
+     */
+    @Bean
+    public WebClient testbedWebClient(WebClient.Builder webClientBuilder, ConnectionProvider testbedConnectionProvider, TestbedHttpProperties properties) {
+        HttpClient httpClient = HttpClient.create(testbedConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getConnectTimeout().toMillis())
+                .responseTimeout(properties.getReadTimeout());
+
+        return webClientBuilder.clone()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+
+    private RequestConfig createRequestConfig(TestbedHttpProperties properties, Duration readTimeout) {
+        return RequestConfig.custom()
+                .setConnectionRequestTimeout(toTimeout(properties.getConnectionRequestTimeout()))
+                .setResponseTimeout(toTimeout(readTimeout))
+                .build();
+    }
+
+    private Timeout toTimeout(Duration duration) {
+        return Timeout.ofMilliseconds(duration.toMillis());
+    }
+}
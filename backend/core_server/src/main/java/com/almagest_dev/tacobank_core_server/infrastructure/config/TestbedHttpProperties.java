@@ -0,0 +1,44 @@
+package com.almagest_dev.tacobank_core_server.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 테스트베드 HTTP Client 설정 (testbed.http.*)
+ *  - Connection Pool 크기, 타임아웃, 유휴 연결 정리 주기
+ *  - read-timeouts: 테스트베드 경로별 응답 대기 시간 (미설정 경로는 read-timeout 사용)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "testbed.http")
+public class TestbedHttpProperties {
+    private int maxTotal = 100;                                     // 전체 최대 연결 수
+    private int maxPerRoute = 50;                                   // 호스트(Route)별 최대 연결 수
+    private Duration connectTimeout = Duration.ofSeconds(3);        // 연결 타임아웃
+    private Duration connectionRequestTimeout = Duration.ofSeconds(2); // Pool 에서 연결을 할당받기까지 대기 시간
+    private Duration readTimeout = Duration.ofSeconds(10);          // 기본 응답 타임아웃
+    private Map<String, Duration> readTimeouts = new HashMap<>();   // 경로별 응답 타임아웃 (key: /openbank/tranlist 등)
+    private Duration idleEvictTimeout = Duration.ofSeconds(30);     // 유휴 연결 정리 기준
+    private Duration connectionTimeToLive = Duration.ofMinutes(5);  // 연결 최대 수명
+    private Duration validateAfterInactivity = Duration.ofSeconds(5); // 유휴 후 재사용 전 연결 검증 기준
+    private int warmupConnections = 4;                              // 기동 시 미리 맺어둘 연결 수 (0: 사용 안함)
+
+    /**
+     * 경로별 응답 타임아웃 조회
+     */
+    public Duration resolveReadTimeout(String path) {
+        if (path != null) {
+            for (Map.Entry<String, Duration> entry : readTimeouts.entrySet()) {
+                if (path.endsWith(entry.getKey())) {
+                    return entry.getValue();
+                }
+            }
+        }
+        return readTimeout;
+    }
+}
@@ -0,0 +1,34 @@
+package com.almagest_dev.tacobank_core_server.infrastructure.config;
+
+import com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.client.TestbedCallPriority;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 테스트베드 호출 속도 제한 설정 (testbed.rate-limit.*)
+ *  - Token Bucket: 초당 permits-per-second 개 충전, 최대 burst 개 적립
+ *  - 대기 Queue: 전체 max-queue-size 개, 우선순위별 최대 대기 시간(max-wait)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "testbed.rate-limit")
+public class TestbedRateLimitProperties {
+    private boolean enabled = true;
+    private double permitsPerSecond = 50;   // 초당 허용 호출 수
+    private int burst = 50;                 // 최대 적립 Token 수 (순간 허용 호출 수)
+    private int maxQueueSize = 200;         // 전체 대기 요청 수
+    private Map<TestbedCallPriority, Duration> maxWait = new EnumMap<>(Map.of(
+            TestbedCallPriority.HIGH, Duration.ofSeconds(5),
+            TestbedCallPriority.NORMAL, Duration.ofSeconds(2),
+            TestbedCallPriority.LOW, Duration.ofSeconds(1)
+    ));
+
+    public Duration resolveMaxWait(TestbedCallPriority priority) {
+        return maxWait.getOrDefault(priority, Duration.ofSeconds(1));
+    }
+}
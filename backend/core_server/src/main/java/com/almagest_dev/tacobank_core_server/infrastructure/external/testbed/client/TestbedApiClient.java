@@ -1,23 +1,65 @@
 package com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.client;
 
 import com.almagest_dev.tacobank_core_server.common.exception.TestbedApiException;
+import com.almagest_dev.tacobank_core_server.common.exception.TestbedRequestNotSentException;
+import com.almagest_dev.tacobank_core_server.infrastructure.config.TestbedHttpProperties;
 import com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.util.TestbedApiUtil;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.ConnectTimeoutException;
+import org.apache.hc.core5.http.ConnectionRequestTimeoutException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientResponseException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.netty.http.client.HttpClientRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class TestbedApiClient {
-    private final String TESTBED_API_URL = "https://almagest.io/fintech/api";
     private final TestbedApiUtil testbedApiUtil;
     private final RestTemplate restTemplate;
+    private final TestbedCallGuard testbedCallGuard;
+    private final TestbedSingleFlight testbedSingleFlight;
+    private final WebClient webClient;
+    private final TestbedHttpProperties httpProperties;
+    private final TestbedRateLimiter testbedRateLimiter;
+    private final String testbedApiUrl; // testbed.api.url
+
+    public TestbedApiClient(TestbedApiUtil testbedApiUtil, @Qualifier("testbedRestTemplate") RestTemplate restTemplate, TestbedCallGuard testbedCallGuard,
+                            TestbedSingleFlight testbedSingleFlight, @Qualifier("testbedWebClient") WebClient webClient, TestbedHttpProperties httpProperties,
+                            TestbedRateLimiter testbedRateLimiter,
+                            @Value("${testbed.api.url:https://almagest.io/fintech/api}") String testbedApiUrl) { // 에뮬레이터 사용 시 http://{host}:8090/fintech/api
+        this.testbedApiUtil = testbedApiUtil;
+        this.restTemplate = restTemplate;
+        this.testbedCallGuard = testbedCallGuard;
+        this.testbedSingleFlight = testbedSingleFlight;
+        this.webClient = webClient;
+        this.httpProperties = httpProperties;
+        this.testbedRateLimiter = testbedRateLimiter;
+        this.testbedApiUrl = testbedApiUrl;
+    }
 
     /**
      * Testbed API 요청
@@ -28,24 +70,169 @@ public class TestbedApiClient {
         HttpEntity<?> requestEntity = new HttpEntity<>(requestBody, headers);
         log.info("TestbedApiClient::requestApi Request Header - " + headers + " | Body - " + requestBody);
 
+        R response = execute(path, () -> restTemplate.postForObject(
+                testbedApiUrl + path,
+                requestEntity,
+                responseType
+        ));
+        log.info("TestbedApiClient::requestApi Response - " + response);
+        return response;
+    }
+
+    /**
+     * Testbed API 요청 - 응답 Streaming 읽기
+     *  - 응답 본문을 DTO 로 한 번에 역직렬화하지 않고 reader 로 직접 읽음 (대용량 응답)
+     */
+    public <T, R> R requestApiStream(T requestBody, String path, ResponseReader<R> reader) {
+        HttpHeaders headers = testbedApiUtil.createHeaders();
+        HttpEntity<?> requestEntity = new HttpEntity<>(requestBody, headers);
+        log.info("TestbedApiClient::requestApiStream Request Header - " + headers + " | Body - " + requestBody);
+
+        return execute(path, () -> restTemplate.execute(
+                testbedApiUrl + path,
+                HttpMethod.POST,
+                restTemplate.httpEntityCallback(requestEntity),
+                clientHttpResponse -> reader.read(clientHttpResponse.getBody())
+        ));
+    }
+
+    /**
+     * 속도 제한 + 경로별 Circuit Breaker, Bulkhead 적용 후 호출
+     */
+    private <R> R execute(String path, Supplier<R> call) {
+        // 호출 속도 제한 (우선순위별 대기, 대기 초과 시 503)
+        testbedRateLimiter.acquire(path);
+
         try {
-            R response = restTemplate.postForObject(
-                    TESTBED_API_URL + path,
-                    requestEntity,
-                    responseType
-            );
+            // 경로별 Circuit Breaker, Bulkhead 적용
+            R response = testbedCallGuard.execute(path, call);
 
             if (response == null) {
                 throw new TestbedApiException("API 응답이 없습니다.");
             }
-
-            log.info("TestbedApiClient::requestApi Response - " + response);
             return response;
 
         } catch (HttpClientErrorException | HttpServerErrorException ex) {
             log.warn("TestbedApiClient::requestApi Testbed Server Error - {}", ex.getMessage());
             throw new TestbedApiException(ex.getResponseBodyAsString(), ex);
+        } catch (ResourceAccessException ex) { // 연결/응답 타임아웃, Pool 할당 대기 초과
+            log.warn("TestbedApiClient::requestApi Testbed Connection Error - path: {}, {}", path, ex.getMessage());
+            throw toConnectionException(ex);
         }
     }
 
+    /**
+     * Testbed API 요청 - 동일 요청 병합
+     *  - 같은 경로 + flightKey(사용자/계좌/조회 기간 등) 요청이 진행 중이면 해당 결과를 공유
+     *  - 요청 시각(tranDtime) 등 매 요청마다 달라지는 값은 flightKey 에서 제외
+     */
+    public <T, R> R requestApiShared(T requestBody, String path, Class<R> responseType, String flightKey) {
+        return testbedSingleFlight.execute(path, flightKey, () -> requestApi(requestBody, path, responseType));
+    }
+
+    /**
+     * Testbed API 비동기 요청 (Non-blocking)
+     *  - 응답 대기 중 Thread 를 점유하지 않음
+     *  - 오류는 동기 요청과 같은 TestbedApiException 으로 완료
+     */
+    public <T, R> CompletableFuture<R> requestApiAsync(T requestBody, String path, Class<R> responseType) {
+        HttpHeaders headers = testbedApiUtil.createHeaders();
+        Duration readTimeout = httpProperties.resolveReadTimeout(path);
+        log.info("TestbedApiClient::requestApiAsync Request Header - " + headers + " | Body - " + requestBody);
+
+        // 호출 속도 제한 통과 후 요청 (대기 중 Thread 를 점유하지 않음)
+        return testbedRateLimiter.acquireAsync(path).thenCompose(granted -> testbedCallGuard.<R>executeAsync(path, () -> webClient.post()
+                        .uri(testbedApiUrl + path)
+                        .headers(httpHeaders -> httpHeaders.addAll(headers))
+                        .httpRequest(httpRequest -> {
+                            // 경로별 응답 타임아웃 적용
+                            HttpClientRequest nativeRequest = httpRequest.getNativeRequest();
+                            nativeRequest.responseTimeout(readTimeout);
+                        })
+                        .bodyValue(requestBody)
+                        .retrieve()
+                        .bodyToMono(responseType)
+                        .onErrorMap(this::toRestClientException) // Circuit Breaker 기록 기준을 동기 요청과 일치
+                        .toFuture()))
+                .handle((response, ex) -> {
+                    if (ex != null) {
+                        throw toTestbedApiException(path, ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex);
+                    }
+                    if (response == null) {
+                        throw new TestbedApiException("API 응답이 없습니다.");
+                    }
+                    log.info("TestbedApiClient::requestApiAsync Response - " + response);
+                    return response;
+                });
+    }
+
+    /**
+     * Testbed API 비동기 요청 - 동일 요청 병합
+     */
+    public <T, R> CompletableFuture<R> requestApiSharedAsync(T requestBody, String path, Class<R> responseType, String flightKey) {
+        return testbedSingleFlight.executeAsync(path, flightKey, () -> requestApiAsync(requestBody, path, responseType));
+    }
+
+    /**
+     * WebClient 예외 -> RestTemplate 예외 (resilience4j record/ignore 설정 공유)
+     */
+    private Throwable toRestClientException(Throwable ex) {
+        if (ex instanceof WebClientResponseException responseException) {
+            if (responseException.getStatusCode().is4xxClientError()) {
+                return HttpClientErrorException.create(responseException.getStatusCode(), responseException.getStatusText(),
+                        responseException.getHeaders(), responseException.getResponseBodyAsByteArray(), StandardCharsets.UTF_8);
+            }
+            return HttpServerErrorException.create(responseException.getStatusCode(), responseException.getStatusText(),
+                    responseException.getHeaders(), responseException.getResponseBodyAsByteArray(), StandardCharsets.UTF_8);
+        }
+        if (ex instanceof WebClientRequestException && ex.getCause() instanceof ConnectException connectException) { // 연결 실패 (요청 미전송)
+            return new ResourceAccessException(ex.getMessage(), connectException);
+        }
+        if (ex instanceof WebClientRequestException || ex instanceof TimeoutException) { // 연결/응답 타임아웃, Pool 할당 대기 초과
+            return new ResourceAccessException(ex.getMessage());
+        }
+        return ex;
+    }
+
+    private RuntimeException toTestbedApiException(String path, Throwable ex) {
+        if (ex instanceof TestbedApiException testbedApiException) {
+            return testbedApiException;
+        }
+        if (ex instanceof HttpClientErrorException || ex instanceof HttpServerErrorException) {
+            log.warn("TestbedApiClient::requestApiAsync Testbed Server Error - {}", ex.getMessage());
+            return new TestbedApiException(((RestClientResponseException) ex).getResponseBodyAsString(), ex);
+        }
+        if (ex instanceof ResourceAccessException resourceAccessException) {
+            log.warn("TestbedApiClient::requestApiAsync Testbed Connection Error - path: {}, {}", path, ex.getMessage());
+            return toConnectionException(resourceAccessException);
+        }
+        log.warn("TestbedApiClient::requestApiAsync Error - path: {}, {}", path, ex.getMessage());
+        return new TestbedApiException(null, ex);
+    }
+
+    /**
+     * 연결 오류 -> 요청 미전송 확정(연결 실패, Pool 할당 대기 초과) / 결과 불확실(응답 타임아웃 등) 구분
+     */
+    private TestbedApiException toConnectionException(ResourceAccessException ex) {
+        for (Throwable cause = ex.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConnectException || cause instanceof ConnectTimeoutException || cause instanceof ConnectionRequestTimeoutException
+                    || cause instanceof UnknownHostException || cause instanceof NoRouteToHostException) {
+                return new TestbedRequestNotSentException("은행 서버에 연결할 수 없습니다. 잠시 후 다시 시도해주세요.");
+            }
+        }
+        return new TestbedApiException("테스트베드 서버 응답이 지연되고 있습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    public String getBaseUrl() {
+        return testbedApiUrl;
+    }
+
+    /**
+     * 응답 본문 Streaming 읽기
+     */
+    @FunctionalInterface
+    public interface ResponseReader<R> {
+        R read(InputStream body) throws IOException;
+    }
+
 }
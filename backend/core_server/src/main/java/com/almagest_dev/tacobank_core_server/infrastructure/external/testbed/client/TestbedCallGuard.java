@@ -0,0 +1,110 @@
+package com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.client;
+
+import com.almagest_dev.tacobank_core_server.common.exception.TestbedRequestNotSentException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 테스트베드 경로별 장애 격리
+ *  - Circuit Breaker: 경로별 실패율/지연 호출 비율이 기준을 넘으면 호출 차단 (resilience4j.circuitbreaker.instances.testbed-*)
+ *  - Bulkhead: 경로별 최대 동시 호출 수 제한 - 특정 경로 지연이 다른 경로의 Thread 를 점유하지 않도록 함 (resilience4j.bulkhead.instances.testbed-*)
+ *  - 상태/호출 메트릭: resilience4j_circuitbreaker_*, resilience4j_bulkhead_* + testbed.call.rejected
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TestbedCallGuard {
+    private static final String INSTANCE_PREFIX = "testbed-";
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Counter> rejectedCounters = new ConcurrentHashMap<>();
+
+    /**
+     * 경로에 해당하는 Circuit Breaker, Bulkhead 를 적용하여 호출
+     *  - Circuit Breaker 열림: 503 (테스트베드 호출 없이 즉시 실패)
+     *  - Bulkhead 초과: 503
+     *  - 거절은 TestbedRequestNotSentException (요청 미전송 확정)
+     */
+    public <R> R execute(String path, Supplier<R> call) {
+        String name = instanceName(path);
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(name);
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(name);
+
+        try {
+            return Bulkhead.decorateSupplier(bulkhead, CircuitBreaker.decorateSupplier(circuitBreaker, call)).get();
+        } catch (CallNotPermittedException ex) {
+            log.warn("TestbedCallGuard::execute Circuit Breaker OPEN - path: {}", path);
+            rejected(name, "circuit_breaker").increment();
+            throw new TestbedRequestNotSentException("은행 서버가 일시적으로 응답하지 않습니다. 잠시 후 다시 시도해주세요.");
+        } catch (BulkheadFullException ex) {
+            log.warn("TestbedCallGuard::execute Bulkhead FULL - path: {}", path);
+            rejected(name, "bulkhead").increment();
+            throw new TestbedRequestNotSentException("요청이 많아 처리가 지연되고 있습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    /**
+     * 비동기 호출에 Circuit Breaker, Bulkhead 적용
+     *  - 호출 결과(CompletionStage) 완료 시점에 Circuit Breaker 기록, Bulkhead 반환
+     *  - 거절된 경우 TestbedRequestNotSentException(503) 으로 완료된 Future 반환
+     */
+    public <R> CompletableFuture<R> executeAsync(String path, Supplier<CompletionStage<R>> call) {
+        String name = instanceName(path);
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(name);
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(name);
+
+        return Bulkhead.decorateCompletionStage(bulkhead, CircuitBreaker.decorateCompletionStage(circuitBreaker, call))
+                .get()
+                .toCompletableFuture()
+                .exceptionallyCompose(ex -> {
+                    Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                    if (cause instanceof CallNotPermittedException) {
+                        log.warn("TestbedCallGuard::executeAsync Circuit Breaker OPEN - path: {}", path);
+                        rejected(name, "circuit_breaker").increment();
+                        return CompletableFuture.failedFuture(new TestbedRequestNotSentException("은행 서버가 일시적으로 응답하지 않습니다. 잠시 후 다시 시도해주세요."));
+                    }
+                    if (cause instanceof BulkheadFullException) {
+                        log.warn("TestbedCallGuard::executeAsync Bulkhead FULL - path: {}", path);
+                        rejected(name, "bulkhead").increment();
+                        return CompletableFuture.failedFuture(new TestbedRequestNotSentException("요청이 많아 처리가 지연되고 있습니다. 잠시 후 다시 시도해주세요."));
+                    }
+                    return CompletableFuture.failedFuture(cause);
+                });
+    }
+
+    /**
+     * 테스트베드 경로 -> 인스턴스 이름
+     *  - /openbank/accounts -> testbed-accounts
+     */
+    public static String instanceName(String path) {
+        String name = path.startsWith("/openbank/") ? path.substring("/openbank/".length()) : path;
+        return INSTANCE_PREFIX + name.replaceAll("[^A-Za-z0-9]+", "-").replaceAll("(^-|-$)", "");
+    }
+
+    private Counter rejected(String name, String reason) {
+        return rejectedCounters.computeIfAbsent(name + ":" + reason, key -> Counter.builder("testbed.call.rejected")
+                .description("Circuit Breaker/Bulkhead 에 의해 거절된 테스트베드 호출 수")
+                .tag("name", name)
+                .tag("reason", reason)
+                .register(meterRegistry));
+    }
+}
@@ -0,0 +1,24 @@
+package com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.client;
+
+/**
+ * 테스트베드 호출 우선순위 (높은 순)
+ *  - HIGH: 송금, 수취인 조회 (송금 흐름)
+ *  - NORMAL: 잔액 조회 (송금 전 잔액 확인 포함)
+ *  - LOW: 계좌 목록, 거래 내역 (화면 갱신), 송금 결과 조회 (미확정 송금 정리)
+ */
+public enum TestbedCallPriority {
+    HIGH, NORMAL, LOW;
+
+    public static TestbedCallPriority of(String path) {
+        if (path == null) {
+            return LOW;
+        }
+        if (path.equals("/openbank/transfer") || path.equals("/openbank/recipient")) {
+            return HIGH;
+        }
+        if (path.equals("/openbank/account")) {
+            return NORMAL;
+        }
+        return LOW;
+    }
+}
@@ -0,0 +1,60 @@
+package com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.ConnectionEndpoint;
+import org.apache.hc.client5.http.io.LeaseRequest;
+import org.apache.hc.core5.util.Timeout;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 테스트베드 전용 Connection Pool
+ *  - Pool 에서 연결을 할당(lease)받기까지 걸린 시간을 testbed.http.connection.lease 로 기록
+ *  - Pool 포화 시 lease 대기 시간이 먼저 증가하므로 포화 여부 판단 지표로 사용
+ */
+public class TestbedConnectionManager extends PoolingHttpClientConnectionManager {
+    private final Timer leaseTimer;
+    private final Timer leaseFailureTimer;
+
+    public TestbedConnectionManager(MeterRegistry meterRegistry) {
+        super();
+        this.leaseTimer = Timer.builder("testbed.http.connection.lease")
+                .description("Testbed Connection Pool 연결 할당 대기 시간")
+                .tag("result", "success")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.leaseFailureTimer = Timer.builder("testbed.http.connection.lease")
+                .description("Testbed Connection Pool 연결 할당 대기 시간")
+                .tag("result", "failure")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public LeaseRequest lease(String id, HttpRoute route, Timeout requestTimeout, Object state) {
+        LeaseRequest delegate = super.lease(id, route, requestTimeout, state);
+        return new LeaseRequest() {
+            @Override
+            public ConnectionEndpoint get(Timeout timeout) throws InterruptedException, ExecutionException, TimeoutException {
+                long start = System.nanoTime();
+                boolean leased = false;
+                try {
+                    ConnectionEndpoint endpoint = delegate.get(timeout);
+                    leased = true;
+                    return endpoint;
+                } finally {
+                    (leased ? leaseTimer : leaseFailureTimer).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
+            }
+
+            @Override
+            public boolean cancel() {
+                return delegate.cancel();
+            }
+        };
+    }
+}
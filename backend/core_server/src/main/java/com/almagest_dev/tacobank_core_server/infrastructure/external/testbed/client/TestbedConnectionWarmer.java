@@ -0,0 +1,63 @@
+package com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.client;
+
+import com.almagest_dev.tacobank_core_server.infrastructure.config.TestbedHttpProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.core5.http.io.support.ClassicRequestBuilder;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+/**
+ * 테스트베드 연결 예열
+ *  - 기동 직후 설정된 수만큼 연결(TCP + TLS)을 미리 맺어 Pool 에 적재
+ *  - 첫 요청들이 Handshake 비용을 지불하지 않도록 함 (실패해도 기동에는 영향 없음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TestbedConnectionWarmer {
+    private final CloseableHttpClient testbedHttpClient;
+    private final TestbedApiClient testbedApiClient;
+    private final TestbedHttpProperties properties;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        int connections = properties.getWarmupConnections();
+        if (connections <= 0) {
+            return;
+        }
+
+        log.info("TestbedConnectionWarmer::warmUp START - connections: {}", connections);
+        // 동시에 요청해야 연결이 재사용되지 않고 각각 생성됨
+        ExecutorService executor = Executors.newFixedThreadPool(connections);
+        try {
+            CompletableFuture<?>[] futures = IntStream.range(0, connections)
+                    .mapToObj(i -> CompletableFuture.runAsync(this::openConnection, executor))
+                    .toArray(CompletableFuture<?>[]::new);
+            CompletableFuture.allOf(futures).join();
+        } catch (Exception e) {
+            log.warn("TestbedConnectionWarmer::warmUp 연결 예열 실패 - {}", e.getMessage());
+        } finally {
+            executor.shutdown();
+        }
+        log.info("TestbedConnectionWarmer::warmUp END");
+    }
+
+    private void openConnection() {
+        try {
+            testbedHttpClient.execute(
+                    ClassicRequestBuilder.head(testbedApiClient.getBaseUrl()).build(),
+                    response -> response.getCode() // 응답 코드와 관계없이 연결만 Pool 에 반환
+            );
+        } catch (Exception e) {
+            log.warn("TestbedConnectionWarmer::openConnection 연결 실패 - {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.client;
+
+import com.almagest_dev.tacobank_core_server.common.exception.TestbedRequestNotSentException;
+import com.almagest_dev.tacobank_core_server.infrastructure.config.TestbedRateLimitProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 테스트베드 호출 속도 제한 (Token Bucket + 우선순위 대기 Queue)
+ *  - Token 이 있고 대기 요청이 없으면 즉시 호출
+ *  - Token 이 없으면 우선순위별 Queue 에서 대기 - 높은 우선순위부터, 같은 우선순위는 도착 순서대로 Token 할당
+ *  - 대기 Queue 가 가득 찬 경우: 더 낮은 우선순위의 마지막 대기 요청을 밀어내고 대기, 없으면 즉시 거절
+ *  - 우선순위별 최대 대기 시간 초과 시 거절 (503, TestbedRequestNotSentException - 요청 미전송 확정)
+ *  - 메트릭: testbed.ratelimit.queue.depth{priority}, testbed.ratelimit.wait{priority}, testbed.ratelimit.rejected{priority, reason}, testbed.ratelimit.tokens
+ */
+@Slf4j
+@Component
+public class TestbedRateLimiter {
+    private static final String REJECT_MESSAGE = "요청이 많아 처리가 지연되고 있습니다. 잠시 후 다시 시도해주세요.";
+
+    private final TestbedRateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Executor grantExecutor;
+    private final ScheduledExecutorService scheduler;
+
+    private final Map<TestbedCallPriority, ArrayDeque<Waiter>> queues = new EnumMap<>(TestbedCallPriority.class);
+    private final Map<TestbedCallPriority, Timer> waitTimers = new EnumMap<>(TestbedCallPriority.class);
+    private final Map<String, Counter> rejectedCounters = new ConcurrentHashMap<>();
+
+    private double tokens;
+    private long lastRefillNanos;
+    private int queuedCount;
+    private ScheduledFuture<?> scheduledDispatch;
+
+    public TestbedRateLimiter(TestbedRateLimitProperties properties, MeterRegistry meterRegistry,
+                              @Qualifier("testbedCallbackExecutor") Executor grantExecutor) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.grantExecutor = grantExecutor;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "testbed-ratelimit");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.tokens = properties.getBurst();
+        this.lastRefillNanos = System.nanoTime();
+
+        for (TestbedCallPriority priority : TestbedCallPriority.values()) {
+            ArrayDeque<Waiter> queue = new ArrayDeque<>();
+            queues.put(priority, queue);
+            Gauge.builder("testbed.ratelimit.queue.depth", this, limiter -> limiter.queueDepth(priority))
+                    .description("테스트베드 호출 대기 요청 수")
+                    .tag("priority", priority.name())
+                    .register(meterRegistry);
+            waitTimers.put(priority, Timer.builder("testbed.ratelimit.wait")
+                    .description("테스트베드 호출 Token 대기 시간")
+                    .tag("priority", priority.name())
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+        Gauge.builder("testbed.ratelimit.tokens", this, TestbedRateLimiter::availableTokens)
+                .description("사용 가능한 Token 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 호출 허가 대기 (동기) - 허가될 때까지 호출 Thread 대기
+     */
+    public void acquire(String path) {
+        try {
+            acquireAsync(path).get();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException runtimeException ? runtimeException : new TestbedRequestNotSentException(REJECT_MESSAGE);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TestbedRequestNotSentException(REJECT_MESSAGE);
+        }
+    }
+
+    /**
+     * 호출 허가 대기 (비동기)
+     *  - 즉시 허가: 완료된 Future
+     *  - 대기 후 허가: grantExecutor 에서 완료 (후속 작업이 Rate Limit Thread 를 점유하지 않음)
+     *  - 거절: TestbedRequestNotSentException(503) 으로 완료
+     */
+    public CompletableFuture<Void> acquireAsync(String path) {
+        if (!properties.isEnabled()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        TestbedCallPriority priority = TestbedCallPriority.of(path);
+        Waiter waiter = new Waiter(priority, System.nanoTime());
+        Waiter evicted = null;
+
+        synchronized (this) {
+            refill();
+            if (queuedCount == 0 && tokens >= 1) {
+                tokens -= 1;
+                waitTimers.get(priority).record(0, TimeUnit.NANOSECONDS);
+                return CompletableFuture.completedFuture(null);
+            }
+
+            if (queuedCount >= properties.getMaxQueueSize()) {
+                evicted = pollLowerPriority(priority);
+                if (evicted == null) {
+                    rejected(priority, "queue_full").increment();
+                    log.warn("TestbedRateLimiter::acquireAsync 대기 Queue 초과 - path: {}, priority: {}", path, priority);
+                    return CompletableFuture.failedFuture(new TestbedRequestNotSentException(REJECT_MESSAGE));
+                }
+            }
+
+            queues.get(priority).addLast(waiter);
+            queuedCount++;
+            scheduleDispatch();
+        }
+
+        if (evicted != null && evicted.claim()) {
+            rejected(evicted.priority, "evicted").increment();
+            evicted.future.completeExceptionally(new TestbedRequestNotSentException(REJECT_MESSAGE));
+        }
+
+        // 최대 대기 시간 초과 시 거절
+        long maxWaitMs = properties.resolveMaxWait(priority).toMillis();
+        scheduler.schedule(() -> {
+            if (waiter.claim()) {
+                synchronized (this) {
+                    if (queues.get(priority).remove(waiter)) {
+                        queuedCount--;
+                    }
+                }
+                rejected(priority, "timeout").increment();
+                log.warn("TestbedRateLimiter::acquireAsync 대기 시간 초과 - path: {}, priority: {}, maxWait: {}ms", path, priority, maxWaitMs);
+                waiter.future.completeExceptionally(new TestbedRequestNotSentException(REJECT_MESSAGE));
+            }
+        }, maxWaitMs, TimeUnit.MILLISECONDS);
+
+        return waiter.future;
+    }
+
+    /**
+     * 충전된 Token 만큼 대기 요청 허가 + 남은 대기 요청이 있으면 다음 충전 시점에 재실행
+     */
+    private void dispatch() {
+        while (true) {
+            Waiter waiter;
+            synchronized (this) {
+                scheduledDispatch = null;
+                refill();
+                waiter = tokens >= 1 ? pollHighestPriority() : null;
+                if (waiter == null) {
+                    scheduleDispatch();
+                    return;
+                }
+                if (!waiter.claim()) { // 이미 시간 초과/밀려난 요청 - Token 사용하지 않음
+                    continue;
+                }
+                tokens -= 1;
+            }
+
+            waitTimers.get(waiter.priority).record(System.nanoTime() - waiter.enqueuedNanos, TimeUnit.NANOSECONDS);
+            try {
+                grantExecutor.execute(() -> waiter.future.complete(null));
+            } catch (RejectedExecutionException e) {
+                waiter.future.complete(null);
+            }
+        }
+    }
+
+    /**
+     * 대기 요청이 있을 때 다음 Token 충전 시점에 dispatch 예약 (이미 예약된 경우 생략)
+     */
+    private void scheduleDispatch() {
+        if (queuedCount == 0 || scheduledDispatch != null) {
+            return;
+        }
+        long delayNanos = tokens >= 1 ? 0 : (long) ((1 - tokens) / properties.getPermitsPerSecond() * 1_000_000_000L);
+        scheduledDispatch = scheduler.schedule(this::dispatch, delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        double refilled = (now - lastRefillNanos) / 1_000_000_000.0 * properties.getPermitsPerSecond();
+        tokens = Math.min(properties.getBurst(), tokens + refilled);
+        lastRefillNanos = now;
+    }
+
+    private Waiter pollHighestPriority() {
+        for (TestbedCallPriority priority : TestbedCallPriority.values()) {
+            Waiter waiter = queues.get(priority).pollFirst();
+            if (waiter != null) {
+                queuedCount--;
+                return waiter;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 요청보다 낮은 우선순위 중 가장 낮은 우선순위의 마지막 대기 요청 제거
+     */
+    private Waiter pollLowerPriority(TestbedCallPriority priority) {
+        TestbedCallPriority[] priorities = TestbedCallPriority.values();
+        for (int i = priorities.length - 1; i > priority.ordinal(); i--) {
+            Waiter waiter = queues.get(priorities[i]).pollLast();
+            if (waiter != null) {
+                queuedCount--;
+                return waiter;
+            }
+        }
+        return null;
+    }
+
+    private synchronized double queueDepth(TestbedCallPriority priority) {
+        return queues.get(priority).size();
+    }
+
+    private synchronized double availableTokens() {
+        refill();
+        return tokens;
+    }
+
+    private Counter rejected(TestbedCallPriority priority, String reason) {
+        return rejectedCounters.computeIfAbsent(priority + ":" + reason, key -> Counter.builder("testbed.ratelimit.rejected")
+                .description("속도 제한에 의해 거절된 테스트베드 호출 수")
+                .tag("priority", priority.name())
+                .tag("reason", reason)
+                .register(meterRegistry));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 대기 요청 - 허가/시간 초과/밀려남 중 하나만 처리되도록 claim
+     */
+    private static class Waiter {
+        private final TestbedCallPriority priority;
+        private final long enqueuedNanos;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+        private final AtomicBoolean claimed = new AtomicBoolean();
+
+        private Waiter(TestbedCallPriority priority, long enqueuedNanos) {
+            this.priority = priority;
+            this.enqueuedNanos = enqueuedNanos;
+        }
+
+        private boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+    }
+}
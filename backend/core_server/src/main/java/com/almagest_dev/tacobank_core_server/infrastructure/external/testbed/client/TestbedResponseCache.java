@@ -0,0 +1,101 @@
+package com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.client;
+
+import com.almagest_dev.tacobank_core_server.common.constants.RedisKeyConstants;
+import com.almagest_dev.tacobank_core_server.common.utils.RedisCacheUtil;
+import com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.dto.BalanceInquiryApiResponseDto;
+import com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.dto.IntegrateAccountApiResponseDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * 테스트베드 계좌 목록/잔액 응답 캐시
+ *  - 계좌 목록(/openbank/accounts): userFinanceId 단위 (testbed.cache.accounts-ttl)
+ *  - 잔액(/openbank/account): fintechUseNum 단위 (testbed.cache.balance-ttl)
+ *  - 성공 응답(A0000)만 캐시, 송금 완료 시 관련 계좌 캐시 삭제
+ *  - 적중률 메트릭: cache.gets{cache=testbed-accounts|testbed-balance, result=hit|miss}
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TestbedResponseCache {
+    private static final String ACCOUNTS_CACHE = "testbed-accounts";
+    private static final String BALANCE_CACHE = "testbed-balance";
+
+    private final RedisCacheUtil redisCacheUtil;
+
+    @Value("${testbed.cache.accounts-ttl:30s}")
+    private Duration accountsTtl;
+    @Value("${testbed.cache.balance-ttl:10s}")
+    private Duration balanceTtl;
+
+    /**
+     * 계좌 목록 조회 (캐시 우선)
+     */
+    public IntegrateAccountApiResponseDto getAccounts(String userFinanceId, Supplier<IntegrateAccountApiResponseDto> loader) {
+        return redisCacheUtil.getOrLoad(
+                ACCOUNTS_CACHE,
+                RedisKeyConstants.TESTBED_ACCOUNTS_CACHE_PREFIX + userFinanceId,
+                IntegrateAccountApiResponseDto.class,
+                accountsTtl,
+                loader,
+                response -> "A0000".equals(response.getRspCode()) && response.getResList() != null
+        );
+    }
+
+    /**
+     * 계좌 목록 비동기 조회 (캐시 우선)
+     */
+    public CompletableFuture<IntegrateAccountApiResponseDto> getAccountsAsync(String userFinanceId, Supplier<CompletableFuture<IntegrateAccountApiResponseDto>> loader) {
+        return redisCacheUtil.getOrLoadAsync(
+                ACCOUNTS_CACHE,
+                RedisKeyConstants.TESTBED_ACCOUNTS_CACHE_PREFIX + userFinanceId,
+                IntegrateAccountApiResponseDto.class,
+                accountsTtl,
+                loader,
+                response -> "A0000".equals(response.getRspCode()) && response.getResList() != null
+        );
+    }
+
+    /**
+     * 계좌 목록 비동기 갱신 (캐시를 거치지 않고 조회 후 저장)
+     */
+    public CompletableFuture<IntegrateAccountApiResponseDto> refreshAccountsAsync(String userFinanceId, Supplier<CompletableFuture<IntegrateAccountApiResponseDto>> loader) {
+        return loader.get().thenApply(response -> {
+            if (response != null && "A0000".equals(response.getRspCode()) && response.getResList() != null) {
+                redisCacheUtil.put(RedisKeyConstants.TESTBED_ACCOUNTS_CACHE_PREFIX + userFinanceId, response, accountsTtl);
+            }
+            return response;
+        });
+    }
+
+    /**
+     * 잔액 조회 (캐시 우선)
+     */
+    public BalanceInquiryApiResponseDto getBalance(String fintechUseNum, Supplier<BalanceInquiryApiResponseDto> loader) {
+        return redisCacheUtil.getOrLoad(
+                BALANCE_CACHE,
+                RedisKeyConstants.TESTBED_BALANCE_CACHE_PREFIX + fintechUseNum,
+                BalanceInquiryApiResponseDto.class,
+                balanceTtl,
+                loader,
+                response -> "A0000".equals(response.getRspCode()) && response.getBalanceAmt() != null
+        );
+    }
+
+    /**
+     * 계좌 캐시 삭제
+     *  - 잔액이 변경된 계좌의 잔액 캐시와 계좌 소유자의 계좌 목록 캐시 삭제
+     */
+    public void evict(String userFinanceId, String fintechUseNum) {
+        redisCacheUtil.evict(
+                userFinanceId != null ? RedisKeyConstants.TESTBED_ACCOUNTS_CACHE_PREFIX + userFinanceId : null,
+                fintechUseNum != null ? RedisKeyConstants.TESTBED_BALANCE_CACHE_PREFIX + fintechUseNum : null
+        );
+    }
+}
@@ -0,0 +1,129 @@
+package com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 동일 테스트베드 요청 병합 (Single-flight, 서버 단위)
+ *  - 같은 Key 의 요청이 진행 중이면 새로 호출하지 않고 진행 중인 요청의 결과(예외 포함)를 공유
+ *  - 호출이 끝나면 Key 를 제거 (결과를 보관하지 않음 - 캐시는 TestbedResponseCache)
+ *  - 공유된 응답 객체는 여러 요청이 함께 읽으므로 수정하지 않아야 함
+ *  - 메트릭: testbed.singleflight{path, role=leader|follower}
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TestbedSingleFlight {
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    @Value("${testbed.single-flight.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * 동일 Key 요청 병합 실행
+     *  - 먼저 도착한 요청(leader)이 호출 Thread 에서 직접 수행, 이후 요청(follower)은 결과를 대기
+     */
+    @SuppressWarnings("unchecked")
+    public <R> R execute(String path, String key, Supplier<R> call) {
+        if (!enabled || key == null) {
+            return call.get();
+        }
+
+        String flightKey = path + "|" + key;
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, flight);
+
+        if (existing != null) {
+            counter(path, "follower").increment();
+            log.info("TestbedSingleFlight::execute 진행 중인 요청 결과 공유 - key: {}", flightKey);
+            try {
+                return (R) existing.join();
+            } catch (CompletionException ex) {
+                throw unwrap(ex);
+            }
+        }
+
+        counter(path, "leader").increment();
+        try {
+            R result = call.get();
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error ex) {
+            flight.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(flightKey, flight);
+        }
+    }
+
+    /**
+     * 동일 Key 비동기 요청 병합 실행
+     *  - follower 는 leader 의 Future 결과를 공유 (호출 Thread 대기 없음)
+     *  - 각 요청에는 공유 Future 의 파생 Future 반환 (한 요청의 cancel 이 다른 요청에 전파되지 않음)
+     */
+    @SuppressWarnings("unchecked")
+    public <R> CompletableFuture<R> executeAsync(String path, String key, Supplier<CompletableFuture<R>> call) {
+        if (!enabled || key == null) {
+            return call.get();
+        }
+
+        String flightKey = path + "|" + key;
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, flight);
+
+        if (existing != null) {
+            counter(path, "follower").increment();
+            log.info("TestbedSingleFlight::executeAsync 진행 중인 요청 결과 공유 - key: {}", flightKey);
+            return existing.thenApply(result -> (R) result);
+        }
+
+        counter(path, "leader").increment();
+        CompletableFuture<R> result;
+        try {
+            result = call.get();
+        } catch (RuntimeException ex) {
+            result = CompletableFuture.failedFuture(ex);
+        }
+        result.whenComplete((value, ex) -> {
+            inFlight.remove(flightKey, flight);
+            if (ex != null) {
+                flight.completeExceptionally(ex);
+            } else {
+                flight.complete(value);
+            }
+        });
+        return flight.thenApply(value -> (R) value);
+    }
+
+    private RuntimeException unwrap(CompletionException ex) {
+        Throwable cause = ex.getCause();
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return ex;
+    }
+
+    private Counter counter(String path, String role) {
+        return counters.computeIfAbsent(path + ":" + role, key -> Counter.builder("testbed.singleflight")
+                .description("병합된 테스트베드 요청 수 (follower = 생략된 호출)")
+                .tag("path", path)
+                .tag("role", role)
+                .register(meterRegistry));
+    }
+}
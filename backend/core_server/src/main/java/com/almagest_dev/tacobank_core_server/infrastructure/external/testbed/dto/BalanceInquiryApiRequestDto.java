@@ -2,9 +2,11 @@ package com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.dt
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
 @AllArgsConstructor
+@NoArgsConstructor
 public class BalanceInquiryApiRequestDto {
     private String userFinanceId;   // 요청 고객 사용자 금융 식별번호
     private String fintechUseNum;   // 요청 계좌 식별번호
@@ -13,6 +13,7 @@ public class TransactionListApiRequestDto {
     private String toTime;
     private String sortOrder;
     private String tranDtime;
-    private String dataLength; // 기본값: "null"
+    private String dataLength; // 기본값: "null" (페이지 조회 시 페이지 크기)
+    private String beforInquiryTraceInfo; // 이전 페이지 응답의 다음 페이지 조회 정보 (첫 페이지는 null)
 }
 // 거래내역 조회 DTO
\ No newline at end of file
@@ -13,5 +13,7 @@ public class TransactionListApiResponseDto {
     private String bankName;
     private String fintechUseNum;
     private String balanceAmt;
+    private String nextPageYn; // 다음 페이지 존재 여부 (Y/N)
+    private String beforInquiryTraceInfo; // 다음 페이지 조회 시 전달할 값
     private List<TransactionDetailApiDto> resList;
 }
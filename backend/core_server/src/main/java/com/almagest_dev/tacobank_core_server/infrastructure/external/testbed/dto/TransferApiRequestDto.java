@@ -22,5 +22,6 @@ public class TransferApiRequestDto {
     private String recvClientBankCode;     // 필수: Y, 수신자 은행 코드
     private String recvClientAccountNum;   // 필수: Y, 수신자 계좌 번호
     private String dpsPrintContent;        // 필수: N, 입금 내역 출력 내용
+    private String bankTranId;             // 필수: Y, 이용기관 거래 고유번호 (Transfer.transactionId, 송금 결과 조회 KEY)
 }
 // 송금 요청
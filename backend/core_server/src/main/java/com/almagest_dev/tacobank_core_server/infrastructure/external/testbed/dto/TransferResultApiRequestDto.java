@@ -0,0 +1,16 @@
+package com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TransferResultApiRequestDto {
+    private String bankTranId;      // 필수: Y, 송금 요청 시 전달한 이용기관 거래 고유번호
+    private String tranDtime;       // 필수: Y, 요청 일시
+    private String fintechUseNum;   // 필수: Y, 출금 계좌 핀테크 이용 번호
+    private String tranAmt;         // 필수: Y, 거래 금액
+}
+// 송금 결과 조회
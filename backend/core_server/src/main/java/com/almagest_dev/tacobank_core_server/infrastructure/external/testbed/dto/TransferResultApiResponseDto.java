@@ -0,0 +1,17 @@
+package com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.dto;
+
+import lombok.Data;
+
+@Data
+public class TransferResultApiResponseDto {
+    private String apiTranId;       // 송금 API 거래 ID
+    private String apiTranDtm;      // 송금 API 거래 일시
+    private String rspCode;         // 응답 코드 (A0000: 조회 성공, A0004: 송금 요청 내역 없음)
+    private String rspMessage;      // 응답 메시지
+    private String bankTranId;      // 이용기관 거래 고유번호
+    private String tranResult;      // 송금 결과 (S: 성공, F: 실패)
+    private String tranRspCode;     // 송금 응답 코드
+    private String tranRspMessage;  // 송금 응답 메시지
+    private String fintechUseNum;   // 출금 계좌 핀테크 이용 번호
+    private String tranAmt;         // 거래 금액
+}
@@ -0,0 +1,91 @@
+package com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.util;
+
+import com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.dto.TransactionDetailApiDto;
+import com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.dto.TransactionListApiResponseDto;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 거래 내역(/openbank/tranlist) 응답 Streaming 파싱
+ *  - resList 를 전체 List 로 역직렬화하지 않고 항목 단위로 읽어 바로 응답 DTO 로 변환
+ *  - 페이지 크기(maxItems) 를 넘는 항목은 읽지 않고 건너뜀 (요청당 메모리 사용량 제한), 건너뛴 경우 Page.truncated
+ */
+@Component
+@RequiredArgsConstructor
+public class TransactionListStreamParser {
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @param mapper   거래 내역 항목 -> 응답 DTO 변환
+     * @param maxItems 최대 항목 수
+     * @return 응답 헤더(resList 제외) + 변환된 항목
+     */
+    public <T> Page<T> parse(InputStream body, Function<TransactionDetailApiDto, T> mapper, int maxItems) throws IOException {
+        TransactionListApiResponseDto header = new TransactionListApiResponseDto();
+        List<T> items = new ArrayList<>(Math.min(maxItems, 100));
+        boolean truncated = false;
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("거래 내역 응답 형식이 올바르지 않습니다.");
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken token = parser.nextToken();
+
+                if ("resList".equals(field)) {
+                    if (token == JsonToken.START_ARRAY) {
+                        while (parser.nextToken() == JsonToken.START_OBJECT) {
+                            if (items.size() < maxItems) {
+                                items.add(mapper.apply(parser.readValueAs(TransactionDetailApiDto.class)));
+                            } else {
+                                parser.skipChildren();
+                                truncated = true;
+                            }
+                        }
+                    }
+                    continue;
+                }
+
+                String value = token.isScalarValue() && token != JsonToken.VALUE_NULL ? parser.getValueAsString() : null;
+                if (!token.isScalarValue()) {
+                    parser.skipChildren();
+                }
+                switch (field) {
+                    case "tranNum" -> header.setTranNum(value);
+                    case "apiTranDtm" -> header.setApiTranDtm(value);
+                    case "rspCode" -> header.setRspCode(value);
+                    case "rspMessage" -> header.setRspMessage(value);
+                    case "bankCodeTran" -> header.setBankCodeTran(value);
+                    case "bankName" -> header.setBankName(value);
+                    case "fintechUseNum" -> header.setFintechUseNum(value);
+                    case "balanceAmt" -> header.setBalanceAmt(value);
+                    case "nextPageYn" -> header.setNextPageYn(value);
+                    case "beforInquiryTraceInfo" -> header.setBeforInquiryTraceInfo(value);
+                    default -> { }
+                }
+            }
+        }
+        return new Page<>(header, items, truncated);
+    }
+
+    /**
+     * 거래 내역 페이지
+     * @param truncated maxItems 를 넘는 항목을 건너뛰었는지 (테스트베드가 dataLength 를 무시한 경우 - 받지 못한 거래가 있음)
+     */
+    public record Page<T>(TransactionListApiResponseDto header, List<T> items, boolean truncated) {
+        public boolean hasNext() {
+            return "Y".equals(header.getNextPageYn()) && header.getBeforInquiryTraceInfo() != null;
+        }
+    }
+}
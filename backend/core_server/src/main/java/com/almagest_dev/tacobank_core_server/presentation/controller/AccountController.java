@@ -14,6 +14,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 
 @RestController
@@ -93,13 +94,14 @@ public class AccountController {
 //        return ResponseEntity.ok(new CoreResponseDto<>("SUCCESS", "계좌 조회 성공", accounts));
 //    }
     @GetMapping("/list/{memberId}")
-    public ResponseEntity<?> getUserAccountsOnly(@PathVariable Long memberId) {
-        List<AccountResponseDto> accounts = accountService.getUserAccountsOnly(memberId);
-        return ResponseEntity.ok(new CoreResponseDto<>(
-                "SUCCESS",
-                "계좌 조회 성공",
-                accounts
-        ));
+    public CompletableFuture<ResponseEntity<?>> getUserAccountsOnly(@PathVariable Long memberId) {
+        // 비동기 응답 (테스트베드 응답 대기 중 요청 Thread 반환)
+        return accountService.getUserAccountsOnlyAsync(memberId)
+                .thenApply(accounts -> ResponseEntity.ok(new CoreResponseDto<>(
+                        "SUCCESS",
+                        "계좌 조회 성공",
+                        accounts
+                )));
     }
 
 
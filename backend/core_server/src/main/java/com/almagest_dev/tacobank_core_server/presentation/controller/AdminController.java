@@ -0,0 +1,28 @@
+package com.almagest_dev.tacobank_core_server.presentation.controller;
+
+import com.almagest_dev.tacobank_core_server.application.service.OrgCodeService;
+import com.almagest_dev.tacobank_core_server.common.dto.CoreResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/taco/core/admin")
+@RequiredArgsConstructor
+public class AdminController {
+
+    private final OrgCodeService orgCodeService;
+
+    // 은행 코드 다시 로드 (요청을 받은 서버만 갱신, 나머지 서버는 주기적으로 갱신)
+    @PostMapping("/org-codes/refresh")
+    public ResponseEntity<CoreResponseDto<Map<String, Integer>>> refreshOrgCodes() {
+        int count = orgCodeService.refresh();
+        return ResponseEntity.ok(
+                new CoreResponseDto<>("SUCCESS", "은행 코드가 갱신되었습니다.", Map.of("count", count))
+        );
+    }
+}
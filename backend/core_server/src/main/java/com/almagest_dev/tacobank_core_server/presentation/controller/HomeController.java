@@ -1,13 +1,24 @@
 package com.almagest_dev.tacobank_core_server.presentation.controller;
 
 import com.almagest_dev.tacobank_core_server.application.service.HomeService;
+import com.almagest_dev.tacobank_core_server.common.dto.CoreResponseDto;
+import com.almagest_dev.tacobank_core_server.common.exception.BaseCustomException;
 import com.almagest_dev.tacobank_core_server.presentation.dto.home.AccountMemberReponseDto;
+import com.almagest_dev.tacobank_core_server.presentation.dto.home.HomeTransactionEventDto;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+@Slf4j
 @RestController
 @RequestMapping("/taco/core/home")
 @RequiredArgsConstructor
@@ -15,14 +26,65 @@ public class HomeController {
 
     private final HomeService homeService;
 
+    @Value("${home.stream.timeout-ms:30000}")
+    private long streamTimeoutMs;
+
     /**
      * 사용자 계좌 및 거래 내역 조회
+     *  - 비동기 응답 (테스트베드 응답 대기 중 요청 Thread 반환)
+     *  - Snapshot 이 있으면 즉시 응답 (오래된 경우 백그라운드 갱신)
      */
     @GetMapping
-    public ResponseEntity<AccountMemberReponseDto> getUserAccounts() {
-        AccountMemberReponseDto responseDto = homeService.getMemberHome();
-        return ResponseEntity.ok(responseDto);
+    public CompletableFuture<ResponseEntity<AccountMemberReponseDto>> getUserAccounts() {
+        return homeService.getMemberHomeAsync()
+                .thenApply(ResponseEntity::ok);
     }
 
+    /**
+     * 사용자 계좌 및 거래 내역 단계별 조회 (SSE)
+     *  - summary: 멤버/계좌 요약 (transactionList 제외)
+     *  - transactions: 계좌별 거래 내역 (도착 순서, 계좌당 1건)
+     *  - complete: 전송 완료 | error: 조회 실패 (status, message)
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamUserAccounts() {
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+
+        homeService.streamMemberHome(new HomeService.HomeStreamListener() {
+            @Override
+            public void onSummary(AccountMemberReponseDto summary) {
+                send(emitter, "summary", summary);
+            }
+
+            @Override
+            public void onTransactions(HomeTransactionEventDto transactions) {
+                send(emitter, "transactions", transactions);
+            }
 
+            @Override
+            public void onComplete() {
+                send(emitter, "complete", new CoreResponseDto<>("SUCCESS", "홈 화면 조회 완료"));
+                emitter.complete();
+            }
+
+            @Override
+            public void onError(Throwable ex) {
+                CoreResponseDto<?> response = ex instanceof BaseCustomException customException
+                        ? new CoreResponseDto<>(customException.getStatus(), customException.getMessage())
+                        : new CoreResponseDto<>("FAILURE", "홈 화면 조회 중 오류가 발생했습니다.");
+                send(emitter, "error", response);
+                emitter.complete();
+            }
+        });
+
+        return emitter;
+    }
+
+    private void send(SseEmitter emitter, String eventName, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(eventName).data(data, MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException e) { // 클라이언트 연결 종료 또는 시간 초과
+            log.info("HomeController::streamUserAccounts 이벤트 전송 실패 - event: {}, {}", eventName, e.getMessage());
+        }
+    }
 }
@@ -10,6 +10,8 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping("/taco/core/transactions")
 @RequiredArgsConstructor
@@ -19,9 +21,12 @@ public class TransactionController {
 
     /**
      * 거래 내역 조회
+     *  - 비동기 응답 (테스트베드 응답 대기 중 요청 Thread 반환)
+     *  - Cursor 기반 페이지 조회: 첫 요청은 cursor 없이, 다음 페이지는 응답의 nextCursor 전달 (hasNext=false 이면 마지막 페이지)
      */
     @PostMapping("/list")
-    public ResponseEntity<?> getTransactionList(@RequestBody @Valid TransactionListRequestDto requestDto) {
-        return ResponseEntity.ok(transactionService.getTransactionList(requestDto));
+    public CompletableFuture<ResponseEntity<?>> getTransactionList(@RequestBody @Valid TransactionListRequestDto requestDto) {
+        return transactionService.getTransactionListAsync(requestDto)
+                .thenApply(ResponseEntity::ok);
     }
 }
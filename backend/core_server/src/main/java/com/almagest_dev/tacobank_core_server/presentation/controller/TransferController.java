@@ -1,24 +1,29 @@
 package com.almagest_dev.tacobank_core_server.presentation.controller;
 
+import com.almagest_dev.tacobank_core_server.application.service.BulkSettlementTransferService;
 import com.almagest_dev.tacobank_core_server.application.service.TransferService;
+import com.almagest_dev.tacobank_core_server.application.service.TransferStatusService;
 import com.almagest_dev.tacobank_core_server.common.dto.CoreResponseDto;
+import com.almagest_dev.tacobank_core_server.presentation.dto.transfer.BulkSettlementTransferRequestDto;
+import com.almagest_dev.tacobank_core_server.presentation.dto.transfer.BulkSettlementTransferResponseDto;
 import com.almagest_dev.tacobank_core_server.presentation.dto.transfer.ReceiverInquiryRequestDto;
 import com.almagest_dev.tacobank_core_server.presentation.dto.transfer.TransferRequestDto;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/taco/core/transfers")
 public class TransferController {
     private final TransferService transferService;
+    private final TransferStatusService transferStatusService;
+    private final BulkSettlementTransferService bulkSettlementTransferService;
 
     /**
      * 송금할 은행, 계좌번호 입력 후 수취인 조회
@@ -47,4 +52,37 @@ public class TransferController {
         return ResponseEntity.ok(transferService.transfer(requestDto));
     }
 
+    /**
+     * 송금 (비동기): 출금 비밀번호 검증 + 송금 요청 접수
+     *  - 202 Accepted + transactionId, 결과는 /{transactionId}/status 로 조회
+     */
+    @PostMapping("/async")
+    public ResponseEntity<?> transferAsync(@RequestBody @Valid TransferRequestDto requestDto) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(
+                new CoreResponseDto<>("SUCCESS", "송금 요청이 접수되었습니다.", transferService.transferAsync(requestDto))
+        );
+    }
+
+    /**
+     * 정산 일괄 송금: 출금 비밀번호 1회 검증 + 선택한 정산 송금
+     *  - 정산별 결과 반환 (일부 실패 포함)
+     */
+    @PostMapping("/settlements")
+    public ResponseEntity<?> transferSettlements(@RequestBody @Valid BulkSettlementTransferRequestDto requestDto) {
+        BulkSettlementTransferResponseDto response = bulkSettlementTransferService.transferSettlements(requestDto);
+        return ResponseEntity.ok(new CoreResponseDto<>("SUCCESS",
+                String.format("정산 일괄 송금 완료 (성공 %d건, 실패 %d건)", response.getSuccessCount(), response.getFailureCount()), response));
+    }
+
+    /**
+     * 송금 진행 상태 조회 (Long Polling)
+     *  - 처리 중이면 완료 또는 waitMs(최대 transfer.status.max-wait)까지 응답 대기
+     */
+    @GetMapping("/{transactionId}/status")
+    public CompletableFuture<ResponseEntity<?>> getTransferStatus(@PathVariable String transactionId,
+                                                                  @RequestParam(required = false) Long waitMs) {
+        return transferStatusService.awaitStatus(transactionId, waitMs)
+                .thenApply(status -> ResponseEntity.ok(new CoreResponseDto<>("SUCCESS", "송금 상태 조회 성공", status)));
+    }
+
 }
@@ -16,5 +16,6 @@ public class AccountResponseDto {
     private Double balance; // 잔액
     @Setter
     private List<TransactionResponseDto2> transactionList; // 거래 내역 리스트
+    private boolean transactionListPartial; // 거래 내역 조회 지연/실패로 일부 또는 전체 누락 여부
 
 }
\ No newline at end of file
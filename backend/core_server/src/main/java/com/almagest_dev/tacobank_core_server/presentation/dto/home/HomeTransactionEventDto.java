@@ -0,0 +1,16 @@
+package com.almagest_dev.tacobank_core_server.presentation.dto.home;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 홈 화면 Streaming - 계좌별 거래 내역 이벤트
+ */
+@Data
+public class HomeTransactionEventDto {
+    private Long accountId; // 계좌 식별자
+    private String accountNum; // 계좌 번호
+    private List<TransactionResponseDto2> transactionList; // 거래 내역 리스트
+    private boolean transactionListPartial; // 거래 내역 조회 지연/실패로 누락 여부
+}
@@ -12,4 +12,7 @@ public class TransactionListRequestDto {
 
     private String fromDate;    // 조회 시작 날짜
     private String toDate;      // 조회 종료 날짜
+
+    private String cursor;      // 다음 페이지 조회 Cursor (이전 응답의 nextCursor, 첫 페이지는 null)
+    private Integer pageSize;   // 페이지 크기 (미입력 시 기본값, 최대값 초과 시 최대값)
 }
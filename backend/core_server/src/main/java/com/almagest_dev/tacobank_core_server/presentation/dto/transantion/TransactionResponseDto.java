@@ -18,4 +18,6 @@ public class TransactionResponseDto {
     private String bankCode;        // 은행 코드
     private String balance;         // 잔액
     private List<TransactionDetails> transactionList;
+    private boolean hasNext;        // 다음 페이지 존재 여부
+    private String nextCursor;      // 다음 페이지 조회 Cursor
 }
@@ -0,0 +1,26 @@
+package com.almagest_dev.tacobank_core_server.presentation.dto.transfer;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BulkSettlementTransferRequestDto {
+    @NotBlank(message = "중복 방지 키를 보내주세요.")
+    private String idempotencyKey;          // 중복 방지 키 (요청 추적용, 정산별 송금 KEY 는 개별 정산 기준)
+
+    @NotNull(message = "사용자 ID를 입력해주세요.")
+    private Long memberId;                  // 출금 사용자 ID
+
+    @NotNull(message = "출금 계좌 ID를 입력해주세요.")
+    private Long withdrawalAccountId;       // 출금 계좌 ID
+
+    @NotEmpty(message = "송금할 정산을 선택해주세요.")
+    private List<Long> settlementIds;       // 송금할 정산 ID 목록
+
+    @NotBlank(message = "출금 비밀번호를 입력해주세요.")
+    private String transferPin;
+}
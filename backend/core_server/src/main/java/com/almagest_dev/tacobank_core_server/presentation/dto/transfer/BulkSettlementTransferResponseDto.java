@@ -0,0 +1,17 @@
+package com.almagest_dev.tacobank_core_server.presentation.dto.transfer;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkSettlementTransferResponseDto {
+    private int totalCount;                         // 요청 정산 수
+    private int successCount;                       // 송금 성공 수
+    private int failureCount;                       // 송금 실패 수 (결과 확인 중 제외)
+    private List<SettlementTransferResult> results; // 정산별 결과 (요청 순서)
+}
@@ -0,0 +1,16 @@
+package com.almagest_dev.tacobank_core_server.presentation.dto.transfer;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class SettlementTransferResult {
+    private Long settlementId;              // 정산 ID
+    private String transactionId;           // 거래 고유 ID (송금 요청 전 실패시 null)
+    private String status;                  // 송금 상태 (S: 성공, F: 실패, R: 결과 확인 중)
+    private String message;                 // 결과 메시지
+    private TransferResponseDto transfer;   // 송금 결과 (성공시)
+}
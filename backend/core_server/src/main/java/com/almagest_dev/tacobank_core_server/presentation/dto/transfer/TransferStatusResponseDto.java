@@ -0,0 +1,15 @@
+package com.almagest_dev.tacobank_core_server.presentation.dto.transfer;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class TransferStatusResponseDto {
+    private String transactionId;           // 거래 고유 ID
+    private String status;                  // 송금 상태 (R: 처리 중, S: 성공, F: 실패)
+    private String message;                 // 상태 메시지
+    private TransferResponseDto transfer;   // 송금 결과 (성공시)
+}
@@ -0,0 +1,151 @@
+package com.almagest_dev.tacobank_core_server.application.service;
+
+import com.almagest_dev.tacobank_core_server.common.utils.RedisSessionUtil;
+import com.almagest_dev.tacobank_core_server.domain.account.model.Account;
+import com.almagest_dev.tacobank_core_server.domain.account.repository.AccountRepository;
+import com.almagest_dev.tacobank_core_server.domain.member.model.Member;
+import com.almagest_dev.tacobank_core_server.domain.member.repository.MemberRepository;
+import com.almagest_dev.tacobank_core_server.domain.settlememt.model.Settlement;
+import com.almagest_dev.tacobank_core_server.domain.settlememt.model.SettlementDetails;
+import com.almagest_dev.tacobank_core_server.domain.settlememt.repository.SettlementDetailsRepository;
+import com.almagest_dev.tacobank_core_server.domain.settlememt.repository.SettlementRepository;
+import com.almagest_dev.tacobank_core_server.domain.transfer.repository.TransferOutboxRepository;
+import com.almagest_dev.tacobank_core_server.domain.transfer.repository.TransferRepository;
+import com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.client.TestbedApiClient;
+import com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.dto.TransferApiResponseDto;
+import com.almagest_dev.tacobank_core_server.presentation.dto.transfer.BulkSettlementTransferRequestDto;
+import com.almagest_dev.tacobank_core_server.presentation.dto.transfer.BulkSettlementTransferResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 정산 일괄 송금 - 요청 KEY 가 다른 일괄 송금이 같은 정산을 포함해도 1건만 송금
+ *  - 송금 중복 방지 KEY 선점은 KEY 별 1건만 성공하는 메모리 저장소로 대체
+ */
+class BulkSettlementTransferServiceTest {
+    private static final Long MEMBER_ID = 1L;
+    private static final Long SETTLEMENT_ID = 100L;
+    private static final Long SETTLEMENT_DETAILS_ID = 1000L;
+
+    private final Set<String> claims = new HashSet<>();
+    private TestbedApiClient testbedApiClient;
+    private TransferIdempotencyService transferIdempotencyService;
+    private BulkSettlementTransferService bulkSettlementTransferService;
+
+    @BeforeEach
+    void setUp() {
+        Member member = new Member();
+        ReflectionTestUtils.setField(member, "id", MEMBER_ID);
+        ReflectionTestUtils.setField(member, "transferPin", "encoded-pin");
+        Account withdrawalAccount = account(10L, member, "fintech-withdrawal");
+        Account receiverAccount = account(20L, new Member(), "fintech-receiver");
+
+        Settlement settlement = new Settlement();
+        ReflectionTestUtils.setField(settlement, "id", SETTLEMENT_ID);
+        ReflectionTestUtils.setField(settlement, "settlementAccount", receiverAccount);
+        ReflectionTestUtils.setField(settlement, "settlementStatus", "N");
+        SettlementDetails settlementDetails = new SettlementDetails();
+        ReflectionTestUtils.setField(settlementDetails, "id", SETTLEMENT_DETAILS_ID);
+        ReflectionTestUtils.setField(settlementDetails, "settlementAmount", 10_000L);
+        ReflectionTestUtils.setField(settlementDetails, "settlementStatus", "N");
+
+        MemberRepository memberRepository = mock(MemberRepository.class);
+        when(memberRepository.findByIdAndDeleted(MEMBER_ID, "N")).thenReturn(Optional.of(member));
+        AccountRepository accountRepository = mock(AccountRepository.class);
+        when(accountRepository.findByIdAndVerified(10L, "Y")).thenReturn(Optional.of(withdrawalAccount));
+        SettlementRepository settlementRepository = mock(SettlementRepository.class);
+        when(settlementRepository.findById(SETTLEMENT_ID)).thenReturn(Optional.of(settlement));
+        SettlementDetailsRepository settlementDetailsRepository = mock(SettlementDetailsRepository.class);
+        when(settlementDetailsRepository.findBySettlement_IdAndGroupMember_Member_IdAndSettlementStatus(SETTLEMENT_ID, MEMBER_ID, "N"))
+                .thenReturn(Optional.of(settlementDetails));
+        PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+        when(passwordEncoder.matches(anyString(), anyString())).thenReturn(true);
+
+        transferIdempotencyService = mock(TransferIdempotencyService.class);
+        when(transferIdempotencyService.claim(anyString(), anyString(), eq(MEMBER_ID))).thenAnswer(invocation -> claims.add(invocation.getArgument(0)));
+        testbedApiClient = mock(TestbedApiClient.class);
+
+        bulkSettlementTransferService = new BulkSettlementTransferService(
+                memberRepository,
+                accountRepository,
+                settlementRepository,
+                settlementDetailsRepository,
+                mock(TransferRepository.class),
+                mock(TransferOutboxRepository.class),
+                transferIdempotencyService,
+                mock(TransferOutboxRelay.class),
+                testbedApiClient,
+                passwordEncoder,
+                mock(RedisSessionUtil.class),
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                new ObjectMapper(),
+                Runnable::run
+        );
+        ReflectionTestUtils.setField(bulkSettlementTransferService, "maxItems", 20);
+        ReflectionTestUtils.setField(bulkSettlementTransferService, "maxConcurrency", 4);
+    }
+
+    @Test
+    void sameSettlementIsPaidOnceAcrossDifferentRequestKeys() {
+        // 첫 번째 일괄 송금의 테스트베드 송금 중 다른 요청 KEY 로 같은 정산 일괄 송금
+        AtomicReference<BulkSettlementTransferResponseDto> concurrent = new AtomicReference<>();
+        when(testbedApiClient.requestApi(any(), eq("/openbank/transfer"), eq(TransferApiResponseDto.class))).thenAnswer(invocation -> {
+            if (concurrent.get() == null) {
+                concurrent.set(bulkSettlementTransferService.transferSettlements(request("client-key-2")));
+            }
+            return successResponse();
+        });
+
+        BulkSettlementTransferResponseDto first = bulkSettlementTransferService.transferSettlements(request("client-key-1"));
+
+        assertThat(first.getResults().get(0).getStatus()).isEqualTo("S");
+        assertThat(concurrent.get().getResults().get(0).getStatus()).isEqualTo("F");
+        assertThat(concurrent.get().getResults().get(0).getMessage()).isEqualTo("중복된 송금 요청입니다.");
+        verify(testbedApiClient, times(1)).requestApi(any(), eq("/openbank/transfer"), eq(TransferApiResponseDto.class));
+    }
+
+    private static BulkSettlementTransferRequestDto request(String idempotencyKey) {
+        BulkSettlementTransferRequestDto requestDto = new BulkSettlementTransferRequestDto();
+        requestDto.setIdempotencyKey(idempotencyKey);
+        requestDto.setMemberId(MEMBER_ID);
+        requestDto.setWithdrawalAccountId(10L);
+        requestDto.setSettlementIds(List.of(SETTLEMENT_ID));
+        requestDto.setTransferPin("123456");
+        return requestDto;
+    }
+
+    private static TransferApiResponseDto successResponse() {
+        TransferApiResponseDto response = new TransferApiResponseDto();
+        response.setRspCode("A0000");
+        response.setRspMessage("정상처리");
+        response.setApiTranId("api-tran-1");
+        response.setApiTranDtm("20261018100000000");
+        return response;
+    }
+
+    private static Account account(Long id, Member member, String fintechUseNum) {
+        Account account = new Account();
+        ReflectionTestUtils.setField(account, "id", id);
+        ReflectionTestUtils.setField(account, "member", member);
+        ReflectionTestUtils.setField(account, "fintechUseNum", fintechUseNum);
+        ReflectionTestUtils.setField(account, "bankCode", "004");
+        ReflectionTestUtils.setField(account, "accountNum", "11122233333");
+        ReflectionTestUtils.setField(account, "accountHolderName", "홍길동");
+        return account;
+    }
+}
@@ -0,0 +1,59 @@
+package com.almagest_dev.tacobank_core_server.application.service;
+
+import com.almagest_dev.tacobank_core_server.application.service.TransactionHistoryService.Cursor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 거래 내역 페이지 Cursor - encode/decode 왕복, 형식 오류 거부
+ */
+class TransactionHistoryCursorTest {
+
+    @Test
+    void decodeRestoresEncodedCursor() {
+        Cursor cursor = new Cursor("20261018", "101500", "000123");
+
+        String encoded = cursor.encode();
+
+        assertThat(encoded).doesNotContain("=", "+", "/"); // URL Query 에 그대로 사용
+        assertThat(Cursor.decode(encoded)).isEqualTo(cursor);
+    }
+
+    @Test
+    void decodeKeepsDelimiterInLastPart() {
+        Cursor cursor = new Cursor("20261018", "101500", "000|123");
+
+        assertThat(Cursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void decodeReturnsNullWithoutCursor() {
+        assertThat(Cursor.decode(null)).isNull();
+        assertThat(Cursor.decode(" ")).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"not base64!", "2026|101500"})
+    void decodeRejectsMalformedCursor(String cursor) {
+        assertRejected(cursor);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"20261018|101500", "2026101|101500|000123", "20261018||000123", "20261018|101500|"})
+    void decodeRejectsMalformedParts(String raw) {
+        assertRejected(Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private void assertRejected(String cursor) {
+        assertThatThrownBy(() -> Cursor.decode(cursor))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("다음 페이지 조회 정보가 올바르지 않습니다.");
+    }
+}
@@ -0,0 +1,113 @@
+package com.almagest_dev.tacobank_core_server.application.service;
+
+import com.almagest_dev.tacobank_core_server.common.utils.RedisLockUtil;
+import com.almagest_dev.tacobank_core_server.domain.transaction.model.TransactionSyncWatermark;
+import com.almagest_dev.tacobank_core_server.domain.transaction.repository.TransactionHistoryRepository;
+import com.almagest_dev.tacobank_core_server.domain.transaction.repository.TransactionSyncWatermarkRepository;
+import com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.client.TestbedApiClient;
+import com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.util.TransactionListStreamParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 거래 내역 동기화 - 페이지 크기를 넘는 응답(nextPageYn 없음)은 받은 거래까지만 저장 범위로 기록
+ */
+class TransactionHistorySyncTest {
+    private static final String FINTECH_USE_NUM = "fintech-use-num-1";
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final LocalDate TODAY = LocalDate.now();
+
+    private TestbedApiClient testbedApiClient;
+    private TransactionSyncWatermarkRepository transactionSyncWatermarkRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private TransactionHistoryService transactionHistoryService;
+
+    @BeforeEach
+    void setUp() {
+        testbedApiClient = mock(TestbedApiClient.class);
+        transactionSyncWatermarkRepository = mock(TransactionSyncWatermarkRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        RedisLockUtil redisLockUtil = mock(RedisLockUtil.class);
+        when(redisLockUtil.tryLock(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+
+        transactionHistoryService = new TransactionHistoryService(
+                testbedApiClient,
+                new TransactionListStreamParser(new ObjectMapper()),
+                mock(TransactionHistoryRepository.class),
+                transactionSyncWatermarkRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                redisLockUtil,
+                meterRegistry,
+                Runnable::run
+        );
+        ReflectionTestUtils.setField(transactionHistoryService, "initialPeriod", Duration.ofDays(365));
+        ReflectionTestUtils.setField(transactionHistoryService, "freshFor", Duration.ofSeconds(30));
+        ReflectionTestUtils.setField(transactionHistoryService, "fetchPageSize", 2);
+        ReflectionTestUtils.setField(transactionHistoryService, "maxFetchPages", 50);
+        ReflectionTestUtils.setField(transactionHistoryService, "lockTtl", Duration.ofSeconds(60));
+        ReflectionTestUtils.setField(transactionHistoryService, "lockWait", Duration.ofSeconds(5));
+    }
+
+    @Test
+    void initialSyncCoversOnlyReceivedDaysWhenResponseExceedsPageSize() {
+        when(transactionSyncWatermarkRepository.findById(FINTECH_USE_NUM)).thenReturn(Optional.empty());
+        respondWith(transaction("3", TODAY.minusDays(1)), transaction("2", TODAY.minusDays(5)), transaction("1", TODAY.minusDays(10)));
+
+        TransactionSyncWatermark watermark = transactionHistoryService.sync(FINTECH_USE_NUM, null);
+
+        // 10일 전 거래는 받지 못함 - 5일 전 거래 일자는 일부만 받았을 수 있으므로 다음 일자부터 저장 범위
+        assertThat(watermark.getCoveredFromDate()).isEqualTo(date(TODAY.minusDays(4)));
+        assertThat(meterRegistry.counter("transaction.history.sync", "result", "partial").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void incrementalSyncStaysIncompleteWhenResponseExceedsPageSize() {
+        TransactionSyncWatermark existing = TransactionSyncWatermark.createWatermark(FINTECH_USE_NUM, date(TODAY.minusDays(365)));
+        existing.markSynced(date(TODAY.minusDays(20)), "090000", "10000");
+        ReflectionTestUtils.setField(existing, "syncedDate", null); // 만료
+        when(transactionSyncWatermarkRepository.findById(FINTECH_USE_NUM)).thenReturn(Optional.of(existing));
+        respondWith(transaction("1", TODAY.minusDays(10)), transaction("2", TODAY.minusDays(5)), transaction("3", TODAY.minusDays(1)));
+
+        TransactionSyncWatermark watermark = transactionHistoryService.sync(FINTECH_USE_NUM, null);
+
+        // 받은 마지막 거래까지만 기록, 동기화 완료 처리 X (다음 조회 시 이어서 동기화)
+        assertThat(watermark.getLastTranDate()).isEqualTo(date(TODAY.minusDays(5)));
+        assertThat(watermark.getSyncedDate()).isNull();
+        assertThat(meterRegistry.counter("transaction.history.sync", "result", "partial").count()).isEqualTo(1.0);
+    }
+
+    /**
+     * dataLength 를 무시하고 nextPageYn 없이 전체 거래를 응답하는 테스트베드
+     */
+    private void respondWith(String... transactions) {
+        String json = "{\"rspCode\":\"A0000\",\"balanceAmt\":\"10000\",\"resList\":[" + String.join(",", transactions) + "]}";
+        when(testbedApiClient.requestApiStream(any(), eq("/openbank/tranlist"), any())).thenAnswer(invocation -> {
+            TestbedApiClient.ResponseReader<?> reader = invocation.getArgument(2);
+            return reader.read(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+        });
+    }
+
+    private static String transaction(String tranNum, LocalDate tranDate) {
+        return "{\"tranNum\":\"" + tranNum + "\",\"tranDate\":\"" + date(tranDate) + "\",\"tranTime\":\"120000\",\"tranAmt\":\"1000\",\"afterBalanceAmt\":\"10000\"}";
+    }
+
+    private static String date(LocalDate date) {
+        return date.format(DATE);
+    }
+}
@@ -0,0 +1,160 @@
+package com.almagest_dev.tacobank_core_server.application.service;
+
+import com.almagest_dev.tacobank_core_server.common.utils.RedisCacheUtil;
+import com.almagest_dev.tacobank_core_server.common.utils.RedisLockUtil;
+import com.almagest_dev.tacobank_core_server.domain.transfer.model.TransferIdempotency;
+import com.almagest_dev.tacobank_core_server.domain.transfer.repository.TransferIdempotencyRepository;
+import com.almagest_dev.tacobank_core_server.presentation.dto.transfer.TransferResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 송금 중복 방지 KEY 선점/완료/해제
+ *  - transfer_idempotency 는 idempotency_key Unique Index 를 흉내 낸 메모리 저장소로 대체
+ */
+class TransferIdempotencyServiceTest {
+    private static final String KEY = "idempotency-key-1";
+    private static final Long MEMBER_ID = 1L;
+    private static final Long OTHER_MEMBER_ID = 2L;
+
+    private final Map<String, TransferIdempotency> claims = new HashMap<>();
+    private RedisTemplate<String, String> redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private RedisCacheUtil redisCacheUtil;
+    private TransferIdempotencyService transferIdempotencyService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        redisCacheUtil = mock(RedisCacheUtil.class);
+
+        transferIdempotencyService = new TransferIdempotencyService(
+                claimRepository(),
+                new RedisLockUtil(redisTemplate),
+                redisCacheUtil,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                new ObjectMapper()
+        );
+        ReflectionTestUtils.setField(transferIdempotencyService, "claimTtl", Duration.ofMinutes(10));
+        ReflectionTestUtils.setField(transferIdempotencyService, "responseTtl", Duration.ofHours(24));
+    }
+
+    @Test
+    void claimIsRejectedWhileAnotherRequestHoldsTheKey() {
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true, false);
+        when(redisTemplate.hasKey(anyString())).thenReturn(true);
+
+        assertThat(transferIdempotencyService.claim(KEY, "tx-1", MEMBER_ID)).isTrue();
+        assertThat(transferIdempotencyService.claim(KEY, "tx-2", MEMBER_ID)).isFalse();
+
+        assertThat(claims.get(KEY).getTransactionId()).isEqualTo("tx-1");
+    }
+
+    @Test
+    void claimFallsBackToUniqueConstraintWhenRedisIsDown() {
+        RedisConnectionFailureException redisDown = new RedisConnectionFailureException("Unable to connect to Redis");
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenThrow(redisDown);
+        when(redisTemplate.hasKey(anyString())).thenThrow(redisDown);
+
+        assertThat(transferIdempotencyService.claim(KEY, "tx-1", MEMBER_ID)).isTrue();
+        assertThat(transferIdempotencyService.claim(KEY, "tx-2", MEMBER_ID)).isFalse(); // Unique Index 위반
+
+        assertThat(claims.get(KEY).getTransactionId()).isEqualTo("tx-1");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void releaseFreesTheKeyForRetry() {
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+
+        assertThat(transferIdempotencyService.claim(KEY, "tx-1", MEMBER_ID)).isTrue();
+        transferIdempotencyService.release(KEY, "tx-1");
+
+        assertThat(claims).doesNotContainKey(KEY);
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("transfer:idempotency:claim:" + KEY)), eq("tx-1"));
+        assertThat(transferIdempotencyService.claim(KEY, "tx-2", MEMBER_ID)).isTrue();
+    }
+
+    @Test
+    void releaseByAnotherTransactionKeepsTheClaim() {
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+
+        transferIdempotencyService.claim(KEY, "tx-1", MEMBER_ID);
+        transferIdempotencyService.release(KEY, "tx-other");
+
+        assertThat(claims.get(KEY).getTransactionId()).isEqualTo("tx-1");
+    }
+
+    @Test
+    void completedResponseIsReplayedOnlyForTheClaimingMember() {
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        TransferResponseDto response = new TransferResponseDto(KEY, "2026-10-18 10:00", MEMBER_ID, null, null, 10_000);
+
+        transferIdempotencyService.claim(KEY, "tx-1", MEMBER_ID);
+        transferIdempotencyService.complete(KEY, "tx-1", response);
+        transferIdempotencyService.release(KEY, "tx-1"); // 성공(S) 기록은 삭제되지 않음
+
+        TransferResponseDto replayed = transferIdempotencyService.findCompletedResponse(MEMBER_ID, KEY);
+        assertThat(replayed).isNotNull();
+        assertThat(replayed.getAmount()).isEqualTo(10_000);
+        assertThat(transferIdempotencyService.findCompletedResponse(OTHER_MEMBER_ID, KEY)).isNull();
+
+        assertThat(transferIdempotencyService.findTransactionId(MEMBER_ID, KEY)).isEqualTo("tx-1");
+        assertThat(transferIdempotencyService.findTransactionId(OTHER_MEMBER_ID, KEY)).isNull();
+    }
+
+    @Test
+    void cachedResponseIsReplayedOnlyForTheClaimingMember() {
+        TransferResponseDto response = new TransferResponseDto(KEY, "2026-10-18 10:00", MEMBER_ID, null, null, 10_000);
+        when(redisCacheUtil.get(anyString(), eq("transfer:idempotency:response:" + KEY), eq(TransferResponseDto.class))).thenReturn(response);
+
+        assertThat(transferIdempotencyService.findCompletedResponse(MEMBER_ID, KEY)).isSameAs(response);
+        assertThat(transferIdempotencyService.findCompletedResponse(OTHER_MEMBER_ID, KEY)).isNull();
+    }
+
+    /**
+     * idempotency_key Unique Index 를 적용한 메모리 저장소
+     */
+    private TransferIdempotencyRepository claimRepository() {
+        TransferIdempotencyRepository repository = mock(TransferIdempotencyRepository.class);
+        when(repository.saveAndFlush(any(TransferIdempotency.class))).thenAnswer(invocation -> {
+            TransferIdempotency claim = invocation.getArgument(0);
+            if (claims.putIfAbsent(claim.getIdempotencyKey(), claim) != null) {
+                throw new DataIntegrityViolationException("Duplicate entry for key 'uk_transfer_idempotency_key'");
+            }
+            return claim;
+        });
+        when(repository.findByIdempotencyKey(anyString())).thenAnswer(invocation -> Optional.ofNullable(claims.get(invocation.<String>getArgument(0))));
+        when(repository.deleteClaim(anyString(), anyString())).thenAnswer(invocation -> {
+            TransferIdempotency claim = claims.get(invocation.<String>getArgument(0));
+            if (claim == null || !claim.getTransactionId().equals(invocation.getArgument(1)) || !"R".equals(claim.getStatus())) {
+                return 0;
+            }
+            claims.remove(claim.getIdempotencyKey());
+            return 1;
+        });
+        return repository;
+    }
+}
@@ -0,0 +1,166 @@
+package com.almagest_dev.tacobank_core_server.application.service;
+
+import com.almagest_dev.tacobank_core_server.common.exception.TestbedApiException;
+import com.almagest_dev.tacobank_core_server.common.utils.RedisLockUtil;
+import com.almagest_dev.tacobank_core_server.domain.account.repository.AccountRepository;
+import com.almagest_dev.tacobank_core_server.domain.transfer.model.Transfer;
+import com.almagest_dev.tacobank_core_server.domain.transfer.repository.TransferOutboxRepository;
+import com.almagest_dev.tacobank_core_server.domain.transfer.repository.TransferRepository;
+import com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.client.TestbedApiClient;
+import com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.dto.TransferResultApiRequestDto;
+import com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.dto.TransferResultApiResponseDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatcher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 미확정(R) 송금 결과 확인
+ *  - 송금 요청 내역 없음(A0004) -> 실패(F) + 선점 해제
+ *  - 성공(S) -> 응답 보관 (선점 완료)
+ *  - 결과 조회 실패 -> R 유지
+ */
+class TransferReconcilerTest {
+    private static final String RESULT_PATH = "/openbank/transfer/result";
+
+    private TransferRepository transferRepository;
+    private TransferOutboxRepository transferOutboxRepository;
+    private TestbedApiClient testbedApiClient;
+    private TransferIdempotencyService transferIdempotencyService;
+    private TransferOutboxRelay transferOutboxRelay;
+    private SimpleMeterRegistry meterRegistry;
+    private TransferReconciler transferReconciler;
+
+    private Transfer notFound;
+    private Transfer succeeded;
+    private Transfer lookupFailed;
+
+    @BeforeEach
+    void setUp() {
+        transferRepository = mock(TransferRepository.class);
+        transferOutboxRepository = mock(TransferOutboxRepository.class);
+        testbedApiClient = mock(TestbedApiClient.class);
+        transferIdempotencyService = mock(TransferIdempotencyService.class);
+        transferOutboxRelay = mock(TransferOutboxRelay.class);
+        meterRegistry = new SimpleMeterRegistry();
+        RedisLockUtil redisLockUtil = mock(RedisLockUtil.class);
+        when(redisLockUtil.tryLock(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+
+        transferReconciler = new TransferReconciler(
+                transferRepository,
+                transferOutboxRepository,
+                mock(AccountRepository.class),
+                testbedApiClient,
+                transferIdempotencyService,
+                mock(TransferStatusService.class),
+                transferOutboxRelay,
+                redisLockUtil,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                meterRegistry,
+                Runnable::run
+        );
+        ReflectionTestUtils.setField(transferReconciler, "enabled", true);
+        ReflectionTestUtils.setField(transferReconciler, "minAge", Duration.ofMinutes(5));
+        ReflectionTestUtils.setField(transferReconciler, "batchSize", 100);
+        ReflectionTestUtils.setField(transferReconciler, "concurrency", 4);
+        ReflectionTestUtils.setField(transferReconciler, "lockTtl", Duration.ofMinutes(5));
+
+        notFound = pendingTransfer(1L, "tx-not-found");
+        succeeded = pendingTransfer(2L, "tx-succeeded");
+        lookupFailed = pendingTransfer(3L, "tx-lookup-failed");
+        List<Transfer> pending = List.of(notFound, succeeded, lookupFailed);
+
+        when(transferRepository.countByStatusAndRequestedDateBefore(eq("R"), any(LocalDateTime.class))).thenReturn((long) pending.size());
+        when(transferRepository.findByStatusRequestedBeforeAfterId(eq("R"), any(LocalDateTime.class), eq(0L), any())).thenReturn(pending);
+        when(transferRepository.findAllById(anyIterable())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return pending.stream().filter(transfer -> ids.contains(transfer.getId())).toList();
+        });
+
+        stubResult("tx-not-found", result("A0004", null));
+        stubResult("tx-succeeded", result("A0000", "S"));
+        when(testbedApiClient.requestApi(argThat(bankTranId("tx-lookup-failed")), eq(RESULT_PATH), eq(TransferResultApiResponseDto.class)))
+                .thenThrow(new TestbedApiException("테스트베드 서버 응답이 지연되고 있습니다."));
+    }
+
+    @Test
+    void notFoundTransferFailsAndReleasesClaim() {
+        transferReconciler.reconcile();
+
+        assertThat(notFound.getStatus()).isEqualTo("F");
+        assertThat(notFound.getResponseCode()).isEqualTo("A0004");
+        verify(transferIdempotencyService).release("key-tx-not-found", "tx-not-found");
+        verify(transferIdempotencyService, never()).complete(eq("key-tx-not-found"), anyString(), any());
+    }
+
+    @Test
+    void succeededTransferCompletesClaim() {
+        transferReconciler.reconcile();
+
+        assertThat(succeeded.getStatus()).isEqualTo("S");
+        assertThat(succeeded.getApiTranId()).isEqualTo("api-tran-1");
+        verify(transferIdempotencyService).complete(eq("key-tx-succeeded"), eq("tx-succeeded"), argThat(response -> response.getAmount() == 10_000));
+        verify(transferIdempotencyService, never()).release(eq("key-tx-succeeded"), anyString());
+    }
+
+    @Test
+    void lookupErrorKeepsTransferPending() {
+        transferReconciler.reconcile();
+
+        assertThat(lookupFailed.getStatus()).isEqualTo("R");
+        verify(transferIdempotencyService, never()).release(eq("key-tx-lookup-failed"), anyString());
+        verify(transferIdempotencyService, never()).complete(eq("key-tx-lookup-failed"), anyString(), any());
+        assertThat(meterRegistry.counter("transfer.reconcile", "result", "error").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void resolvedTransfersAreSavedWithOutboxInOneTransaction() {
+        transferReconciler.reconcile();
+
+        verify(transferRepository).saveAll(argThat(changed -> changed instanceof List<?> list && list.size() == 2));
+        verify(transferOutboxRepository).saveAll(argThat(outbox -> outbox instanceof List<?> list && list.size() == 2));
+        verify(transferOutboxRelay).relayAsync();
+    }
+
+    private void stubResult(String transactionId, TransferResultApiResponseDto result) {
+        when(testbedApiClient.requestApi(argThat(bankTranId(transactionId)), eq(RESULT_PATH), eq(TransferResultApiResponseDto.class)))
+                .thenReturn(result);
+    }
+
+    private static ArgumentMatcher<Object> bankTranId(String transactionId) {
+        return request -> request instanceof TransferResultApiRequestDto dto && transactionId.equals(dto.getBankTranId());
+    }
+
+    private static TransferResultApiResponseDto result(String rspCode, String tranResult) {
+        TransferResultApiResponseDto result = new TransferResultApiResponseDto();
+        result.setRspCode(rspCode);
+        result.setTranResult(tranResult);
+        if (tranResult != null) {
+            result.setApiTranId("api-tran-1");
+            result.setApiTranDtm("20261018100000000");
+            result.setTranRspCode("A0000");
+            result.setTranRspMessage("정상처리");
+        }
+        return result;
+    }
+
+    private static Transfer pendingTransfer(Long id, String transactionId) {
+        Transfer transfer = Transfer.createTransfer("key-" + transactionId, transactionId, null, 1L, 10L,
+                "004", "11122233333", "홍길동", "김철수", "홍길동",
+                "088", "44455566666", "김철수", 10_000);
+        ReflectionTestUtils.setField(transfer, "id", id);
+        return transfer;
+    }
+}
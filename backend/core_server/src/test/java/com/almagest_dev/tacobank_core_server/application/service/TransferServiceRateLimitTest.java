@@ -0,0 +1,154 @@
+package com.almagest_dev.tacobank_core_server.application.service;
+
+import com.almagest_dev.tacobank_core_server.common.dto.CoreResponseDto;
+import com.almagest_dev.tacobank_core_server.common.exception.TestbedRequestNotSentException;
+import com.almagest_dev.tacobank_core_server.common.utils.RedisSessionUtil;
+import com.almagest_dev.tacobank_core_server.domain.account.repository.AccountRepository;
+import com.almagest_dev.tacobank_core_server.domain.group.repository.GroupMemberRepository;
+import com.almagest_dev.tacobank_core_server.domain.member.model.Member;
+import com.almagest_dev.tacobank_core_server.domain.member.repository.MemberRepository;
+import com.almagest_dev.tacobank_core_server.domain.settlememt.repository.SettlementDetailsRepository;
+import com.almagest_dev.tacobank_core_server.domain.settlememt.repository.SettlementRepository;
+import com.almagest_dev.tacobank_core_server.domain.transfer.model.Transfer;
+import com.almagest_dev.tacobank_core_server.domain.transfer.repository.TransferDuplicateLogRepository;
+import com.almagest_dev.tacobank_core_server.domain.transfer.repository.TransferOutboxRepository;
+import com.almagest_dev.tacobank_core_server.domain.transfer.repository.TransferRepository;
+import com.almagest_dev.tacobank_core_server.infrastructure.config.TestbedHttpProperties;
+import com.almagest_dev.tacobank_core_server.infrastructure.config.TestbedRateLimitProperties;
+import com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.client.TestbedApiClient;
+import com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.client.TestbedCallGuard;
+import com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.client.TestbedRateLimiter;
+import com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.client.TestbedSingleFlight;
+import com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.util.TestbedApiUtil;
+import com.almagest_dev.tacobank_core_server.presentation.dto.transfer.ReceiverDetails;
+import com.almagest_dev.tacobank_core_server.presentation.dto.transfer.TransferRequestDto;
+import com.almagest_dev.tacobank_core_server.presentation.dto.transfer.TransferResponseDto;
+import com.almagest_dev.tacobank_core_server.presentation.dto.transfer.TransferSessionData;
+import com.almagest_dev.tacobank_core_server.presentation.dto.transfer.WithdrawalDetails;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 속도 제한으로 테스트베드에 요청하지 못한 송금 - 실패(F) 처리 + 중복 방지 KEY 해제
+ */
+class TransferServiceRateLimitTest {
+    private static final String IDEMPOTENCY_KEY = "idempotency-key-1";
+    private static final Long MEMBER_ID = 1L;
+
+    private TestbedRateLimiter testbedRateLimiter;
+    private RestTemplate restTemplate;
+    private TestbedCallGuard testbedCallGuard;
+    private TransferRepository transferRepository;
+    private TransferIdempotencyService transferIdempotencyService;
+    private TransferService transferService;
+
+    @BeforeEach
+    void setUp() {
+        // Token 없음 + 대기 Queue 없음 -> 모든 호출 즉시 거절
+        TestbedRateLimitProperties rateLimitProperties = new TestbedRateLimitProperties();
+        rateLimitProperties.setBurst(0);
+        rateLimitProperties.setPermitsPerSecond(0.001);
+        rateLimitProperties.setMaxQueueSize(0);
+        testbedRateLimiter = new TestbedRateLimiter(rateLimitProperties, new SimpleMeterRegistry(), Runnable::run);
+
+        restTemplate = mock(RestTemplate.class);
+        testbedCallGuard = mock(TestbedCallGuard.class);
+        TestbedApiClient testbedApiClient = new TestbedApiClient(new TestbedApiUtil(), restTemplate, testbedCallGuard,
+                mock(TestbedSingleFlight.class), mock(WebClient.class), new TestbedHttpProperties(), testbedRateLimiter, "http://testbed");
+
+        transferRepository = mock(TransferRepository.class);
+        transferIdempotencyService = mock(TransferIdempotencyService.class);
+        MemberRepository memberRepository = mock(MemberRepository.class);
+        PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+        RedisSessionUtil redisSessionUtil = mock(RedisSessionUtil.class);
+
+        Member member = mock(Member.class);
+        when(member.getTransferPin()).thenReturn("encoded-pin");
+        when(memberRepository.findByIdAndDeleted(MEMBER_ID, "N")).thenReturn(Optional.of(member));
+        when(passwordEncoder.matches("123456", "encoded-pin")).thenReturn(true);
+        when(redisSessionUtil.generateEncryptSessionId(MEMBER_ID, IDEMPOTENCY_KEY)).thenReturn("session-1");
+        when(redisSessionUtil.getSessionData("transfer:session:session-1", TransferSessionData.class, true)).thenReturn(sessionData());
+        when(transferIdempotencyService.claim(eq(IDEMPOTENCY_KEY), anyString(), eq(MEMBER_ID))).thenReturn(true);
+
+        transferService = new TransferService(
+                transferRepository,
+                memberRepository,
+                mock(AccountRepository.class),
+                mock(SettlementRepository.class),
+                mock(SettlementDetailsRepository.class),
+                mock(GroupMemberRepository.class),
+                mock(TransferDuplicateLogRepository.class),
+                passwordEncoder,
+                testbedApiClient,
+                mock(BalanceInquiryService.class),
+                mock(TransferOutboxRepository.class),
+                mock(TransferOutboxRelay.class),
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                mock(TransferStatusService.class),
+                transferIdempotencyService,
+                redisSessionUtil,
+                Runnable::run,
+                Runnable::run
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        testbedRateLimiter.shutdown();
+    }
+
+    @Test
+    void rateLimitedTransferFailsAndReleasesClaim() {
+        CoreResponseDto<TransferResponseDto> response = transferService.transfer(requestDto());
+
+        assertThat(response.getStatus()).isEqualTo("TERMINATED");
+
+        ArgumentCaptor<Transfer> saved = ArgumentCaptor.forClass(Transfer.class);
+        verify(transferRepository, atLeastOnce()).save(saved.capture());
+        Transfer transfer = saved.getValue();
+        assertThat(transfer.getStatus()).isEqualTo("F");
+        assertThat(transfer.getResponseCode()).isEqualTo(TestbedRequestNotSentException.RSP_CODE);
+
+        verify(transferIdempotencyService).release(IDEMPOTENCY_KEY, transfer.getTransactionId());
+        verify(transferIdempotencyService, never()).complete(anyString(), anyString(), any());
+        verifyNoInteractions(restTemplate, testbedCallGuard); // 테스트베드 호출 없음
+    }
+
+    private TransferSessionData sessionData() {
+        TransferSessionData sessionData = new TransferSessionData();
+        sessionData.setIdempotencyKey(IDEMPOTENCY_KEY);
+        sessionData.setMemberId(MEMBER_ID);
+        sessionData.setWithdrawalUserFinanceId("user-finance-1");
+        sessionData.setWithdrawalFintechUseNum("120000000000000000001");
+        sessionData.setWithdrawalDetails(new WithdrawalDetails(1L, "11122233333", "홍길동", "004"));
+        sessionData.setReceiverFintechUseNum("120000000000000000002");
+        sessionData.setReceiverDetails(new ReceiverDetails("44455566666", "김철수", "088"));
+        sessionData.setAmount(10_000);
+        return sessionData;
+    }
+
+    private TransferRequestDto requestDto() {
+        TransferRequestDto requestDto = new TransferRequestDto();
+        requestDto.setIdempotencyKey(IDEMPOTENCY_KEY);
+        requestDto.setMemberId(MEMBER_ID);
+        requestDto.setWithdrawalDetails(new WithdrawalDetails(1L, "11122233333", "홍길동", "004"));
+        requestDto.setReceiverDetails(new ReceiverDetails("44455566666", "김철수", "088"));
+        requestDto.setTransferPin("123456");
+        requestDto.setAmount(10_000);
+        return requestDto;
+    }
+}
@@ -0,0 +1,121 @@
+package com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.client;
+
+import com.almagest_dev.tacobank_core_server.common.exception.TestbedRequestNotSentException;
+import com.almagest_dev.tacobank_core_server.infrastructure.config.TestbedRateLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 테스트베드 호출 속도 제한 - 우선순위별 대기, 낮은 우선순위 밀어내기, 우선순위별 최대 대기 시간
+ */
+class TestbedRateLimiterTest {
+    private static final String HIGH_PATH = "/openbank/transfer";
+    private static final String NORMAL_PATH = "/openbank/account";
+    private static final String LOW_PATH = "/openbank/tranlist";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private TestbedRateLimiter testbedRateLimiter;
+
+    @AfterEach
+    void tearDown() {
+        testbedRateLimiter.shutdown();
+    }
+
+    @Test
+    void highPriorityEvictsLowestPriorityWaiterWhenQueueIsFull() {
+        testbedRateLimiter = limiter(0.001, 2, Duration.ofSeconds(10), Duration.ofSeconds(10), Duration.ofSeconds(10));
+
+        CompletableFuture<Void> low = testbedRateLimiter.acquireAsync(LOW_PATH);
+        CompletableFuture<Void> normal = testbedRateLimiter.acquireAsync(NORMAL_PATH);
+        CompletableFuture<Void> high = testbedRateLimiter.acquireAsync(HIGH_PATH);
+
+        assertRejected(low);
+        assertThat(normal).isNotDone();
+        assertThat(high).isNotDone();
+        assertThat(rejectedCount(TestbedCallPriority.LOW, "evicted")).isEqualTo(1.0);
+    }
+
+    @Test
+    void rejectsWhenQueueIsFullOfSameOrHigherPriority() {
+        testbedRateLimiter = limiter(0.001, 1, Duration.ofSeconds(10), Duration.ofSeconds(10), Duration.ofSeconds(10));
+
+        CompletableFuture<Void> high = testbedRateLimiter.acquireAsync(HIGH_PATH);
+        CompletableFuture<Void> low = testbedRateLimiter.acquireAsync(LOW_PATH);
+
+        assertRejected(low);
+        assertThat(high).isNotDone();
+        assertThat(rejectedCount(TestbedCallPriority.LOW, "queue_full")).isEqualTo(1.0);
+    }
+
+    @Test
+    void grantsHighestPriorityWaiterFirst() throws Exception {
+        testbedRateLimiter = limiter(5, 10, Duration.ofSeconds(10), Duration.ofSeconds(10), Duration.ofSeconds(10));
+
+        CompletableFuture<Void> low = testbedRateLimiter.acquireAsync(LOW_PATH);
+        CompletableFuture<Void> high = testbedRateLimiter.acquireAsync(HIGH_PATH);
+
+        high.get(2, TimeUnit.SECONDS); // 첫 Token (약 200ms 후)
+        assertThat(low).isNotDone();
+        low.get(2, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void rejectsEachPriorityAfterItsOwnMaxWait() throws Exception {
+        testbedRateLimiter = limiter(0.001, 10, Duration.ofSeconds(10), Duration.ofSeconds(10), Duration.ofMillis(100));
+
+        CompletableFuture<Void> high = testbedRateLimiter.acquireAsync(HIGH_PATH);
+        CompletableFuture<Void> low = testbedRateLimiter.acquireAsync(LOW_PATH);
+
+        assertThatThrownBy(() -> low.get(2, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(TestbedRequestNotSentException.class);
+        assertThat(high).isNotDone();
+        assertThat(rejectedCount(TestbedCallPriority.LOW, "timeout")).isEqualTo(1.0);
+        assertThat(rejectedCount(TestbedCallPriority.HIGH, "timeout")).isZero();
+    }
+
+    @Test
+    void synchronousAcquireThrowsRequestNotSent() {
+        testbedRateLimiter = limiter(0.001, 0, Duration.ofSeconds(10), Duration.ofSeconds(10), Duration.ofSeconds(10));
+
+        assertThatThrownBy(() -> testbedRateLimiter.acquire(HIGH_PATH)).isInstanceOf(TestbedRequestNotSentException.class);
+    }
+
+    /**
+     * 최대 적립 Token 1개 - 생성 직후 적립된 Token 을 사용하여 이후 호출은 대기 Queue 를 거침
+     */
+    private TestbedRateLimiter limiter(double permitsPerSecond, int maxQueueSize, Duration highMaxWait, Duration normalMaxWait, Duration lowMaxWait) {
+        TestbedRateLimitProperties properties = new TestbedRateLimitProperties();
+        properties.setBurst(1);
+        properties.setPermitsPerSecond(permitsPerSecond);
+        properties.setMaxQueueSize(maxQueueSize);
+        properties.setMaxWait(new EnumMap<>(Map.of(
+                TestbedCallPriority.HIGH, highMaxWait,
+                TestbedCallPriority.NORMAL, normalMaxWait,
+                TestbedCallPriority.LOW, lowMaxWait
+        )));
+        TestbedRateLimiter limiter = new TestbedRateLimiter(properties, meterRegistry, Runnable::run);
+        assertThat(limiter.acquireAsync(HIGH_PATH)).isCompleted();
+        return limiter;
+    }
+
+    private void assertRejected(CompletableFuture<Void> future) {
+        assertThat(future).isCompletedExceptionally();
+        assertThatThrownBy(future::join).hasCauseInstanceOf(TestbedRequestNotSentException.class);
+    }
+
+    private double rejectedCount(TestbedCallPriority priority, String reason) {
+        return meterRegistry.counter("testbed.ratelimit.rejected", "priority", priority.name(), "reason", reason).count();
+    }
+}
@@ -0,0 +1,183 @@
+package com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.client;
+
+import com.almagest_dev.tacobank_core_server.common.exception.TestbedApiException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 동일 테스트베드 요청 병합 - 동시 요청 N 개에 테스트베드 호출 1회, 예외 공유, 완료 후 Key 제거
+ */
+class TestbedSingleFlightTest {
+    private static final String PATH = "/openbank/balance";
+    private static final String KEY = "fintech-use-num-1";
+    private static final int CALLERS = 8;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private final CountDownLatch upstreamStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseUpstream = new CountDownLatch(1);
+    private final ExecutorService callers = Executors.newFixedThreadPool(CALLERS);
+    private TestbedSingleFlight testbedSingleFlight;
+
+    @BeforeEach
+    void setUp() {
+        testbedSingleFlight = new TestbedSingleFlight(meterRegistry);
+        ReflectionTestUtils.setField(testbedSingleFlight, "enabled", true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseUpstream.countDown();
+        callers.shutdownNow();
+    }
+
+    @Test
+    void concurrentCallersShareOneUpstreamCall() throws Exception {
+        Object response = new Object();
+        List<Future<Object>> results = executeConcurrently(() -> response);
+
+        for (Future<Object> result : results) {
+            assertThat(result.get(2, TimeUnit.SECONDS)).isSameAs(response);
+        }
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(roleCount("leader")).isEqualTo(1.0);
+        assertThat(roleCount("follower")).isEqualTo(CALLERS - 1);
+    }
+
+    @Test
+    void concurrentCallersShareUpstreamError() throws Exception {
+        TestbedApiException error = new TestbedApiException("테스트베드 서버 응답이 지연되고 있습니다.");
+        List<Future<Object>> results = executeConcurrently(() -> {
+            throw error;
+        });
+
+        for (Future<Object> result : results) {
+            assertThatThrownBy(() -> result.get(2, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .cause().isSameAs(error);
+        }
+        assertThat(upstreamCalls).hasValue(1);
+    }
+
+    @Test
+    void keyIsRemovedAfterCallCompletes() {
+        testbedSingleFlight.execute(PATH, KEY, upstreamCall(Object::new));
+        testbedSingleFlight.execute(PATH, KEY, upstreamCall(Object::new));
+
+        assertThat(upstreamCalls).hasValue(2);
+    }
+
+    @Test
+    void asyncCallersShareOneUpstreamFuture() throws Exception {
+        CompletableFuture<Object> upstream = new CompletableFuture<>();
+        List<CompletableFuture<Object>> results = executeAsyncRepeatedly(upstream);
+
+        assertThat(results).allSatisfy(result -> assertThat(result).isNotDone());
+        Object response = new Object();
+        upstream.complete(response);
+
+        for (CompletableFuture<Object> result : results) {
+            assertThat(result.get(2, TimeUnit.SECONDS)).isSameAs(response);
+        }
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(roleCount("follower")).isEqualTo(CALLERS - 1);
+    }
+
+    @Test
+    void asyncCallersShareUpstreamError() {
+        CompletableFuture<Object> upstream = new CompletableFuture<>();
+        List<CompletableFuture<Object>> results = executeAsyncRepeatedly(upstream);
+
+        TestbedApiException error = new TestbedApiException("테스트베드 서버 응답이 지연되고 있습니다.");
+        upstream.completeExceptionally(error);
+
+        for (CompletableFuture<Object> result : results) {
+            assertThat(result).isCompletedExceptionally();
+            assertThatThrownBy(result::join).cause().isSameAs(error);
+        }
+        assertThat(upstreamCalls).hasValue(1);
+    }
+
+    @Test
+    void asyncCancelDoesNotPropagateToOtherCallers() {
+        CompletableFuture<Object> upstream = new CompletableFuture<>();
+        List<CompletableFuture<Object>> results = executeAsyncRepeatedly(upstream);
+
+        results.get(0).cancel(true);
+        Object response = new Object();
+        upstream.complete(response);
+
+        assertThat(results.get(1).join()).isSameAs(response);
+    }
+
+    /**
+     * leader 호출이 테스트베드 응답을 대기하는 동안 나머지 요청이 모두 follower 로 합류한 후 응답
+     */
+    private List<Future<Object>> executeConcurrently(Supplier<Object> response) throws Exception {
+        List<Future<Object>> results = new ArrayList<>();
+        Supplier<Object> call = upstreamCall(() -> {
+            upstreamStarted.countDown();
+            await(releaseUpstream);
+            return response.get();
+        });
+
+        results.add(callers.submit(() -> testbedSingleFlight.execute(PATH, KEY, call)));
+        assertThat(upstreamStarted.await(2, TimeUnit.SECONDS)).isTrue();
+        for (int i = 1; i < CALLERS; i++) {
+            results.add(callers.submit(() -> testbedSingleFlight.execute(PATH, KEY, call)));
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (roleCount("follower") < CALLERS - 1 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(roleCount("follower")).isEqualTo(CALLERS - 1);
+        releaseUpstream.countDown();
+        return results;
+    }
+
+    private List<CompletableFuture<Object>> executeAsyncRepeatedly(CompletableFuture<Object> upstream) {
+        List<CompletableFuture<Object>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(testbedSingleFlight.executeAsync(PATH, KEY, upstreamCall(() -> upstream)));
+        }
+        return results;
+    }
+
+    private <R> Supplier<R> upstreamCall(Supplier<R> call) {
+        return () -> {
+            upstreamCalls.incrementAndGet();
+            return call.get();
+        };
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private double roleCount(String role) {
+        return meterRegistry.counter("testbed.singleflight", "path", PATH, "role", role).count();
+    }
+}
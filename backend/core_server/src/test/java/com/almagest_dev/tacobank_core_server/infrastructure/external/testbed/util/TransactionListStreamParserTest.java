@@ -0,0 +1,50 @@
+package com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.util;
+
+import com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.dto.TransactionDetailApiDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 거래 내역 응답 Streaming 파싱 - 응답 헤더, 페이지 크기 초과 항목 건너뜀 표시
+ */
+class TransactionListStreamParserTest {
+    private final TransactionListStreamParser transactionListStreamParser = new TransactionListStreamParser(new ObjectMapper());
+
+    @Test
+    void parsesHeaderAndItems() throws Exception {
+        TransactionListStreamParser.Page<String> page = parse("""
+                {"rspCode":"A0000","balanceAmt":"50000","nextPageYn":"Y","beforInquiryTraceInfo":"trace-1",
+                 "resList":[{"tranNum":"1","tranDate":"20261018"},{"tranNum":"2","tranDate":"20261017"}]}
+                """, 2);
+
+        assertThat(page.items()).containsExactly("1", "2");
+        assertThat(page.header().getRspCode()).isEqualTo("A0000");
+        assertThat(page.header().getBalanceAmt()).isEqualTo("50000");
+        assertThat(page.hasNext()).isTrue();
+        assertThat(page.truncated()).isFalse();
+    }
+
+    @Test
+    void marksPageTruncatedWhenItemsExceedMaxItemsWithoutNextPage() throws Exception {
+        // 테스트베드가 dataLength 를 무시하고 nextPageYn 없이 전체 응답
+        TransactionListStreamParser.Page<String> page = parse("""
+                {"rspCode":"A0000",
+                 "resList":[{"tranNum":"1"},{"tranNum":"2"},{"tranNum":"3"}],
+                 "balanceAmt":"50000"}
+                """, 2);
+
+        assertThat(page.items()).containsExactly("1", "2");
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.truncated()).isTrue();
+        assertThat(page.header().getBalanceAmt()).isEqualTo("50000"); // 건너뛴 항목 이후 필드도 읽음
+    }
+
+    private TransactionListStreamParser.Page<String> parse(String json, int maxItems) throws Exception {
+        return transactionListStreamParser.parse(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), TransactionDetailApiDto::getTranNum, maxItems);
+    }
+}
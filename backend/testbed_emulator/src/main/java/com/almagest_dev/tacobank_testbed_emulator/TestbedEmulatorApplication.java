@@ -0,0 +1,15 @@
+package com.almagest_dev.tacobank_testbed_emulator;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+
+@SpringBootApplication
+@ConfigurationPropertiesScan
+public class TestbedEmulatorApplication {
+
+	public static void main(String[] args) {
+		SpringApplication.run(TestbedEmulatorApplication.class, args);
+	}
+
+}
@@ -0,0 +1,327 @@
+package com.almagest_dev.tacobank_testbed_emulator.application.service;
+
+import com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.dto.*;
+import com.almagest_dev.tacobank_testbed_emulator.domain.ledger.EmulatedAccount;
+import com.almagest_dev.tacobank_testbed_emulator.domain.ledger.EmulatedLedger;
+import com.almagest_dev.tacobank_testbed_emulator.domain.ledger.LedgerEntry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 오픈뱅킹 API 응답 생성 (core_server 테스트베드 DTO 사용)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OpenBankService {
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter DTM = DateTimeFormatter.ofPattern("yyyyMMddHHmmssSSS");
+    private static final String SUCCESS = "A0000";
+
+    private final EmulatedLedger ledger;
+
+    private final Map<String, TransferApiResponseDto> transferResults = new ConcurrentHashMap<>(); // key: bankTranId (재기동시 초기화)
+
+    /**
+     * 계좌 통합 조회 (/openbank/accounts)
+     */
+    public IntegrateAccountApiResponseDto getAccounts(IntegrateAccountApiRequestDto request) {
+        IntegrateAccountApiResponseDto response = new IntegrateAccountApiResponseDto();
+        response.setApiTranId(ledger.nextApiTranId());
+        response.setApiTranDtm(now());
+        response.setUserFinanceId(request.getUserFinanceId());
+        response.setInquiryBankType(request.getInquiryBankType());
+        response.setTraceNo(request.getTraceNo());
+
+        if (isBlank(request.getUserFinanceId())) {
+            return fail(response, "A0001", "사용자 금융 식별번호가 없습니다.");
+        }
+
+        List<AccountInfoDto> resList = ledger.accountsOf(request.getUserFinanceId(), request.getUserName()).stream()
+                .map(this::toAccountInfo)
+                .toList();
+        response.setRspCode(SUCCESS);
+        response.setRspMessage("");
+        response.setRspType("A");
+        response.setResList(resList);
+        return response;
+    }
+
+    /**
+     * 잔액 조회 (/openbank/account)
+     */
+    public BalanceInquiryApiResponseDto getBalance(BalanceInquiryApiRequestDto request) {
+        BalanceInquiryApiResponseDto response = new BalanceInquiryApiResponseDto();
+        response.setApiTranId(ledger.nextApiTranId());
+        response.setApiTranDtm(now());
+
+        if (isBlank(request.getFintechUseNum())) {
+            response.setRspCode("A0001");
+            response.setRspMessage("핀테크 이용번호가 없습니다.");
+            return response;
+        }
+
+        EmulatedAccount account = ledger.findByFintechUseNum(request.getFintechUseNum());
+        String balance = String.valueOf(account.getBalance());
+        response.setRspCode(SUCCESS);
+        response.setRspMessage("");
+        response.setBankCodeTran(account.getBankCode());
+        response.setBankName(account.getBankName());
+        response.setFintechUseNum(account.getFintechUseNum());
+        response.setBalanceAmt(balance);
+        response.setAvailableAmt(balance);
+        response.setAccountType("1");
+        response.setProductName(account.getProductName());
+        response.setAccountIssueDate(account.getAccountIssueDate());
+
+        BalanceInquiryApiResponseDto.AccountInfo accountInfo = new BalanceInquiryApiResponseDto.AccountInfo();
+        accountInfo.setFintechUseNum(account.getFintechUseNum());
+        accountInfo.setBankCodeStd(account.getBankCode());
+        accountInfo.setAccountNum(account.getAccountNum());
+        accountInfo.setAccountType("1");
+        accountInfo.setProductName(account.getProductName());
+        accountInfo.setAccountIssueDate(account.getAccountIssueDate());
+        accountInfo.setDormancyYn("N");
+        accountInfo.setBalanceAmt(balance);
+        response.setAccountInfo(accountInfo);
+        return response;
+    }
+
+    /**
+     * 거래 내역 조회 (/openbank/tranlist)
+     *  - sortOrder: D(최신순) | A(과거순), dataLength: 페이지 크기 (숫자가 아니면 전체)
+     *  - 다음 페이지가 있으면 nextPageYn=Y, 다음 요청의 beforInquiryTraceInfo 로 전달할 값 반환
+     */
+    public TransactionListApiResponseDto getTransactions(TransactionListApiRequestDto request) {
+        TransactionListApiResponseDto response = new TransactionListApiResponseDto();
+        response.setApiTranDtm(now());
+
+        LocalDate fromDate;
+        LocalDate toDate;
+        try {
+            fromDate = LocalDate.parse(request.getFromDate(), DATE);
+            toDate = LocalDate.parse(request.getToDate(), DATE);
+        } catch (DateTimeParseException | NullPointerException e) {
+            response.setRspCode("A0001");
+            response.setRspMessage("조회 기간이 올바르지 않습니다.");
+            return response;
+        }
+
+        EmulatedAccount account = ledger.findByFintechUseNum(request.getFintechUseNum());
+        List<LedgerEntry> entries = new ArrayList<>(ledger.history(account, fromDate, toDate));
+        if (!"A".equals(request.getSortOrder())) {
+            Collections.reverse(entries);
+        }
+        // 페이지 조회: dataLength = 페이지 크기, beforInquiryTraceInfo = 이전 페이지까지 조회한 건수
+        int limit = parseLimit(request.getDataLength());
+        int offset = Math.min(Math.max(parseLimit(request.getBeforInquiryTraceInfo()), 0), entries.size());
+        boolean hasNextPage = limit > 0 && entries.size() > offset + limit;
+        entries = entries.subList(offset, limit > 0 ? Math.min(entries.size(), offset + limit) : entries.size());
+        response.setNextPageYn(hasNextPage ? "Y" : "N");
+        response.setBeforInquiryTraceInfo(hasNextPage ? String.valueOf(offset + entries.size()) : null);
+
+        response.setTranNum(ledger.nextApiTranId());
+        response.setRspCode(SUCCESS);
+        response.setRspMessage("");
+        response.setBankCodeTran(account.getBankCode());
+        response.setBankName(account.getBankName());
+        response.setFintechUseNum(account.getFintechUseNum());
+        response.setBalanceAmt(String.valueOf(account.getBalance()));
+        response.setResList(entries.stream().map(this::toTransactionDetail).toList());
+        return response;
+    }
+
+    /**
+     * 수취인 조회 (/openbank/recipient)
+     */
+    public ReceiverInquiryApiResponseDto inquireReceiver(ReceiverInquiryApiRequestDto request) {
+        ReceiverInquiryApiResponseDto response = new ReceiverInquiryApiResponseDto();
+        response.setApiTranId(ledger.nextApiTranId());
+        response.setApiTranDtm(now());
+
+        if (isBlank(request.getBankCodeStd()) || isBlank(request.getAccountNum())) {
+            response.setRspCode("A0001");
+            response.setRspMessage("입금 계좌 정보가 없습니다.");
+            return response;
+        }
+
+        EmulatedAccount receiver = ledger.findByAccountNum(request.getBankCodeStd(), request.getAccountNum());
+        EmulatedAccount withdrawal = isBlank(request.getReqFintechUseNum()) ? null : ledger.findByFintechUseNum(request.getReqFintechUseNum());
+
+        response.setRspCode(SUCCESS);
+        response.setRspMessage("");
+        response.setBankCodeStd(receiver.getBankCode());
+        response.setBankName(receiver.getBankName());
+        response.setAccountNum(receiver.getAccountNum());
+        response.setAccountNumMasked(mask(receiver.getAccountNum()));
+        response.setPrintContent(request.getPrintContent());
+        response.setAccountHolderName(receiver.getAccountHolder());
+        response.setRecvAccountFintechUseNum(receiver.getFintechUseNum());
+        response.setTranAmt(request.getTranAmt());
+        if (withdrawal != null) {
+            response.setWdBankCodeStd(withdrawal.getBankCode());
+            response.setWdBankName(withdrawal.getBankName());
+            response.setWdAccountNum(withdrawal.getAccountNum());
+        }
+        return response;
+    }
+
+    /**
+     * 송금 (/openbank/transfer)
+     *  - 같은 bankTranId 로 다시 요청하면 송금하지 않고 처음 결과 반환
+     */
+    public TransferApiResponseDto transfer(TransferApiRequestDto request) {
+        if (isBlank(request.getBankTranId())) {
+            return executeTransfer(request);
+        }
+        return transferResults.computeIfAbsent(request.getBankTranId(), bankTranId -> executeTransfer(request));
+    }
+
+    /**
+     * 송금 결과 조회 (/openbank/transfer/result)
+     *  - bankTranId 로 송금 요청 내역 조회, 없으면 A0004
+     */
+    public TransferResultApiResponseDto getTransferResult(TransferResultApiRequestDto request) {
+        TransferResultApiResponseDto response = new TransferResultApiResponseDto();
+        response.setApiTranId(ledger.nextApiTranId());
+        response.setApiTranDtm(now());
+        response.setBankTranId(request.getBankTranId());
+        response.setFintechUseNum(request.getFintechUseNum());
+        response.setTranAmt(request.getTranAmt());
+
+        TransferApiResponseDto transfer = isBlank(request.getBankTranId()) ? null : transferResults.get(request.getBankTranId());
+        if (transfer == null) {
+            response.setRspCode("A0004");
+            response.setRspMessage("송금 요청 내역이 없습니다.");
+            return response;
+        }
+
+        response.setRspCode(SUCCESS);
+        response.setRspMessage("");
+        response.setApiTranId(transfer.getApiTranId());
+        response.setApiTranDtm(transfer.getApiTranDtm());
+        response.setTranResult(SUCCESS.equals(transfer.getRspCode()) ? "S" : "F");
+        response.setTranRspCode(transfer.getRspCode());
+        response.setTranRspMessage(transfer.getRspMessage());
+        response.setTranAmt(transfer.getTranAmt());
+        return response;
+    }
+
+    private TransferApiResponseDto executeTransfer(TransferApiRequestDto request) {
+        TransferApiResponseDto response = new TransferApiResponseDto();
+        response.setApiTranId(ledger.nextApiTranId());
+        response.setApiTranDtm(now());
+        response.setTranAmt(request.getTranAmt());
+        response.setFintechUseNum(request.getFintechUseNum());
+
+        long amount;
+        try {
+            amount = Long.parseLong(request.getTranAmt());
+        } catch (NumberFormatException e) {
+            amount = -1;
+        }
+        if (amount <= 0 || isBlank(request.getFintechUseNum())) {
+            response.setRspCode("A0001");
+            response.setRspMessage("송금 요청 정보가 올바르지 않습니다.");
+            return response;
+        }
+
+        EmulatedAccount from = ledger.findByFintechUseNum(request.getFintechUseNum());
+        EmulatedAccount to = !isBlank(request.getRecvAccountFintechUseNum())
+                ? ledger.findByFintechUseNum(request.getRecvAccountFintechUseNum())
+                : ledger.findByAccountNum(request.getRecvClientBankCode(), request.getRecvClientAccountNum());
+
+        response.setBankCodeStd(from.getBankCode());
+        response.setBankName(from.getBankName());
+        response.setAccountNumMasked(mask(from.getAccountNum()));
+        response.setAccountHolderName(from.getAccountHolder());
+        response.setPrintContent(request.getWdPrintContent());
+        response.setDpsAccountHolderName(to.getAccountHolder());
+        response.setDpsBankCodeStd(to.getBankCode());
+        response.setDpsBankName(to.getBankName());
+        response.setDpsAccountNumMasked(mask(to.getAccountNum()));
+        response.setDpsPrintContent(request.getDpsPrintContent());
+
+        if (!ledger.transfer(from, to, amount, request.getWdPrintContent(), request.getDpsPrintContent())) {
+            response.setRspCode("A0003");
+            response.setRspMessage("잔액이 부족합니다.");
+            response.setTranResult("F");
+            return response;
+        }
+
+        log.info("OpenBankService::transfer 송금 완료 - {} -> {}, {}원", from.getFintechUseNum(), to.getFintechUseNum(), amount);
+        response.setRspCode(SUCCESS);
+        response.setRspMessage("");
+        response.setTranResult("S");
+        return response;
+    }
+
+    private AccountInfoDto toAccountInfo(EmulatedAccount account) {
+        AccountInfoDto dto = new AccountInfoDto();
+        dto.setBankCodeStd(account.getBankCode());
+        dto.setFintechUseNum(account.getFintechUseNum());
+        dto.setActivityType("A");
+        dto.setAccountType("1");
+        dto.setAccountNum(account.getAccountNum());
+        dto.setAccountSeq("001");
+        dto.setAccountIssueDate(account.getAccountIssueDate());
+        dto.setProductName(account.getProductName());
+        dto.setDormancyYn("N");
+        dto.setBalanceAmt(String.valueOf(account.getBalance()));
+        dto.setAccountHolder(account.getAccountHolder());
+        return dto;
+    }
+
+    private TransactionDetailApiDto toTransactionDetail(LedgerEntry entry) {
+        TransactionDetailApiDto dto = new TransactionDetailApiDto();
+        dto.setTranDate(entry.tranDate());
+        dto.setTranTime(entry.tranTime());
+        dto.setInoutType(entry.inoutType());
+        dto.setTranType(entry.tranType());
+        dto.setPrintContent(entry.printContent());
+        dto.setTranAmt(String.valueOf(entry.tranAmt()));
+        dto.setTranNum(entry.tranNum());
+        dto.setAfterBalanceAmt(String.valueOf(entry.afterBalance()));
+        return dto;
+    }
+
+    private IntegrateAccountApiResponseDto fail(IntegrateAccountApiResponseDto response, String rspCode, String rspMessage) {
+        response.setRspCode(rspCode);
+        response.setRspMessage(rspMessage);
+        return response;
+    }
+
+    private int parseLimit(String dataLength) {
+        try {
+            return Integer.parseInt(dataLength);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private String mask(String accountNum) {
+        if (accountNum == null || accountNum.length() < 4) {
+            return accountNum;
+        }
+        return accountNum.substring(0, accountNum.length() - 3) + "***";
+    }
+
+    private boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private String now() {
+        return LocalDateTime.now().format(DTM);
+    }
+}
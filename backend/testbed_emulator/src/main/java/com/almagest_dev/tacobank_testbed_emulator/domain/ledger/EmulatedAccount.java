@@ -0,0 +1,68 @@
+package com.almagest_dev.tacobank_testbed_emulator.domain.ledger;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 에뮬레이터 계좌
+ *  - 잔액 변경과 송금 거래 기록은 계좌 단위로 동기화
+ */
+@Getter
+public class EmulatedAccount {
+    private final String userFinanceId;
+    private final String fintechUseNum;
+    private final String bankCode;
+    private final String bankName;
+    private final String accountNum;
+    private final String accountHolder;
+    private final String productName;
+    private final String accountIssueDate;
+    private final long seed;            // 합성 거래 내역 생성용
+
+    private long balance;
+    private final List<LedgerEntry> entries = new ArrayList<>(); // 송금으로 발생한 거래
+
+    public EmulatedAccount(String userFinanceId, String fintechUseNum, String bankCode, String bankName, String accountNum,
+                           String accountHolder, String productName, String accountIssueDate, long seed, long balance) {
+        this.userFinanceId = userFinanceId;
+        this.fintechUseNum = fintechUseNum;
+        this.bankCode = bankCode;
+        this.bankName = bankName;
+        this.accountNum = accountNum;
+        this.accountHolder = accountHolder;
+        this.productName = productName;
+        this.accountIssueDate = accountIssueDate;
+        this.seed = seed;
+        this.balance = balance;
+    }
+
+    public synchronized long getBalance() {
+        return balance;
+    }
+
+    /**
+     * 출금 - 잔액 부족 시 false
+     */
+    public synchronized boolean withdraw(long amount, LedgerEntry entry) {
+        if (balance < amount) {
+            return false;
+        }
+        balance -= amount;
+        entries.add(entry.withAfterBalance(balance));
+        return true;
+    }
+
+    /**
+     * 입금
+     */
+    public synchronized void deposit(long amount, LedgerEntry entry) {
+        balance += amount;
+        entries.add(entry.withAfterBalance(balance));
+    }
+
+    public synchronized List<LedgerEntry> snapshotEntries() {
+        return List.copyOf(entries);
+    }
+}
@@ -0,0 +1,226 @@
+package com.almagest_dev.tacobank_testbed_emulator.domain.ledger;
+
+import com.almagest_dev.tacobank_testbed_emulator.infrastructure.config.EmulatorProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 에뮬레이터 계좌/거래 원장 (메모리)
+ *  - 계좌와 기동 이전 거래 내역은 seed + 사용자/계좌 식별값으로 결정적으로 생성 (재기동해도 동일)
+ *  - 기동 이후 송금은 메모리 원장에 반영 (재기동시 초기화)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmulatedLedger {
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("HHmmss");
+    private static final int MAX_SYNTHETIC_DAYS = 366 * 3; // 합성 거래 내역 최대 생성 기간
+
+    private static final String[][] BANKS = {
+            {"004", "KB국민은행"}, {"088", "신한은행"}, {"020", "우리은행"}, {"081", "하나은행"},
+            {"011", "NH농협은행"}, {"090", "카카오뱅크"}, {"092", "토스뱅크"}
+    };
+    private static final String[] PRODUCTS = {"자유입출금 통장", "급여 통장", "생활비 통장", "모임 통장", "저축예금"};
+    private static final String[] NAMES = {"김민준", "이서연", "박도윤", "최하윤", "정시우", "강지유", "조서준", "윤하은", "장예준", "임수아"};
+    private static final String[] WITHDRAW_CONTENTS = {"편의점", "카페", "온라인쇼핑", "교통카드", "식당", "관리비", "통신요금", "타코 송금"};
+    private static final String[] DEPOSIT_CONTENTS = {"급여", "이자", "환불", "용돈", "타코 입금", "중고거래"};
+
+    private final EmulatorProperties properties;
+
+    private final Map<String, List<EmulatedAccount>> accountsByUser = new ConcurrentHashMap<>();
+    private final Map<String, EmulatedAccount> accountsByFintechUseNum = new ConcurrentHashMap<>();
+    private final Map<String, EmulatedAccount> accountsByAccountNum = new ConcurrentHashMap<>(); // key: bankCode:accountNum
+    private final AtomicLong tranSeq = new AtomicLong();
+    private final LocalDate openedDate = LocalDate.now(); // 이 날짜부터의 거래는 송금으로만 발생
+
+    /**
+     * 사용자 계좌 목록
+     */
+    public List<EmulatedAccount> accountsOf(String userFinanceId, String userName) {
+        return accountsByUser.computeIfAbsent(userFinanceId, id -> {
+            Random random = random(id);
+            String holder = userName != null && !userName.isBlank() ? userName : NAMES[random.nextInt(NAMES.length)];
+            List<EmulatedAccount> accounts = new ArrayList<>();
+            for (int i = 0; i < properties.getAccountsPerUser(); i++) {
+                String[] bank = BANKS[random.nextInt(BANKS.length)];
+                String fintechUseNum = fintechUseNum(id + ":" + i);
+                accounts.add(register(new EmulatedAccount(
+                        id,
+                        fintechUseNum,
+                        bank[0],
+                        bank[1],
+                        accountNum(random),
+                        holder,
+                        PRODUCTS[random.nextInt(PRODUCTS.length)],
+                        openedDate.minusDays(400 + random.nextInt(2000)).format(DATE),
+                        random.nextLong(),
+                        (100 + random.nextInt(9900)) * 1_000L
+                )));
+            }
+            return List.copyOf(accounts);
+        });
+    }
+
+    /**
+     * 핀테크 이용번호로 계좌 조회 - 없으면 해당 번호로 계좌 생성
+     */
+    public EmulatedAccount findByFintechUseNum(String fintechUseNum) {
+        return accountsByFintechUseNum.computeIfAbsent(fintechUseNum, num -> {
+            Random random = random(num);
+            String[] bank = BANKS[random.nextInt(BANKS.length)];
+            return indexAccountNum(new EmulatedAccount(
+                    null, num, bank[0], bank[1], accountNum(random), NAMES[random.nextInt(NAMES.length)],
+                    PRODUCTS[random.nextInt(PRODUCTS.length)], openedDate.minusDays(400).format(DATE),
+                    random.nextLong(), (100 + random.nextInt(9900)) * 1_000L
+            ));
+        });
+    }
+
+    /**
+     * 은행 코드 + 계좌번호로 계좌 조회 - 없으면 수취 계좌로 생성
+     */
+    public EmulatedAccount findByAccountNum(String bankCode, String accountNum) {
+        return accountsByAccountNum.computeIfAbsent(bankCode + ":" + accountNum, key -> {
+            Random random = random(key);
+            String bankName = Arrays.stream(BANKS).filter(bank -> bank[0].equals(bankCode)).map(bank -> bank[1]).findFirst().orElse("기타은행");
+            EmulatedAccount account = new EmulatedAccount(
+                    null, fintechUseNum(key), bankCode, bankName, accountNum, NAMES[random.nextInt(NAMES.length)],
+                    PRODUCTS[random.nextInt(PRODUCTS.length)], openedDate.minusDays(400).format(DATE),
+                    random.nextLong(), (100 + random.nextInt(9900)) * 1_000L
+            );
+            accountsByFintechUseNum.putIfAbsent(account.getFintechUseNum(), account);
+            return account;
+        });
+    }
+
+    /**
+     * 송금 - 출금 계좌 잔액 부족 시 false
+     */
+    public boolean transfer(EmulatedAccount from, EmulatedAccount to, long amount, String wdPrintContent, String dpsPrintContent) {
+        LocalDateTime now = LocalDateTime.now();
+        String tranNum = nextTranNum();
+        LedgerEntry withdrawal = new LedgerEntry(now.format(DATE), now.format(TIME), "출금", "송금",
+                Objects.requireNonNullElse(wdPrintContent, to.getAccountHolder()), amount, tranNum, 0);
+        if (!from.withdraw(amount, withdrawal)) {
+            return false;
+        }
+        LedgerEntry deposit = new LedgerEntry(now.format(DATE), now.format(TIME), "입금", "송금",
+                Objects.requireNonNullElse(dpsPrintContent, from.getAccountHolder()), amount, tranNum, 0);
+        to.deposit(amount, deposit);
+        return true;
+    }
+
+    /**
+     * 기간 거래 내역 (오름차순)
+     *  - 기동 이전: 일자별 합성 거래 (계좌 seed + 일자로 결정)
+     *  - 기동 이후: 송금 거래
+     */
+    public List<LedgerEntry> history(EmulatedAccount account, LocalDate fromDate, LocalDate toDate) {
+        List<LedgerEntry> result = new ArrayList<>();
+
+        LocalDate syntheticEnd = openedDate.minusDays(1);
+        if (!fromDate.isAfter(syntheticEnd)) {
+            LocalDate syntheticStart = fromDate.isBefore(syntheticEnd.minusDays(MAX_SYNTHETIC_DAYS))
+                    ? syntheticEnd.minusDays(MAX_SYNTHETIC_DAYS) : fromDate;
+            List<LedgerEntry> synthetic = synthesize(account, syntheticStart, syntheticEnd);
+            synthetic.stream()
+                    .filter(entry -> entry.tranDate().compareTo(toDate.format(DATE)) <= 0)
+                    .forEach(result::add);
+        }
+
+        String from = fromDate.format(DATE);
+        String to = toDate.format(DATE);
+        account.snapshotEntries().stream()
+                .filter(entry -> entry.tranDate().compareTo(from) >= 0 && entry.tranDate().compareTo(to) <= 0)
+                .forEach(result::add);
+        return result;
+    }
+
+    public String nextApiTranId() {
+        return "EMU" + String.format("%017d", tranSeq.incrementAndGet());
+    }
+
+    /**
+     * 합성 거래 생성
+     *  - 기동 시점 잔액(초기 잔액)에서 역산하여 거래 후 잔액 계산
+     */
+    private List<LedgerEntry> synthesize(EmulatedAccount account, LocalDate start, LocalDate end) {
+        List<LedgerEntry> entries = new ArrayList<>();
+        for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+            Random random = new Random(account.getSeed() ^ (date.toEpochDay() * 0x9E3779B97F4A7C15L));
+            int count = random.nextInt(3);
+            for (int i = 0; i < count; i++) {
+                boolean withdrawal = random.nextInt(10) < 6;
+                String[] contents = withdrawal ? WITHDRAW_CONTENTS : DEPOSIT_CONTENTS;
+                String time = String.format("%02d%02d%02d", 8 + random.nextInt(14), random.nextInt(60), random.nextInt(60));
+                entries.add(new LedgerEntry(
+                        date.format(DATE),
+                        time,
+                        withdrawal ? "출금" : "입금",
+                        withdrawal ? "체크카드" : "입금",
+                        contents[random.nextInt(contents.length)],
+                        (10 + random.nextInt(1990)) * 100L,
+                        date.format(DATE) + String.format("%04d", i),
+                        0
+                ));
+            }
+        }
+        entries.sort(Comparator.comparing(LedgerEntry::sortKey));
+
+        // 최신 거래부터 역산
+        long after = syntheticOpeningBalance(account);
+        for (int i = entries.size() - 1; i >= 0; i--) {
+            LedgerEntry entry = entries.get(i);
+            entries.set(i, entry.withAfterBalance(after));
+            after = "출금".equals(entry.inoutType()) ? after + entry.tranAmt() : Math.max(0, after - entry.tranAmt());
+        }
+        return entries;
+    }
+
+    /**
+     * 합성 구간 마지막 일자의 잔액 = 기동 시점 잔액 (송금 반영 전)
+     */
+    private long syntheticOpeningBalance(EmulatedAccount account) {
+        long balance = account.getBalance();
+        for (LedgerEntry entry : account.snapshotEntries()) {
+            balance += "출금".equals(entry.inoutType()) ? entry.tranAmt() : -entry.tranAmt();
+        }
+        return balance;
+    }
+
+    private EmulatedAccount register(EmulatedAccount account) {
+        accountsByFintechUseNum.put(account.getFintechUseNum(), account);
+        return indexAccountNum(account);
+    }
+
+    private EmulatedAccount indexAccountNum(EmulatedAccount account) {
+        accountsByAccountNum.putIfAbsent(account.getBankCode() + ":" + account.getAccountNum(), account);
+        return account;
+    }
+
+    private Random random(String key) {
+        return new Random(properties.getSeed() ^ key.hashCode() * 0x5DEECE66DL);
+    }
+
+    private String fintechUseNum(String key) {
+        Random random = random("fintech:" + key);
+        return "120" + String.format("%09d", random.nextInt(1_000_000_000)) + String.format("%012d", Math.floorMod(random.nextLong(), 1_000_000_000_000L));
+    }
+
+    private String accountNum(Random random) {
+        return String.format("%03d%03d%06d", random.nextInt(1000), random.nextInt(1000), random.nextInt(1_000_000));
+    }
+
+    private String nextTranNum() {
+        return "T" + LocalDate.now().format(DATE) + String.format("%08d", tranSeq.incrementAndGet());
+    }
+}
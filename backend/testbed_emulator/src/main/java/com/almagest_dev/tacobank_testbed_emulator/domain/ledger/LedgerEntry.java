@@ -0,0 +1,24 @@
+package com.almagest_dev.tacobank_testbed_emulator.domain.ledger;
+
+/**
+ * 계좌 거래 1건
+ * @param inoutType 입금 | 출금
+ */
+public record LedgerEntry(
+        String tranDate,
+        String tranTime,
+        String inoutType,
+        String tranType,
+        String printContent,
+        long tranAmt,
+        String tranNum,
+        long afterBalance
+) {
+    public LedgerEntry withAfterBalance(long afterBalance) {
+        return new LedgerEntry(tranDate, tranTime, inoutType, tranType, printContent, tranAmt, tranNum, afterBalance);
+    }
+
+    public String sortKey() {
+        return tranDate + tranTime + tranNum;
+    }
+}
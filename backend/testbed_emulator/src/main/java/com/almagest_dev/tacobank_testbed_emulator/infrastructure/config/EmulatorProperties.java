@@ -0,0 +1,48 @@
+package com.almagest_dev.tacobank_testbed_emulator.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 테스트베드 에뮬레이터 설정 (emulator.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties("emulator")
+public class EmulatorProperties {
+    private long seed = 20241201L;                          // 합성 데이터 seed
+    private int accountsPerUser = 3;                        // 사용자별 계좌 수
+    private FaultProfile defaultFault = new FaultProfile(); // 기본 지연/오류 설정
+    private Map<String, FaultProfile> faults = new HashMap<>(); // 경로별 지연/오류 설정 (key: /openbank/tranlist 등)
+
+    /**
+     * 경로별 설정 조회 - 없으면 기본 설정
+     */
+    public FaultProfile resolveFault(String path) {
+        return faults.entrySet().stream()
+                .filter(entry -> path.endsWith(entry.getKey()))
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElse(defaultFault);
+    }
+
+    @Getter
+    @Setter
+    public static class FaultProfile {
+        private LatencyDistribution distribution = LatencyDistribution.FIXED;
+        private Duration median = Duration.ZERO;    // 지연 중앙값 (uniform: 0 ~ 2 * median)
+        private double sigma = 0.5;                 // log-normal 분산 정도
+        private Duration max = Duration.ofSeconds(2); // 최대 지연
+        private double errorRate = 0.0;             // 오류 응답 비율 (0.0 ~ 1.0)
+        private int errorStatus = 500;              // 오류 응답 HTTP 상태 코드
+    }
+
+    public enum LatencyDistribution {
+        FIXED, UNIFORM, LOG_NORMAL
+    }
+}
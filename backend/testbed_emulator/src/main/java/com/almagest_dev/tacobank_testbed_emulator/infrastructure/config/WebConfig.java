@@ -0,0 +1,18 @@
+package com.almagest_dev.tacobank_testbed_emulator.infrastructure.config;
+
+import com.almagest_dev.tacobank_testbed_emulator.infrastructure.fault.FaultInjectionInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+    private final FaultInjectionInterceptor faultInjectionInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(faultInjectionInterceptor).addPathPatterns("/openbank/**");
+    }
+}
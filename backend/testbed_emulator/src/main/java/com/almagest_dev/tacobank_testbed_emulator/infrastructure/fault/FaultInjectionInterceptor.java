@@ -0,0 +1,62 @@
+package com.almagest_dev.tacobank_testbed_emulator.infrastructure.fault;
+
+import com.almagest_dev.tacobank_testbed_emulator.infrastructure.config.EmulatorProperties;
+import com.almagest_dev.tacobank_testbed_emulator.infrastructure.config.EmulatorProperties.FaultProfile;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 지연/오류 주입
+ *  - 경로별 분포(fixed, uniform, log-normal)에 따라 응답 전 지연
+ *  - error-rate 비율만큼 error-status 로 실패 응답 (컨트롤러 미실행)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FaultInjectionInterceptor implements HandlerInterceptor {
+    private final EmulatorProperties properties;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+        FaultProfile fault = properties.resolveFault(request.getRequestURI());
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        long delayMs = delayMillis(fault, random);
+        if (delayMs > 0) {
+            Thread.sleep(delayMs);
+        }
+
+        if (fault.getErrorRate() > 0 && random.nextDouble() < fault.getErrorRate()) {
+            log.info("FaultInjectionInterceptor::preHandle 오류 주입 - path: {}, status: {}", request.getRequestURI(), fault.getErrorStatus());
+            response.setStatus(fault.getErrorStatus());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            response.getWriter().write("{\"rspCode\":\"A0007\",\"rspMessage\":\"처리 시간 초과 또는 시스템 오류 (에뮬레이터 오류 주입)\"}");
+            return false;
+        }
+        return true;
+    }
+
+    private long delayMillis(FaultProfile fault, ThreadLocalRandom random) {
+        long median = fault.getMedian().toMillis();
+        long max = fault.getMax().toMillis();
+        if (median <= 0) {
+            return 0;
+        }
+
+        double delay = switch (fault.getDistribution()) {
+            case FIXED -> median;
+            case UNIFORM -> random.nextDouble(0, 2.0 * median);
+            case LOG_NORMAL -> median * Math.exp(fault.getSigma() * random.nextGaussian());
+        };
+        return Math.min((long) delay, max);
+    }
+}
@@ -0,0 +1,50 @@
+package com.almagest_dev.tacobank_testbed_emulator.presentation.controller;
+
+import com.almagest_dev.tacobank_core_server.infrastructure.external.testbed.dto.*;
+import com.almagest_dev.tacobank_testbed_emulator.application.service.OpenBankService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 테스트베드 오픈뱅킹 API 에뮬레이터
+ *  - 지연/오류 주입은 FaultInjectionInterceptor 에서 처리
+ */
+@RestController
+@RequestMapping("/openbank")
+@RequiredArgsConstructor
+public class OpenBankController {
+    private final OpenBankService openBankService;
+
+    @PostMapping("/accounts")
+    public IntegrateAccountApiResponseDto getAccounts(@RequestBody IntegrateAccountApiRequestDto requestDto) {
+        return openBankService.getAccounts(requestDto);
+    }
+
+    @PostMapping("/account")
+    public BalanceInquiryApiResponseDto getBalance(@RequestBody BalanceInquiryApiRequestDto requestDto) {
+        return openBankService.getBalance(requestDto);
+    }
+
+    @PostMapping("/tranlist")
+    public TransactionListApiResponseDto getTransactions(@RequestBody TransactionListApiRequestDto requestDto) {
+        return openBankService.getTransactions(requestDto);
+    }
+
+    @PostMapping("/recipient")
+    public ReceiverInquiryApiResponseDto inquireReceiver(@RequestBody ReceiverInquiryApiRequestDto requestDto) {
+        return openBankService.inquireReceiver(requestDto);
+    }
+
+    @PostMapping("/transfer")
+    public TransferApiResponseDto transfer(@RequestBody TransferApiRequestDto requestDto) {
+        return openBankService.transfer(requestDto);
+    }
+
+    @PostMapping("/transfer/result")
+    public TransferResultApiResponseDto getTransferResult(@RequestBody TransferResultApiRequestDto requestDto) {
+        return openBankService.getTransferResult(requestDto);
+    }
+}